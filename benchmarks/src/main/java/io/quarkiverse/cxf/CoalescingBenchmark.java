@@ -0,0 +1,89 @@
+package io.quarkiverse.cxf;
+
+import java.util.Collections;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Invokes an operation of a backend answering after a fixed latency from many threads at once, choosing each request
+ * among {@code distinctRequests} payloads:
+ * <ul>
+ * <li>{@code direct} sends every request to the backend,</li>
+ * <li>{@code coalesced} goes through a {@link CxfRequestCoalescer}, sharing the requests in flight.</li>
+ * </ul>
+ * The {@code backendCalls} counter is the rate of requests the backend got, to compare with the rate of invocations.
+ * This benchmark is in the package of the coalescer to drive it without a client.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.util.logging.manager=org.jboss.logmanager.LogManager")
+@Threads(32)
+public class CoalescingBenchmark {
+
+    private static final String OPERATION = "echo";
+
+    @State(Scope.Benchmark)
+    public static class Backend {
+        @Param({ "1", "16", "256" })
+        int distinctRequests;
+
+        @Param({ "5" })
+        long latencyMillis;
+
+        CxfRequestCoalescer coalescer;
+        String[] keys;
+
+        @Setup(Level.Trial)
+        public void create() {
+            coalescer = new CxfRequestCoalescer(Collections.singletonList(OPERATION));
+            keys = new String[distinctRequests];
+            for (int i = 0; i < distinctRequests; i++) {
+                keys[i] = OPERATION + ':' + i;
+            }
+        }
+
+        String nextKey() {
+            return keys[ThreadLocalRandom.current().nextInt(keys.length)];
+        }
+
+        Object[] call(Calls calls, String key) throws InterruptedException {
+            calls.backendCalls++;
+            Thread.sleep(latencyMillis);
+            return new Object[] { key };
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Calls {
+        public long backendCalls;
+    }
+
+    @Benchmark
+    public Object[] direct(Backend backend, Calls calls) throws Exception {
+        return backend.call(calls, backend.nextKey());
+    }
+
+    @Benchmark
+    public Object[] coalesced(Backend backend, Calls calls) throws Exception {
+        String key = backend.nextKey();
+        return backend.coalescer.invoke(key, null, () -> backend.call(calls, key));
+    }
+}
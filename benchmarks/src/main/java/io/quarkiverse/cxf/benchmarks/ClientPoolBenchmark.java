@@ -0,0 +1,138 @@
+package io.quarkiverse.cxf.benchmarks;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.cxf.Bus;
+import org.apache.cxf.BusFactory;
+import org.apache.cxf.jaxws.JaxWsProxyFactoryBean;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkiverse.cxf.CxfClientPool;
+
+/**
+ * Invokes {@code ping} of a local endpoint answering after {@code latencyMicros} through CXF clients, from
+ * {@code threads} threads at once:
+ * <ul>
+ * <li>{@code pooled} goes through a client using the pooled concurrency mode with {@code poolSize} proxies,</li>
+ * <li>{@code shared} goes through a single proxy used by all the threads, as with the shared concurrency mode.</li>
+ * </ul>
+ * Each invocation of a benchmark sends a request from each of the threads and waits for all the responses, so the
+ * {@code invocations} counter is the rate of requests. Throughput grows with the pool size until the pool has as many
+ * proxies as there are threads.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Djava.util.logging.manager=org.jboss.logmanager.LogManager",
+        // keeps a connection of each thread alive rather than the 5 of the JDK by default
+        "-Dhttp.maxConnections=64",
+        // sends each response at once rather than waiting for the delayed acknowledgement of its headers
+        "-Dsun.net.httpserver.nodelay=true" })
+@Threads(1)
+public class ClientPoolBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Clients {
+        @Param({ "1", "4", "16", "64" })
+        int threads;
+
+        @Param({ "1", "4", "16" })
+        int poolSize;
+
+        @Param({ "100" })
+        long latencyMicros;
+
+        LocalHttpServer server;
+        Bus bus;
+        ExecutorService executor;
+        EchoService pooled;
+        EchoService shared;
+        List<Callable<Void>> pooledCalls;
+        List<Callable<Void>> sharedCalls;
+
+        @Setup(Level.Trial)
+        public void create() throws IOException {
+            server = new LocalHttpServer(TimeUnit.MICROSECONDS.toNanos(latencyMicros));
+            bus = BusFactory.newInstance().createBus();
+            List<EchoService> proxies = new ArrayList<>(poolSize);
+            for (int i = 0; i < poolSize; i++) {
+                proxies.add(proxy());
+            }
+            pooled = CxfClientPool.create(EchoService.class, proxies, 60_000);
+            shared = proxy();
+            executor = Executors.newFixedThreadPool(threads);
+            pooledCalls = calls(pooled);
+            sharedCalls = calls(shared);
+        }
+
+        private EchoService proxy() {
+            JaxWsProxyFactoryBean factory = new JaxWsProxyFactoryBean();
+            factory.setBus(bus);
+            factory.setServiceClass(EchoService.class);
+            factory.setAddress(server.getAddress());
+            return factory.create(EchoService.class);
+        }
+
+        private List<Callable<Void>> calls(EchoService client) {
+            return Collections.nCopies(threads, () -> {
+                client.ping();
+                return null;
+            });
+        }
+
+        void invokeAll(List<Callable<Void>> calls, Invocations invocations) throws Exception {
+            for (Future<Void> response : executor.invokeAll(calls)) {
+                response.get();
+            }
+            invocations.invocations += calls.size();
+        }
+
+        @TearDown(Level.Trial)
+        public void close() throws IOException {
+            executor.shutdownNow();
+            ((Closeable) pooled).close();
+            bus.shutdown(true);
+            server.close();
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Invocations {
+        public long invocations;
+    }
+
+    @Benchmark
+    public void pooled(Clients clients, Invocations invocations) throws Exception {
+        clients.invokeAll(clients.pooledCalls, invocations);
+    }
+
+    @Benchmark
+    public void shared(Clients clients, Invocations invocations) throws Exception {
+        clients.invokeAll(clients.sharedCalls, invocations);
+    }
+}
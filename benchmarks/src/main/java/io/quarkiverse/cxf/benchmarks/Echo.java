@@ -0,0 +1,29 @@
+package io.quarkiverse.cxf.benchmarks;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlType;
+
+/**
+ * Request wrapper of {@link EchoService#echo(Payload)}, as wsdl2java would generate it.
+ */
+@XmlRootElement(name = "echo", namespace = EchoService.NAMESPACE)
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "echo", namespace = EchoService.NAMESPACE, propOrder = {
+        "payload"
+})
+public class Echo {
+
+    @XmlElement
+    private Payload payload;
+
+    public Payload getPayload() {
+        return payload;
+    }
+
+    public void setPayload(Payload payload) {
+        this.payload = payload;
+    }
+}
@@ -0,0 +1,31 @@
+package io.quarkiverse.cxf.benchmarks;
+
+import javax.jws.WebMethod;
+import javax.jws.WebParam;
+import javax.jws.WebResult;
+import javax.jws.WebService;
+import javax.xml.ws.RequestWrapper;
+import javax.xml.ws.ResponseWrapper;
+
+@WebService(targetNamespace = EchoService.NAMESPACE)
+public interface EchoService {
+
+    String NAMESPACE = "http://benchmarks.cxf.quarkiverse.io/";
+
+    /**
+     * @return {@code payload}, to measure unmarshalling and marshalling
+     */
+    @WebMethod
+    @WebResult(name = "payload")
+    @RequestWrapper(localName = "echo", targetNamespace = NAMESPACE, className = "io.quarkiverse.cxf.benchmarks.Echo")
+    @ResponseWrapper(localName = "echoResponse", targetNamespace = NAMESPACE, className = "io.quarkiverse.cxf.benchmarks.EchoResponse")
+    Payload echo(@WebParam(name = "payload") Payload payload);
+
+    /**
+     * Does nothing, to measure the request handling around the service.
+     */
+    @WebMethod
+    @RequestWrapper(localName = "ping", targetNamespace = NAMESPACE, className = "io.quarkiverse.cxf.benchmarks.Ping")
+    @ResponseWrapper(localName = "pingResponse", targetNamespace = NAMESPACE, className = "io.quarkiverse.cxf.benchmarks.PingResponse")
+    void ping();
+}
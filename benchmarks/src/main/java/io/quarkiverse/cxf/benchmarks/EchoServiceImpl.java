@@ -0,0 +1,16 @@
+package io.quarkiverse.cxf.benchmarks;
+
+import javax.jws.WebService;
+
+@WebService(endpointInterface = "io.quarkiverse.cxf.benchmarks.EchoService", serviceName = "EchoService", targetNamespace = EchoService.NAMESPACE)
+public class EchoServiceImpl implements EchoService {
+
+    @Override
+    public Payload echo(Payload payload) {
+        return payload;
+    }
+
+    @Override
+    public void ping() {
+    }
+}
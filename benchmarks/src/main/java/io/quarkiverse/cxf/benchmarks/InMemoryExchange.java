@@ -0,0 +1,209 @@
+package io.quarkiverse.cxf.benchmarks;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpConnection;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * In-memory stand-ins for the routing context, request and response of a SOAP request, so that the transport can be
+ * driven without a socket. The request body is complete upfront, as the event loop and virtual thread dispatch modes
+ * pass it, and the response discards what is written after counting it.
+ * <p>
+ * The stand-ins are proxies implementing the methods the transport calls, which fail on any other so that a
+ * benchmark does not silently measure a broken path. They are created once and {@link #reset()} before each request
+ * so that they do not show in the allocation rates.
+ */
+final class InMemoryExchange {
+
+    private final String path;
+    private final Buffer body;
+    private final MultiMap requestHeaders = MultiMap.caseInsensitiveMultiMap();
+    private final MultiMap responseHeaders = MultiMap.caseInsensitiveMultiMap();
+    private final HttpConnection connection;
+    private final HttpServerRequest request;
+    private final HttpServerResponse response;
+    private final RoutingContext context;
+
+    private int statusCode;
+    private boolean chunked;
+    private boolean ended;
+    private long bytesWritten;
+
+    InMemoryExchange(String path, byte[] body) {
+        this.path = path;
+        this.body = Buffer.buffer(body);
+        requestHeaders.set("Content-Type", "text/xml; charset=UTF-8");
+        requestHeaders.set("Content-Length", String.valueOf(body.length));
+        requestHeaders.set("SOAPAction", "\"\"");
+        requestHeaders.set("Host", "localhost:8080");
+        this.connection = proxy(HttpConnection.class, (proxy, method, args) -> unsupported(method));
+        this.request = proxy(HttpServerRequest.class, this::onRequest);
+        this.response = proxy(HttpServerResponse.class, this::onResponse);
+        this.context = proxy(RoutingContext.class, this::onContext);
+    }
+
+    /**
+     * Gets ready for the next request.
+     */
+    void reset() {
+        responseHeaders.clear();
+        statusCode = 200;
+        chunked = false;
+        ended = false;
+        bytesWritten = 0;
+    }
+
+    RoutingContext getContext() {
+        return context;
+    }
+
+    HttpServerRequest getRequest() {
+        return request;
+    }
+
+    HttpServerResponse getResponse() {
+        return response;
+    }
+
+    /**
+     * @return the request body, each read of which starts over from its beginning
+     */
+    Buffer getBody() {
+        return body;
+    }
+
+    int getStatusCode() {
+        return statusCode;
+    }
+
+    boolean isEnded() {
+        return ended;
+    }
+
+    long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    private Object onContext(Object proxy, Method method, Object[] args) {
+        switch (method.getName()) {
+            case "request":
+                return request;
+            case "response":
+                return response;
+            case "user":
+                return null;
+            default:
+                return unsupported(method);
+        }
+    }
+
+    private Object onRequest(Object proxy, Method method, Object[] args) {
+        switch (method.getName()) {
+            case "method":
+                return HttpMethod.POST;
+            case "version":
+                return HttpVersion.HTTP_1_1;
+            case "path":
+            case "uri":
+                return path;
+            case "absoluteURI":
+                return "http://localhost:8080" + path;
+            case "query":
+                return null;
+            case "headers":
+                return requestHeaders;
+            case "getHeader":
+                return requestHeaders.get(args[0].toString());
+            case "isSSL":
+                return false;
+            case "isEnded":
+                return true;
+            case "response":
+                return response;
+            case "connection":
+                return connection;
+            default:
+                return unsupported(method);
+        }
+    }
+
+    private Object onResponse(Object proxy, Method method, Object[] args) {
+        switch (method.getName()) {
+            case "setStatusCode":
+                statusCode = (Integer) args[0];
+                return proxy;
+            case "getStatusCode":
+                return statusCode;
+            case "headers":
+                return responseHeaders;
+            case "setChunked":
+                chunked = (Boolean) args[0];
+                return proxy;
+            case "isChunked":
+                return chunked;
+            case "write":
+                consume(args[0]);
+                return proxy;
+            case "end":
+                if (args != null) {
+                    consume(args[0]);
+                }
+                ended = true;
+                return null;
+            case "ended":
+                return ended;
+            case "closed":
+            case "writeQueueFull":
+                return false;
+            case "drainHandler":
+            case "closeHandler":
+                return proxy;
+            default:
+                return unsupported(method);
+        }
+    }
+
+    private void consume(Object data) {
+        if (data instanceof Buffer) {
+            Buffer buffer = (Buffer) data;
+            bytesWritten += buffer.length();
+            // done by Netty once a buffer is written to the socket, so that pooled buffers are reused
+            buffer.getByteBuf().release();
+        } else if (data instanceof String) {
+            bytesWritten += ((String) data).getBytes(StandardCharsets.UTF_8).length;
+        } else {
+            throw new UnsupportedOperationException("Cannot write " + data);
+        }
+    }
+
+    private static Object unsupported(Method method) {
+        throw new UnsupportedOperationException(method.toString());
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(InMemoryExchange.class.getClassLoader(), new Class<?>[] { type },
+                (proxy, method, args) -> {
+                    if (method.getDeclaringClass() == Object.class) {
+                        switch (method.getName()) {
+                            case "equals":
+                                return proxy == args[0];
+                            case "hashCode":
+                                return System.identityHashCode(proxy);
+                            default:
+                                return type.getSimpleName() + "@" + Integer.toHexString(System.identityHashCode(proxy));
+                        }
+                    }
+                    return handler.invoke(proxy, method, args);
+                }));
+    }
+}
@@ -0,0 +1,117 @@
+package io.quarkiverse.cxf.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+
+import org.apache.cxf.Bus;
+import org.apache.cxf.BusFactory;
+import org.apache.cxf.endpoint.Server;
+import org.apache.cxf.jaxws.JaxWsServerFactoryBean;
+import org.apache.cxf.transport.DestinationFactoryManager;
+import org.apache.cxf.transport.http.DestinationRegistryImpl;
+
+import io.quarkiverse.cxf.transport.VertxDestination;
+import io.quarkiverse.cxf.transport.VertxDestinationFactory;
+import io.quarkiverse.cxf.transport.VertxServletInputStream;
+
+/**
+ * {@link EchoService} published on the Vert.x destination the way {@code CxfHandler} publishes endpoints, minus the
+ * CDI lookups. Requests are served on the calling thread, as by a worker thread of {@code CxfHandler} once it
+ * activated the request context.
+ */
+final class InMemoryServer implements AutoCloseable {
+
+    static final String PATH = "/echo";
+
+    private static final String TRANSPORT_ID = "http://cxf.apache.org/transports/quarkus";
+    private static final String ENVELOPE_START = "<soap:Envelope xmlns:soap=\"http://schemas.xmlsoap.org/soap/envelope/\">"
+            + "<soap:Body>";
+    private static final String ENVELOPE_END = "</soap:Body></soap:Envelope>";
+
+    static {
+        // the log manager of Quarkus, installed by the forks, logs everything until it is configured, with INFO by
+        // default
+        Logger.getLogger("").setLevel(Level.INFO);
+    }
+
+    private final Bus bus;
+    private final Server server;
+    private final VertxDestination destination;
+
+    InMemoryServer() throws IOException {
+        bus = BusFactory.newInstance().createBus();
+        VertxDestinationFactory destinationFactory = new VertxDestinationFactory(new DestinationRegistryImpl()) {
+        };
+        bus.getExtension(DestinationFactoryManager.class).registerDestinationFactory(TRANSPORT_ID, destinationFactory);
+        JaxWsServerFactoryBean factory = new JaxWsServerFactoryBean();
+        factory.setBus(bus);
+        factory.setDestinationFactory(destinationFactory);
+        factory.setServiceClass(EchoService.class);
+        factory.setServiceBean(new EchoServiceImpl());
+        factory.setAddress(PATH);
+        server = factory.create();
+        destination = (VertxDestination) server.getDestination();
+        destination.setServletPath("/");
+    }
+
+    /**
+     * Serves the request of {@code exchange} with the bus of the service set, as {@code CxfHandler} does.
+     *
+     * @return the number of bytes of the response
+     */
+    long serve(InMemoryExchange exchange) throws IOException {
+        exchange.reset();
+        Bus origBus = BusFactory.getAndSetThreadDefaultBus(bus);
+        try {
+            destination.invoke(exchange.getContext(),
+                    new VertxServletInputStream(exchange.getRequest(), exchange.getBody(), 10000, -1), null);
+        } finally {
+            BusFactory.setThreadDefaultBus(origBus);
+        }
+        return exchange.getBytesWritten();
+    }
+
+    /**
+     * Serves the request of {@code exchange} once, failing unless it succeeds.
+     */
+    void check(InMemoryExchange exchange) throws IOException {
+        long bytes = serve(exchange);
+        if (exchange.getStatusCode() != 200 || !exchange.isEnded() || bytes == 0) {
+            throw new IllegalStateException("Request failed with status " + exchange.getStatusCode() + ", "
+                    + bytes + " bytes written");
+        }
+    }
+
+    @Override
+    public void close() {
+        server.destroy();
+        bus.shutdown(true);
+    }
+
+    static InMemoryExchange echo(Payload payload) throws JAXBException {
+        Echo echo = new Echo();
+        echo.setPayload(payload);
+        return new InMemoryExchange(PATH, envelope(echo));
+    }
+
+    static InMemoryExchange ping() throws JAXBException {
+        return new InMemoryExchange(PATH, envelope(new Ping()));
+    }
+
+    private static byte[] envelope(Object body) throws JAXBException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(ENVELOPE_START.getBytes(StandardCharsets.UTF_8), 0, ENVELOPE_START.length());
+        Marshaller marshaller = JAXBContext.newInstance(body.getClass()).createMarshaller();
+        marshaller.setProperty(Marshaller.JAXB_FRAGMENT, true);
+        marshaller.marshal(body, out);
+        out.write(ENVELOPE_END.getBytes(StandardCharsets.UTF_8), 0, ENVELOPE_END.length());
+        return out.toByteArray();
+    }
+}
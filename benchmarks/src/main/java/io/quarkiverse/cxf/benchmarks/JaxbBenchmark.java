@@ -0,0 +1,104 @@
+package io.quarkiverse.cxf.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+
+import org.apache.cxf.staxutils.StaxUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkiverse.cxf.transport.VertxServletInputStream;
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Unmarshals requests and marshals responses of small, medium and large payloads with JAXB over the StAX readers and
+ * writers of CXF, as its data binding does:
+ * <ul>
+ * <li>{@code unmarshalRequest} parses a request body read from a {@link VertxServletInputStream},</li>
+ * <li>{@code marshalResponse} writes a response body to a stream discarding it.</li>
+ * </ul>
+ * The unmarshaller and the marshaller are created for each message, as CXF does.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.util.logging.manager=org.jboss.logmanager.LogManager")
+@State(Scope.Thread)
+public class JaxbBenchmark {
+
+    @Param({ "small", "medium", "large" })
+    String payload;
+
+    private JAXBContext context;
+    private EchoResponse response;
+    private InMemoryExchange request;
+
+    @Setup(Level.Trial)
+    public void create() throws JAXBException {
+        context = JAXBContext.newInstance(Echo.class, EchoResponse.class);
+        Echo echo = new Echo();
+        echo.setPayload(Payload.of(payload));
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        context.createMarshaller().marshal(echo, body);
+        request = new InMemoryExchange(InMemoryServer.PATH, body.toByteArray());
+        response = new EchoResponse();
+        response.setPayload(echo.getPayload());
+    }
+
+    @Benchmark
+    public Object unmarshalRequest() throws JAXBException, XMLStreamException {
+        Buffer body = request.getBody();
+        XMLStreamReader reader = StaxUtils.createXMLStreamReader(
+                new VertxServletInputStream(request.getRequest(), body, 10000, -1), "UTF-8");
+        try {
+            return context.createUnmarshaller().unmarshal(reader);
+        } finally {
+            StaxUtils.close(reader);
+        }
+    }
+
+    @Benchmark
+    public long marshalResponse() throws JAXBException, XMLStreamException {
+        CountingOutputStream out = new CountingOutputStream();
+        XMLStreamWriter writer = StaxUtils.createXMLStreamWriter(out, "UTF-8");
+        Marshaller marshaller = context.createMarshaller();
+        marshaller.setProperty(Marshaller.JAXB_FRAGMENT, true);
+        marshaller.marshal(response, writer);
+        writer.flush();
+        StaxUtils.close(writer);
+        return out.count;
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package io.quarkiverse.cxf.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * {@link EchoService} endpoint on a local socket, answering each {@code ping} after a fixed latency, so that clients
+ * are measured over real connections without the cost of a server side worth measuring. The server has a thread for
+ * each of the 64 connections a benchmark may open at most.
+ */
+final class LocalHttpServer implements AutoCloseable {
+
+    static final String PATH = "/echo";
+
+    private static final int THREADS = 64;
+    private static final byte[] PING_RESPONSE = ("<soap:Envelope xmlns:soap=\"http://schemas.xmlsoap.org/soap/envelope/\">"
+            + "<soap:Body><ns2:pingResponse xmlns:ns2=\"" + EchoService.NAMESPACE + "\"/></soap:Body></soap:Envelope>")
+                    .getBytes(StandardCharsets.UTF_8);
+
+    static {
+        // CXF logs each message at levels the log manager of the forks does not filter until it is configured
+        Logger.getLogger("").setLevel(Level.INFO);
+    }
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final long latencyNanos;
+
+    LocalHttpServer(long latencyNanos) throws IOException {
+        this.latencyNanos = latencyNanos;
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), THREADS);
+        executor = Executors.newFixedThreadPool(THREADS);
+        server.setExecutor(executor);
+        server.createContext(PATH, this::ping);
+        server.start();
+    }
+
+    /**
+     * @return the address of the endpoint
+     */
+    String getAddress() {
+        InetSocketAddress address = server.getAddress();
+        return "http://" + address.getHostString() + ':' + address.getPort() + PATH;
+    }
+
+    private void ping(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            byte[] buffer = new byte[4096];
+            while (in.read(buffer) >= 0) {
+                // the request is always a ping
+            }
+        }
+        if (latencyNanos > 0) {
+            LockSupport.parkNanos(latencyNanos);
+        }
+        exchange.getResponseHeaders().set("Content-Type", "text/xml; charset=UTF-8");
+        exchange.sendResponseHeaders(200, PING_RESPONSE.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(PING_RESPONSE);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
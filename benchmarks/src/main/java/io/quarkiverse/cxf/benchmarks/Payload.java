@@ -0,0 +1,53 @@
+package io.quarkiverse.cxf.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlType;
+
+/**
+ * The body of the echoed requests, made of {@link Item}s of about a hundred bytes each once marshalled.
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "Payload", propOrder = {
+        "items"
+})
+public class Payload {
+
+    @XmlElement(name = "item")
+    private List<Item> items = new ArrayList<>();
+
+    public Payload() {
+    }
+
+    /**
+     * @param size {@code small}, {@code medium} or {@code large}, for about 100 bytes, 10 KB or 1 MB
+     */
+    public static Payload of(String size) {
+        switch (size) {
+            case "small":
+                return of(1);
+            case "medium":
+                return of(100);
+            case "large":
+                return of(10000);
+            default:
+                throw new IllegalArgumentException("Unknown payload size " + size);
+        }
+    }
+
+    private static Payload of(int count) {
+        Payload payload = new Payload();
+        for (int i = 0; i < count; i++) {
+            payload.items.add(new Item(i, "item-" + i, "Description of the item number " + i));
+        }
+        return payload;
+    }
+
+    public List<Item> getItems() {
+        return items;
+    }
+}
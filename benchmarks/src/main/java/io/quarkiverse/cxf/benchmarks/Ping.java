@@ -0,0 +1,15 @@
+package io.quarkiverse.cxf.benchmarks;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlType;
+
+/**
+ * Request wrapper of {@link EchoService#ping()}.
+ */
+@XmlRootElement(name = "ping", namespace = EchoService.NAMESPACE)
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "ping", namespace = EchoService.NAMESPACE)
+public class Ping {
+}
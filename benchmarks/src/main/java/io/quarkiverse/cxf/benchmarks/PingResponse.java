@@ -0,0 +1,15 @@
+package io.quarkiverse.cxf.benchmarks;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlType;
+
+/**
+ * Response wrapper of {@link EchoService#ping()}.
+ */
+@XmlRootElement(name = "pingResponse", namespace = EchoService.NAMESPACE)
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "pingResponse", namespace = EchoService.NAMESPACE)
+public class PingResponse {
+}
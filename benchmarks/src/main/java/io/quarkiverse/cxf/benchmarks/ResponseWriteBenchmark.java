@@ -0,0 +1,59 @@
+package io.quarkiverse.cxf.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkiverse.cxf.transport.VertxServletOutputStream;
+
+/**
+ * Writes responses of 1 KB, 32 KB and 1 MB through {@link VertxServletOutputStream} in the 4 KB chunks the XML
+ * writers of CXF flush, with response buffers of 8 KB and 32 KB. Responses fitting the buffer are sent in one write
+ * with a Content-Length, larger ones are chunked.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.util.logging.manager=org.jboss.logmanager.LogManager")
+@State(Scope.Thread)
+public class ResponseWriteBenchmark {
+
+    @Param({ "1024", "32768", "1048576" })
+    int responseSize;
+
+    @Param({ "8192", "32768" })
+    int bufferSize;
+
+    private final byte[] chunk = new byte[4096];
+    private InMemoryExchange exchange;
+
+    @Setup(Level.Trial)
+    public void create() {
+        exchange = new InMemoryExchange(InMemoryServer.PATH, new byte[0]);
+    }
+
+    @Benchmark
+    public long write() throws IOException {
+        exchange.reset();
+        VertxServletOutputStream out = new VertxServletOutputStream(exchange.getRequest(), exchange.getResponse(),
+                bufferSize);
+        for (int remaining = responseSize; remaining > 0; remaining -= chunk.length) {
+            out.write(chunk, 0, Math.min(remaining, chunk.length));
+        }
+        out.close();
+        return exchange.getBytesWritten();
+    }
+}
@@ -0,0 +1,87 @@
+package io.quarkiverse.cxf.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.bind.JAXBException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Serves whole SOAP requests through the Vert.x destination: parsing the request, dispatching it through the
+ * interceptor chains, unmarshalling, invoking the service, marshalling and writing the response.
+ * <ul>
+ * <li>{@code ping} has no payload, it measures what every request costs,</li>
+ * <li>{@code echo} sends a small, medium or large payload back.</li>
+ * </ul>
+ * Running with {@code -t} serves from several threads at once, as worker threads do.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.util.logging.manager=org.jboss.logmanager.LogManager")
+public class ServerHotPathBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Endpoint {
+        InMemoryServer server;
+
+        @Setup(Level.Trial)
+        public void start() throws IOException {
+            server = new InMemoryServer();
+        }
+
+        @TearDown(Level.Trial)
+        public void stop() {
+            server.close();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class EchoRequest {
+        @Param({ "small", "medium", "large" })
+        String payload;
+
+        InMemoryExchange exchange;
+
+        @Setup(Level.Trial)
+        public void create(Endpoint endpoint) throws IOException, JAXBException {
+            exchange = InMemoryServer.echo(Payload.of(payload));
+            endpoint.server.check(exchange);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class PingRequest {
+        InMemoryExchange exchange;
+
+        @Setup(Level.Trial)
+        public void create(Endpoint endpoint) throws IOException, JAXBException {
+            exchange = InMemoryServer.ping();
+            endpoint.server.check(exchange);
+        }
+    }
+
+    @Benchmark
+    public long ping(Endpoint endpoint, PingRequest request) throws IOException {
+        return endpoint.server.serve(request.exchange);
+    }
+
+    @Benchmark
+    public long echo(Endpoint endpoint, EchoRequest request) throws IOException {
+        return endpoint.server.serve(request.exchange);
+    }
+}
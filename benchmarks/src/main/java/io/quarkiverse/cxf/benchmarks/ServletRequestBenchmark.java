@@ -0,0 +1,91 @@
+package io.quarkiverse.cxf.benchmarks;
+
+import java.io.IOException;
+import java.util.Enumeration;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.bind.JAXBException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.quarkiverse.cxf.transport.VertxHttpServletRequest;
+
+/**
+ * Creates the servlet request adapter of a SOAP request and makes the calls CXF makes on it for each message:
+ * <ul>
+ * <li>{@code requestLine} reads the method, the paths, the query and the content type,</li>
+ * <li>{@code headers} copies all the headers, as CXF does into the protocol headers of the message,</li>
+ * <li>{@code attributes} sets and gets attributes, some of them missing as the TLS ones of a plain request.</li>
+ * </ul>
+ * Run it with {@code -prof gc}: {@code gc.alloc.rate.norm} is the number of bytes allocated per request, including
+ * those of the argument arrays of the in-memory stand-ins.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.util.logging.manager=org.jboss.logmanager.LogManager")
+@State(Scope.Thread)
+public class ServletRequestBenchmark {
+
+    private static final String CIPHER_SUITE = "javax.servlet.request.cipher_suite";
+    private static final String CERTIFICATES = "javax.servlet.request.X509Certificate";
+    private static final String[] ATTRIBUTES = { "org.apache.cxf.request.method", "org.apache.cxf.request.uri",
+            "org.apache.cxf.message.Message.BASE_PATH" };
+
+    private InMemoryExchange exchange;
+
+    @Setup(Level.Trial)
+    public void create() throws JAXBException {
+        exchange = InMemoryServer.ping();
+    }
+
+    private VertxHttpServletRequest newRequest() throws IOException {
+        // the body is not read, its stream is left out
+        return new VertxHttpServletRequest(exchange.getContext(), "", "/", null);
+    }
+
+    @Benchmark
+    public void requestLine(Blackhole blackhole) throws IOException {
+        VertxHttpServletRequest request = newRequest();
+        blackhole.consume(request.getMethod());
+        blackhole.consume(request.getPathInfo());
+        blackhole.consume(request.getRequestURI());
+        blackhole.consume(request.getQueryString());
+        blackhole.consume(request.getContentType());
+    }
+
+    @Benchmark
+    public void headers(Blackhole blackhole) throws IOException {
+        VertxHttpServletRequest request = newRequest();
+        for (Enumeration<String> names = request.getHeaderNames(); names.hasMoreElements();) {
+            for (Enumeration<String> values = request.getHeaders(names.nextElement()); values.hasMoreElements();) {
+                blackhole.consume(values.nextElement());
+            }
+        }
+    }
+
+    @Benchmark
+    public void attributes(Blackhole blackhole) throws IOException {
+        VertxHttpServletRequest request = newRequest();
+        for (String name : ATTRIBUTES) {
+            request.setAttribute(name, name);
+        }
+        for (String name : ATTRIBUTES) {
+            blackhole.consume(request.getAttribute(name));
+        }
+        blackhole.consume(request.getAttribute(CIPHER_SUITE));
+        blackhole.consume(request.getAttribute(CERTIFICATES));
+    }
+}
@@ -20,4 +20,11 @@ public class CxfBuildTimeConfig {
      */
     @ConfigItem
     Optional<List<String>> wsdlPath;
+
+    /**
+     * The comma-separated list of remote WSDL URLs downloaded at build time along with the documents they import.
+     * Clients whose quarkus.cxf.endpoint."key".wsdl is one of them read it from the classpath at runtime
+     */
+    @ConfigItem
+    Optional<List<String>> embeddedWsdls;
 }
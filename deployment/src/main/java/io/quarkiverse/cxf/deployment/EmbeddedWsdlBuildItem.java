@@ -0,0 +1,33 @@
+package io.quarkiverse.cxf.deployment;
+
+import java.util.List;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+
+/**
+ * The OASIS catalog mapping the remote WSDLs of clients and the documents they import, downloaded at build time, to
+ * the classpath resources holding their copy.
+ */
+public final class EmbeddedWsdlBuildItem extends SimpleBuildItem {
+    private final String catalog;
+    private final List<String> wsdls;
+
+    public EmbeddedWsdlBuildItem(String catalog, List<String> wsdls) {
+        this.catalog = catalog;
+        this.wsdls = wsdls;
+    }
+
+    /**
+     * @return the name of the resource of the catalog, or {@code null} if no WSDL was embedded
+     */
+    public String getCatalog() {
+        return catalog;
+    }
+
+    /**
+     * @return the URLs of the WSDLs of clients that were embedded, not including the documents they import
+     */
+    public List<String> getWsdls() {
+        return wsdls;
+    }
+}
@@ -12,6 +12,7 @@ import java.util.Collection;
 import java.util.Enumeration;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import javax.enterprise.context.ApplicationScoped;
@@ -39,22 +40,27 @@ import io.quarkiverse.cxf.CXFRecorder;
 import io.quarkiverse.cxf.CXFServletInfos;
 import io.quarkiverse.cxf.CxfClientProducer;
 import io.quarkiverse.cxf.CxfConfig;
+import io.quarkiverse.cxf.CxfReactiveClient;
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.arc.deployment.BeanContainerBuildItem;
 import io.quarkus.arc.deployment.BeanDefiningAnnotationBuildItem;
 import io.quarkus.arc.deployment.GeneratedBeanBuildItem;
 import io.quarkus.arc.deployment.GeneratedBeanGizmoAdaptor;
 import io.quarkus.arc.deployment.SyntheticBeanBuildItem;
+import io.quarkus.arc.deployment.SyntheticBeansRuntimeInitBuildItem;
 import io.quarkus.arc.deployment.UnremovableBeanBuildItem;
 import io.quarkus.arc.processor.DotNames;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.annotations.Consume;
 import io.quarkus.deployment.annotations.ExecutionTime;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.ExtensionSslNativeSupportBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
 import io.quarkus.deployment.builditem.IndexDependencyBuildItem;
+import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageProxyDefinitionBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
@@ -68,7 +74,6 @@ import io.quarkus.gizmo.ResultHandle;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.vertx.http.deployment.DefaultRouteBuildItem;
 import io.quarkus.vertx.http.deployment.RouteBuildItem;
-import io.quarkus.vertx.http.runtime.HandlerType;
 import io.vertx.core.Handler;
 import io.vertx.ext.web.RoutingContext;
 
@@ -86,6 +91,7 @@ class QuarkusCxfProcessor {
     private static final DotName XML_NAMESPACE = DotName.createSimple("com.sun.xml.txw2.annotation.XmlNamespace");
     private static final DotName XML_SEE_ALSO = DotName.createSimple("javax.xml.bind.annotation.XmlSeeAlso");
     private static final Logger LOGGER = Logger.getLogger(QuarkusCxfProcessor.class);
+    private static final int WSDL_DOWNLOAD_TIMEOUT = 30_000;
 
     @BuildStep
     public void generateWSDL(BuildProducer<NativeImageResourceBuildItem> ressources,
@@ -97,6 +103,33 @@ class QuarkusCxfProcessor {
         }
     }
 
+    @BuildStep
+    EmbeddedWsdlBuildItem embedWsdl(CxfBuildTimeConfig cxfBuildTimeConfig,
+            BuildProducer<GeneratedResourceBuildItem> generatedResources,
+            BuildProducer<NativeImageResourceBuildItem> ressources) {
+        List<String> wsdls = new ArrayList<>();
+        WsdlEmbedder embedder = new WsdlEmbedder(WSDL_DOWNLOAD_TIMEOUT);
+        for (String url : cxfBuildTimeConfig.embeddedWsdls.orElse(wsdls)) {
+            if (url.startsWith("http:") || url.startsWith("https:")) {
+                embedder.embed(url);
+                wsdls.add(url);
+            } else {
+                LOGGER.warnf("Only remote WSDLs are embedded, %s is read as configured", url);
+            }
+        }
+        if (wsdls.isEmpty()) {
+            return new EmbeddedWsdlBuildItem(null, wsdls);
+        }
+        for (Map.Entry<String, byte[]> resource : embedder.getResources().entrySet()) {
+            generatedResources.produce(new GeneratedResourceBuildItem(resource.getKey(), resource.getValue()));
+            ressources.produce(new NativeImageResourceBuildItem(resource.getKey()));
+        }
+        generatedResources.produce(new GeneratedResourceBuildItem(WsdlEmbedder.CATALOG, embedder.getCatalog()));
+        ressources.produce(new NativeImageResourceBuildItem(WsdlEmbedder.CATALOG));
+        LOGGER.debugf("Embedded WSDLs %s", embedder.getLocations());
+        return new EmbeddedWsdlBuildItem(WsdlEmbedder.CATALOG, wsdls);
+    }
+
     private String getNamespaceFromPackage(String pkg) {
         //TODO XRootElement then XmlSchema then derived of package
         String[] strs = pkg.split("\\.");
@@ -189,7 +222,7 @@ class QuarkusCxfProcessor {
             try {
                 jaxwsFac.setServiceClass(Thread.currentThread().getContextClassLoader().loadClass(sei));
                 jaxwsFac.create();
-                wrapperClassNames.addAll(jaxwsFac.getWrappersClassNames());
+                wrapperClassNames.addAll(jaxwsFac.getContextClassNames());
             } catch (ClassNotFoundException e) {
                 LOGGER.error("failed to load WS class : " + sei);
             }
@@ -245,6 +278,10 @@ class QuarkusCxfProcessor {
 
             proxies.produce(new NativeImageProxyDefinitionBuildItem(wsClassInfo.name().toString(),
                     "javax.xml.ws.BindingProvider", "java.io.Closeable", "org.apache.cxf.endpoint.Client"));
+            // pooled clients, and the stand-ins reactive clients record invocations with
+            proxies.produce(new NativeImageProxyDefinitionBuildItem(wsClassInfo.name().toString()));
+            // pooled clients
+            proxies.produce(new NativeImageProxyDefinitionBuildItem(wsClassInfo.name().toString(), "java.io.Closeable"));
 
             for (MethodInfo mi : wsClassInfo.methods()) {
 
@@ -319,12 +356,15 @@ class QuarkusCxfProcessor {
                 }
             }
             if (startRoute) {
+                recorder.setRequestLimits(infos, cxfConfig);
+                recorder.setMetrics(infos, cxfConfig);
+                recorder.setProfiling(infos, cxfConfig);
+                recorder.setTracing(infos, cxfConfig);
                 Handler<RoutingContext> handler = recorder.initServer(infos, beanContainer.getValue());
                 if (path != null) {
                     routes.produce(RouteBuildItem.builder()
                             .route(getMappingPath(path))
                             .handler(handler)
-                            .handlerType(HandlerType.BLOCKING)
                             .build());
 
                 }
@@ -353,6 +393,22 @@ class QuarkusCxfProcessor {
         }
     }
 
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    @Consume(SyntheticBeansRuntimeInitBuildItem.class)
+    public void buildClientModels(CXFRecorder recorder, List<CxfWebServiceBuildItem> cxfWebServices,
+            EmbeddedWsdlBuildItem embeddedWsdl, ShutdownContextBuildItem shutdown) {
+        List<String> seis = new ArrayList<>();
+        for (CxfWebServiceBuildItem cxfWebService : cxfWebServices) {
+            if (cxfWebService.IsClient()) {
+                seis.add(cxfWebService.getSei());
+            }
+        }
+        if (!seis.isEmpty()) {
+            recorder.buildClientModels(seis, embeddedWsdl.getCatalog(), embeddedWsdl.getWsdls(), shutdown);
+        }
+    }
+
     @BuildStep
     BeanDefiningAnnotationBuildItem additionalBeanDefiningAnnotation() {
         return new BeanDefiningAnnotationBuildItem(WEBSERVICE_ANNOTATION);
@@ -446,6 +502,23 @@ class QuarkusCxfProcessor {
                 ResultHandle cxfClientCasted = cxfClientMethodCreator.checkCast(cxfClient, sei);
                 cxfClientMethodCreator.returnValue(cxfClientCasted);
             }
+            try (MethodCreator reactiveClientMethodCreator = classCreator.getMethodCreator("createReactiveService",
+                    CxfReactiveClient.class)) {
+                reactiveClientMethodCreator.addAnnotation(ApplicationScoped.class);
+                reactiveClientMethodCreator.addAnnotation(Produces.class);
+                reactiveClientMethodCreator.addAnnotation(Default.class);
+                // CxfReactiveClient<sei>
+                reactiveClientMethodCreator.setSignature("()L" + CxfReactiveClient.class.getName().replace('.', '/')
+                        + "<L" + sei.replace('.', '/') + ";>;");
+
+                ResultHandle reactiveClient = reactiveClientMethodCreator.invokeVirtualMethod(
+                        MethodDescriptor.ofMethod(CxfClientProducer.class,
+                                "loadCxfReactiveClient",
+                                Object.class),
+                        reactiveClientMethodCreator.getThis());
+                reactiveClientMethodCreator.returnValue(
+                        reactiveClientMethodCreator.checkCast(reactiveClient, CxfReactiveClient.class));
+            }
         }
     }
 
@@ -566,6 +639,8 @@ class QuarkusCxfProcessor {
         //TODO load all bus-extensions.txt file and parse it to generate the reflective class.
         //TODO load all handler from https://github.com/apache/cxf/tree/master/rt/frontend/jaxws/src/main/java/org/apache/cxf/jaxws/handler/types
         reflectiveItems.produce(new ReflectiveClassBuildItem(true, false, "org.apache.cxf.common.jaxb.NamespaceMapper"));
+        // looked up by CxfHandler for the virtual-thread dispatch mode
+        reflectiveItems.produce(new ReflectiveClassBuildItem(true, false, "java.util.concurrent.Executors"));
 
         reflectiveItems.produce(new ReflectiveClassBuildItem(true, true,
                 "org.apache.cxf.common.spi.ClassLoaderService",
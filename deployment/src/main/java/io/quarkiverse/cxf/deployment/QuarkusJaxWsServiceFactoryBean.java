@@ -1,12 +1,32 @@
 package io.quarkiverse.cxf.deployment;
 
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.apache.cxf.databinding.DataBinding;
+import org.apache.cxf.jaxb.JAXBDataBinding;
 import org.apache.cxf.jaxws.support.JaxWsServiceFactoryBean;
 
 public class QuarkusJaxWsServiceFactoryBean extends JaxWsServiceFactoryBean {
     public List<String> getWrappersClassNames() {
         return getExtraClass().stream().map(Class::getCanonicalName).collect(Collectors.toList());
     }
+
+    /**
+     * @return the names of the classes the JAXBContext of the service model was created from, as found by the walk
+     *         of the SEI done by {@link #create()}; arrays and primitives are left out, the walk finds them again
+     */
+    public List<String> getContextClassNames() {
+        Set<Class<?>> classes = new LinkedHashSet<>(getExtraClass());
+        DataBinding dataBinding = getDataBinding();
+        if (dataBinding instanceof JAXBDataBinding) {
+            classes.addAll(((JAXBDataBinding) dataBinding).getContextClasses());
+        }
+        return classes.stream()
+                .filter(c -> !c.isArray() && !c.isPrimitive())
+                .map(Class::getName)
+                .collect(Collectors.toList());
+    }
 }
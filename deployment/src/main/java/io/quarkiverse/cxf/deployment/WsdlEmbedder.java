@@ -0,0 +1,158 @@
+package io.quarkiverse.cxf.deployment;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+import org.xml.sax.SAXException;
+
+/**
+ * Downloads WSDLs along with the WSDLs and XML schemas they import, so that they can be stored as classpath resources
+ * under {@link #ROOT}, and writes the OASIS catalog mapping the URL of each of them to its copy.
+ * <p>
+ * The locations of the imports are made absolute in the copies, so that each document is looked up in the catalog by
+ * its original URL whichever document imports it.
+ */
+class WsdlEmbedder {
+
+    static final String ROOT = "META-INF/cxf/wsdl/";
+    static final String CATALOG = ROOT + "catalog.xml";
+
+    private static final String WSDL_NS = "http://schemas.xmlsoap.org/wsdl/";
+    private static final String CATALOG_NS = "urn:oasis:names:tc:entity:xmlns:xml:catalog";
+
+    private final int timeout;
+    /** URL of each document to the name of its resource */
+    private final Map<String, String> locations = new LinkedHashMap<>();
+    /** name of each resource to its content, with absolute import locations */
+    private final Map<String, byte[]> resources = new LinkedHashMap<>();
+
+    WsdlEmbedder(int timeout) {
+        this.timeout = timeout;
+    }
+
+    /**
+     * Downloads the document at {@code url} and the documents it imports, unless already done.
+     */
+    void embed(String url) {
+        try {
+            embed(new URI(url));
+        } catch (IOException | URISyntaxException | ParserConfigurationException | SAXException
+                | TransformerException e) {
+            throw new IllegalStateException("Could not embed WSDL " + url, e);
+        }
+    }
+
+    /**
+     * @return the OASIS catalog mapping the URL of each document downloaded to its copy
+     */
+    byte[] getCatalog() {
+        try {
+            Document catalog = newDocumentBuilderFactory().newDocumentBuilder().newDocument();
+            Element root = catalog.createElementNS(CATALOG_NS, "catalog");
+            root.setAttribute("prefer", "system");
+            catalog.appendChild(root);
+            for (Map.Entry<String, String> location : locations.entrySet()) {
+                Element system = catalog.createElementNS(CATALOG_NS, "system");
+                system.setAttribute("systemId", location.getKey());
+                system.setAttribute("uri", "classpath:" + location.getValue());
+                root.appendChild(system);
+            }
+            return serialize(catalog);
+        } catch (ParserConfigurationException | TransformerException e) {
+            throw new IllegalStateException("Could not write the catalog of the embedded WSDLs", e);
+        }
+    }
+
+    /**
+     * @return the name of the resource of each document downloaded, by URL
+     */
+    Map<String, String> getLocations() {
+        return locations;
+    }
+
+    /**
+     * @return the resources to generate, by name
+     */
+    Map<String, byte[]> getResources() {
+        return resources;
+    }
+
+    private void embed(URI uri)
+            throws IOException, URISyntaxException, ParserConfigurationException, SAXException, TransformerException {
+        if (locations.containsKey(uri.toString())) {
+            return;
+        }
+        byte[] content = download(uri);
+        Document document = newDocumentBuilderFactory().newDocumentBuilder()
+                .parse(new ByteArrayInputStream(content), uri.toString());
+        String resource = ROOT + locations.size()
+                + (WSDL_NS.equals(document.getDocumentElement().getNamespaceURI()) ? ".wsdl" : ".xsd");
+        // registered before the imports are followed, in case they import this document back
+        locations.put(uri.toString(), resource);
+
+        follow(uri, document.getElementsByTagNameNS(WSDL_NS, "import"), "location");
+        for (String name : new String[] { "import", "include", "redefine" }) {
+            follow(uri, document.getElementsByTagNameNS(XMLConstants.W3C_XML_SCHEMA_NS_URI, name), "schemaLocation");
+        }
+        resources.put(resource, serialize(document));
+    }
+
+    private void follow(URI base, NodeList imports, String attribute)
+            throws IOException, URISyntaxException, ParserConfigurationException, SAXException, TransformerException {
+        for (int i = 0; i < imports.getLength(); i++) {
+            Element element = (Element) imports.item(i);
+            String location = element.getAttribute(attribute);
+            if (!location.isEmpty()) {
+                URI uri = base.resolve(new URI(location));
+                element.setAttribute(attribute, uri.toString());
+                embed(uri);
+            }
+        }
+    }
+
+    private static DocumentBuilderFactory newDocumentBuilderFactory() throws ParserConfigurationException {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(true);
+        factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+        return factory;
+    }
+
+    private static byte[] serialize(Document document) throws TransformerException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TransformerFactory.newInstance().newTransformer().transform(new DOMSource(document), new StreamResult(out));
+        return out.toByteArray();
+    }
+
+    private byte[] download(URI uri) throws IOException {
+        URLConnection connection = new URL(uri.toString()).openConnection();
+        connection.setConnectTimeout(timeout);
+        connection.setReadTimeout(timeout);
+        try (InputStream in = connection.getInputStream()) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            for (int n = in.read(buffer); n != -1; n = in.read(buffer)) {
+                out.write(buffer, 0, n);
+            }
+            return out.toByteArray();
+        }
+    }
+}
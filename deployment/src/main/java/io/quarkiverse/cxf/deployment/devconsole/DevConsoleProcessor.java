@@ -4,6 +4,7 @@ import java.util.List;
 
 import io.quarkiverse.cxf.deployment.CxfWebServiceBuildItem;
 import io.quarkiverse.cxf.devconsole.DevCxfClientInfosSupplier;
+import io.quarkiverse.cxf.devconsole.DevCxfPhaseProfilesSupplier;
 import io.quarkiverse.cxf.devconsole.DevCxfServerInfosSupplier;
 import io.quarkus.deployment.IsDevelopment;
 import io.quarkus.deployment.annotations.BuildStep;
@@ -26,4 +27,9 @@ public class DevConsoleProcessor {
     public DevConsoleRuntimeTemplateInfoBuildItem collectServerBeanInfo() {
         return new DevConsoleRuntimeTemplateInfoBuildItem("cxfServiceInfos", new DevCxfServerInfosSupplier());
     }
+
+    @BuildStep(onlyIf = IsDevelopment.class)
+    public DevConsoleRuntimeTemplateInfoBuildItem collectPhaseProfiles() {
+        return new DevConsoleRuntimeTemplateInfoBuildItem("cxfPhaseProfiles", new DevCxfPhaseProfilesSupplier());
+    }
 }
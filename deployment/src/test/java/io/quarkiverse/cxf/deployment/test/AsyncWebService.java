@@ -0,0 +1,22 @@
+package io.quarkiverse.cxf.deployment.test;
+
+import java.util.concurrent.Future;
+
+import javax.jws.WebMethod;
+import javax.jws.WebParam;
+import javax.jws.WebResult;
+import javax.jws.WebService;
+import javax.xml.ws.AsyncHandler;
+
+import org.apache.cxf.annotations.UseAsyncMethod;
+
+@WebService
+public interface AsyncWebService {
+
+    @WebMethod
+    @UseAsyncMethod
+    @WebResult(name = "greeting", targetNamespace = "http://test.deployment.cxf.quarkiverse.io/", partName = "parameters")
+    String hello(@WebParam(name = "name") String name);
+
+    Future<?> helloAsync(String name, AsyncHandler<String> asyncHandler);
+}
@@ -0,0 +1,33 @@
+package io.quarkiverse.cxf.deployment.test;
+
+import java.util.concurrent.Future;
+
+import javax.jws.WebService;
+import javax.xml.ws.AsyncHandler;
+
+import org.apache.cxf.jaxws.ServerAsyncResponse;
+
+@WebService(endpointInterface = "io.quarkiverse.cxf.deployment.test.AsyncWebService", serviceName = "AsyncWebService")
+public class AsyncWebServiceImpl implements AsyncWebService {
+
+    @Override
+    public String hello(String name) {
+        return "Hello " + name + " (sync)";
+    }
+
+    @Override
+    public Future<?> helloAsync(String name, AsyncHandler<String> asyncHandler) {
+        ServerAsyncResponse<String> response = new ServerAsyncResponse<>();
+        new Thread(() -> {
+            try {
+                Thread.sleep(100);
+                response.set("Hello " + name + " (async)");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                response.exception(e);
+            }
+            asyncHandler.handleResponse(response);
+        }).start();
+        return response;
+    }
+}
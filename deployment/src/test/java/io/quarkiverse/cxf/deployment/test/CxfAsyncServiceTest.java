@@ -0,0 +1,47 @@
+package io.quarkiverse.cxf.deployment.test;
+
+import static org.hamcrest.Matchers.containsString;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+/**
+ * Calls {@code @UseAsyncMethod} operations, which suspend the request until the implementor completes it from a
+ * thread of its own.
+ */
+public class CxfAsyncServiceTest {
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClass(AsyncWebService.class)
+                    .addClass(AsyncWebServiceImpl.class))
+            .withConfigurationResource("application-cxf-async-test.properties");
+
+    private static final String HELLO = "<soapenv:Envelope xmlns:soapenv=\"http://schemas.xmlsoap.org/soap/envelope/\" xmlns:tem=\"http://test.deployment.cxf.quarkiverse.io/\">\n"
+            +
+            "   <soapenv:Header/>\n" +
+            "   <soapenv:Body>\n" +
+            "      <tem:hello>\n" +
+            "      <name>Quarkus</name>\n" +
+            "      </tem:hello>\n" +
+            "   </soapenv:Body>\n" +
+            "</soapenv:Envelope>";
+
+    @Test
+    public void whenUsingAsyncMethod_thenResumedWithResponse() {
+        RestAssured.given().header("Content-Type", "text/xml").and().body(HELLO).when().post("/async")
+                .then().statusCode(200).body(containsString("Hello Quarkus (async)"));
+    }
+
+    @Test
+    public void whenUsingAsyncMethodOnEventLoop_thenResumedWithResponse() {
+        RestAssured.given().header("Content-Type", "text/xml").and().body(HELLO).when().post("/async-event-loop")
+                .then().statusCode(200).body(containsString("Hello Quarkus (async)"));
+    }
+}
@@ -0,0 +1,122 @@
+package io.quarkiverse.cxf.deployment.test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.inject.Inject;
+import javax.xml.ws.BindingProvider;
+
+import org.apache.cxf.endpoint.Client;
+import org.apache.cxf.endpoint.ClientCallback;
+import org.apache.cxf.frontend.ClientProxy;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkiverse.cxf.CxfReactiveClient;
+import io.quarkiverse.cxf.CxfRequestCoalescer;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Sends a thundering herd of identical requests through a client coalescing them, and checks that only a few of them
+ * reach the service.
+ */
+public class CxfClientCoalescingTest {
+
+    private static final int CALLERS = 32;
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClass(SlowWebService.class)
+                    .addClass(SlowWebServiceImpl.class)
+                    .addClass(SlowClient.class))
+            .withConfigurationResource("application-cxf-client-coalescing-test.properties");
+
+    @Inject
+    SlowClient client;
+
+    @Inject
+    CxfReactiveClient<SlowClient> reactiveClient;
+
+    @Test
+    public void whenIdenticalConcurrentRequests_thenOneCallShared() throws Exception {
+        CxfRequestCoalescer coalescer = CxfRequestCoalescer.of(client);
+        Assertions.assertNotNull(coalescer);
+        long calls = coalescer.getCalls();
+        long coalesced = coalescer.getCoalesced();
+
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        CyclicBarrier barrier = new CyclicBarrier(CALLERS);
+        try {
+            List<Future<String>> responses = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                responses.add(executor.submit(() -> {
+                    barrier.await();
+                    return client.sleep(500);
+                }));
+            }
+            Set<String> threads = new HashSet<>();
+            for (Future<String> response : responses) {
+                threads.add(response.get(10, TimeUnit.SECONDS));
+            }
+            long sent = coalescer.getCalls() - calls;
+            Assertions.assertEquals(CALLERS, sent + coalescer.getCoalesced() - coalesced);
+            Assertions.assertEquals(sent, threads.size());
+            Assertions.assertTrue(sent < CALLERS / 4, sent + " of " + CALLERS + " requests sent");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void whenIdenticalConcurrentReactiveRequests_thenOneCallShared() throws Exception {
+        CxfRequestCoalescer coalescer = CxfRequestCoalescer.of(client);
+        long calls = coalescer.getCalls();
+
+        List<CompletableFuture<String>> responses = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            responses.add(reactiveClient.completionStage(c -> c.sleep(500)).toCompletableFuture());
+        }
+        // a different payload is not coalesced with the others
+        String other = client.sleep(1);
+        Set<String> threads = new HashSet<>();
+        for (CompletableFuture<String> response : responses) {
+            threads.add(response.get(10, TimeUnit.SECONDS));
+        }
+        Assertions.assertEquals(1, threads.size());
+        Assertions.assertFalse(threads.contains(other));
+        Assertions.assertEquals(2, coalescer.getCalls() - calls);
+    }
+
+    @Test
+    public void whenRequestsOfOtherCallers_thenNotCoalesced() throws Exception {
+        CxfRequestCoalescer coalescer = CxfRequestCoalescer.of(client);
+        long calls = coalescer.getCalls();
+        Client cxfClient = ClientProxy.getClient(((io.quarkus.arc.ClientProxy) client).arc_contextualInstance());
+
+        ClientCallback alice = new ClientCallback();
+        ClientCallback bob = new ClientCallback();
+        try {
+            cxfClient.getRequestContext().put(BindingProvider.USERNAME_PROPERTY, "alice");
+            cxfClient.invoke(alice, "sleep", 500L);
+            cxfClient.getRequestContext().put(BindingProvider.USERNAME_PROPERTY, "bob");
+            cxfClient.invoke(bob, "sleep", 500L);
+        } finally {
+            cxfClient.getRequestContext().remove(BindingProvider.USERNAME_PROPERTY);
+        }
+        alice.get(10, TimeUnit.SECONDS);
+        bob.get(10, TimeUnit.SECONDS);
+        Assertions.assertEquals(2, coalescer.getCalls() - calls);
+    }
+}
@@ -0,0 +1,116 @@
+package io.quarkiverse.cxf.deployment.test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.inject.Inject;
+import javax.xml.ws.BindingProvider;
+import javax.xml.ws.WebServiceException;
+import javax.xml.ws.handler.MessageContext;
+
+import org.apache.cxf.frontend.ClientProxy;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkiverse.cxf.CxfReactiveClient;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Calls a service of the application from many threads through a client using the pooled concurrency mode.
+ */
+public class CxfClientConcurrencyTest {
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClass(PayloadWebService.class)
+                    .addClass(PayloadWebServiceImpl.class)
+                    .addClass(PayloadClient.class))
+            .withConfigurationResource("application-cxf-client-concurrency-test.properties");
+
+    @Inject
+    PayloadClient client;
+
+    @Inject
+    CxfReactiveClient<PayloadClient> reactiveClient;
+
+    @Test
+    public void whenPooled_thenInvocationsDispatchedToProxies() {
+        Object instance = ((io.quarkus.arc.ClientProxy) client).arc_contextualInstance();
+        Assertions.assertTrue(Proxy.isProxyClass(instance.getClass()));
+        Assertions.assertTrue(instance instanceof BindingProvider);
+        Assertions.assertEquals("abcdefghij", client.payload(10));
+    }
+
+    @Test
+    public void whenSettingRequestContext_thenOnlyCallingThreadAffected() throws Exception {
+        Map<String, Object> requestContext = bindingProvider().getRequestContext();
+        requestContext.put(BindingProvider.ENDPOINT_ADDRESS_PROPERTY, "http://localhost:8081/missing");
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Assertions.assertThrows(WebServiceException.class, () -> client.payload(1));
+            Assertions.assertEquals(2, executor.submit(() -> client.payload(2)).get(10, TimeUnit.SECONDS).length());
+        } finally {
+            requestContext.clear();
+            executor.shutdownNow();
+        }
+        Assertions.assertEquals(3, client.payload(3).length());
+    }
+
+    @Test
+    public void whenInvoked_thenResponseContextOfCallingThread() {
+        client.payload(4);
+        Assertions.assertEquals(200,
+                bindingProvider().getResponseContext().get(MessageContext.HTTP_RESPONSE_CODE));
+    }
+
+    @Test
+    public void whenGettingCxfClient_thenRejected() {
+        Object instance = ((io.quarkus.arc.ClientProxy) client).arc_contextualInstance();
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> ClientProxy.getClient(instance));
+    }
+
+    @Test
+    public void whenInvokingFromMoreThreadsThanProxies_thenEachGetsItsResponse() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(64);
+        try {
+            List<Future<String>> responses = new ArrayList<>();
+            for (int i = 1; i <= 256; i++) {
+                int size = i;
+                responses.add(executor.submit(() -> client.payload(size)));
+            }
+            for (int i = 1; i <= responses.size(); i++) {
+                Assertions.assertEquals(i, responses.get(i - 1).get(10, TimeUnit.SECONDS).length());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void whenInvokingReactivelyThroughPool_thenEachGetsItsResponse() throws Exception {
+        List<CompletableFuture<String>> responses = new ArrayList<>();
+        for (int i = 1; i <= 64; i++) {
+            int size = i;
+            responses.add(reactiveClient.completionStage(c -> c.payload(size)).toCompletableFuture());
+        }
+        for (int i = 1; i <= responses.size(); i++) {
+            Assertions.assertEquals(i, responses.get(i - 1).get(10, TimeUnit.SECONDS).length());
+        }
+    }
+
+    private BindingProvider bindingProvider() {
+        return (BindingProvider) ((io.quarkus.arc.ClientProxy) client).arc_contextualInstance();
+    }
+}
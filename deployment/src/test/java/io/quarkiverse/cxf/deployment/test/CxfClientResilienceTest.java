@@ -0,0 +1,103 @@
+package io.quarkiverse.cxf.deployment.test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.inject.Inject;
+import javax.xml.ws.WebServiceException;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkiverse.cxf.CxfClientResilience;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Overloads a client guarded by a bulkhead, makes its service time out until its circuit breaker opens, then lets it
+ * learn the latency of the service and checks that its adaptive timeout cuts slower invocations short.
+ */
+public class CxfClientResilienceTest {
+
+    private static final int CALLERS = 4;
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClass(SlowWebService.class)
+                    .addClass(SlowWebServiceImpl.class)
+                    .addClass(SlowClient.class))
+            .withConfigurationResource("application-cxf-client-resilience-test.properties");
+
+    @Inject
+    SlowClient client;
+
+    @Test
+    public void whenServiceOverloadedOrFailing_thenInvocationsGuarded() throws Exception {
+        CxfClientResilience resilience = CxfClientResilience.of(client);
+        Assertions.assertNotNull(resilience);
+        Assertions.assertEquals(1000, resilience.getTimeout());
+
+        // bulkhead
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        CyclicBarrier barrier = new CyclicBarrier(CALLERS);
+        try {
+            List<Future<String>> responses = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                responses.add(executor.submit(() -> {
+                    barrier.await();
+                    return client.sleep(300);
+                }));
+            }
+            int rejected = 0;
+            for (Future<String> response : responses) {
+                try {
+                    response.get(10, TimeUnit.SECONDS);
+                } catch (ExecutionException e) {
+                    Assertions.assertTrue(e.getCause().getMessage().startsWith("Too many concurrent requests"),
+                            e.getCause().getMessage());
+                    rejected++;
+                }
+            }
+            Assertions.assertTrue(rejected >= CALLERS - 2, rejected + " of " + CALLERS + " rejected");
+            Assertions.assertEquals(rejected, resilience.getRejected());
+            Assertions.assertEquals(0, resilience.getConcurrentRequests());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // circuit breaker
+        Assertions.assertEquals(CxfClientResilience.State.CLOSED, resilience.getState());
+        for (int i = 0; i < 4 && resilience.getState() == CxfClientResilience.State.CLOSED; i++) {
+            Assertions.assertThrows(WebServiceException.class, () -> client.sleep(2000));
+        }
+        Assertions.assertEquals(CxfClientResilience.State.OPEN, resilience.getState());
+        Assertions.assertTrue(resilience.getFailures() >= 2);
+        long rejected = resilience.getRejected();
+        WebServiceException e = Assertions.assertThrows(WebServiceException.class, () -> client.sleep(1));
+        Assertions.assertTrue(e.getMessage().endsWith("is open"), e.getMessage());
+        Assertions.assertEquals(rejected + 1, resilience.getRejected());
+        Thread.sleep(1100);
+        Assertions.assertEquals(CxfClientResilience.State.HALF_OPEN, resilience.getState());
+        client.sleep(1);
+        Assertions.assertEquals(CxfClientResilience.State.CLOSED, resilience.getState());
+
+        // adaptive timeout
+        for (int i = 0; i < 16; i++) {
+            client.sleep(1);
+        }
+        long timeout = resilience.getTimeout();
+        Assertions.assertTrue(timeout < 500, "adaptive timeout " + timeout);
+        long failures = resilience.getFailures();
+        Assertions.assertThrows(WebServiceException.class, () -> client.sleep(900));
+        Assertions.assertEquals(failures + 1, resilience.getFailures());
+    }
+}
@@ -0,0 +1,59 @@
+package io.quarkiverse.cxf.deployment.test;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkiverse.cxf.CxfReactiveClient;
+import io.quarkiverse.cxf.CxfResponseCache;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Checks that the responses of a cached operation are reused for the same request payload.
+ */
+public class CxfClientResponseCacheTest {
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClass(PayloadWebService.class)
+                    .addClass(PayloadWebServiceImpl.class)
+                    .addClass(PayloadClient.class))
+            .withConfigurationResource("application-cxf-client-response-cache-test.properties");
+
+    @Inject
+    PayloadClient client;
+
+    @Inject
+    CxfReactiveClient<PayloadClient> reactiveClient;
+
+    @Test
+    public void whenSamePayload_thenResponseFromCache() throws Exception {
+        CxfResponseCache cache = CxfResponseCache.of(client);
+        Assertions.assertNotNull(cache);
+        cache.clear();
+        long hits = cache.getHits();
+        long misses = cache.getMisses();
+
+        Assertions.assertEquals("abcdefghij", client.payload(10));
+        Assertions.assertEquals("abcdefghij", client.payload(10));
+        Assertions.assertEquals("abcde", client.payload(5));
+        Assertions.assertEquals("abcdefghij", reactiveClient.completionStage(c -> c.payload(10))
+                .toCompletableFuture().get(10, TimeUnit.SECONDS));
+        Assertions.assertEquals(hits + 2, cache.getHits());
+        Assertions.assertEquals(misses + 2, cache.getMisses());
+
+        // evicts the response to 5, the least recently used one
+        Assertions.assertEquals("abc", client.payload(3));
+        Assertions.assertEquals(2, cache.size());
+        Assertions.assertEquals("abcde", client.payload(5));
+        Assertions.assertEquals(hits + 2, cache.getHits());
+        Assertions.assertEquals(misses + 4, cache.getMisses());
+    }
+}
@@ -1,13 +1,20 @@
 package io.quarkiverse.cxf.deployment.test;
 
 import javax.inject.Inject;
+import javax.inject.Named;
 
+import org.apache.cxf.BusFactory;
+import org.apache.cxf.endpoint.Client;
+import org.apache.cxf.frontend.ClientProxy;
+import org.apache.cxf.jaxb.JAXBDataBinding;
 import org.jboss.shrinkwrap.api.ShrinkWrap;
 import org.jboss.shrinkwrap.api.spec.JavaArchive;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
 
+import io.quarkiverse.cxf.CXFClientInfo;
+import io.quarkiverse.cxf.CxfClientModels;
 import io.quarkus.test.QuarkusUnitTest;
 
 public class CxfClientTest {
@@ -22,9 +29,21 @@ public class CxfClientTest {
     @Inject
     FruitWebService clientService;
 
+    @Inject
+    @Named("io.quarkiverse.cxf.deployment.test.FruitWebService")
+    CXFClientInfo clientInfo;
+
     @Test
     public void whenCheckingClientInjected() {
         Assertions.assertNotNull(clientService);
     }
 
+    @Test
+    public void whenCheckingClientModel_thenStartupJaxbContextShared() {
+        Client client = ClientProxy.getClient(((io.quarkus.arc.ClientProxy) clientService).arc_contextualInstance());
+        JAXBDataBinding dataBinding = (JAXBDataBinding) client.getEndpoint().getService().getDataBinding();
+        Assertions.assertSame(CxfClientModels.getJaxbContext(clientInfo, FruitWebService.class), dataBinding.getContext());
+        Assertions.assertSame(BusFactory.getDefaultBus(), client.getBus());
+    }
+
 }
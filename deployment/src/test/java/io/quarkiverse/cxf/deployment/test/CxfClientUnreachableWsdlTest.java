@@ -0,0 +1,33 @@
+package io.quarkiverse.cxf.deployment.test;
+
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Checks that the application starts when the remote WSDL of a client cannot be downloaded, the client failing only
+ * when it is used.
+ */
+public class CxfClientUnreachableWsdlTest {
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClass(FruitWebService.class)
+                    .addClass(Fruit.class))
+            .withConfigurationResource("application-cxf-unreachable-wsdl-test.properties");
+
+    @Inject
+    FruitWebService client;
+
+    @Test
+    public void whenWsdlUnreachable_thenStartedAndClientCreatedOnFirstUse() {
+        Assertions.assertThrows(RuntimeException.class, client::count);
+    }
+}
@@ -0,0 +1,38 @@
+package io.quarkiverse.cxf.deployment.test;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InjectableBean;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Checks that a client configured to be warmed up is created at startup.
+ */
+public class CxfClientWarmUpTest {
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClass(PayloadWebService.class)
+                    .addClass(PayloadWebServiceImpl.class)
+                    .addClass(PayloadClient.class))
+            .withConfigurationResource("application-cxf-client-warm-up-test.properties");
+
+    @Inject
+    PayloadClient client;
+
+    @Test
+    public void whenWarmUpEnabled_thenClientCreatedAtStartup() {
+        InjectableBean<PayloadClient> bean = Arc.container().instance(PayloadClient.class).getBean();
+        Assertions.assertNotNull(Arc.container().getActiveContext(ApplicationScoped.class).get(bean));
+        Assertions.assertEquals("abcdefghij", client.payload(10));
+    }
+}
@@ -0,0 +1,64 @@
+package io.quarkiverse.cxf.deployment.test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.util.concurrent.TimeUnit;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InjectableBean;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Checks that the application starts while a client warmed up at startup waits for the connections it opens to a
+ * service which accepts them but never answers.
+ */
+public class CxfClientWarmUpUnresponsiveTest {
+
+    /** set before the application starts, read by the test running in the class loader of the application */
+    private static final String STARTING = "cxf-client-warm-up-unresponsive-test.starting";
+
+    /** connections are queued in its backlog, none of them is ever accepted */
+    private static ServerSocket unresponsive;
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClass(PayloadWebService.class)
+                    .addClass(PayloadWebServiceImpl.class)
+                    .addClass(PayloadClient.class))
+            .withConfigurationResource("application-cxf-client-warm-up-unresponsive-test.properties")
+            .setBeforeAllCustomizer(() -> {
+                try {
+                    unresponsive = new ServerSocket(8094);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                System.setProperty(STARTING, String.valueOf(System.nanoTime()));
+            })
+            .setAfterAllCustomizer(() -> {
+                System.clearProperty(STARTING);
+                try {
+                    unresponsive.close();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+
+    @Test
+    public void whenServiceUnresponsive_thenStartupNotDelayed() {
+        InjectableBean<PayloadClient> bean = Arc.container().instance(PayloadClient.class).getBean();
+        Assertions.assertNotNull(Arc.container().getActiveContext(ApplicationScoped.class).get(bean));
+        // the connect timeout of the client is 60 s
+        Assertions.assertTrue(System.nanoTime() - Long.parseLong(System.getProperty(STARTING)) < TimeUnit.SECONDS
+                .toNanos(30));
+    }
+}
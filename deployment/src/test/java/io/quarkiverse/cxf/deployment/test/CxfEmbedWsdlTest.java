@@ -0,0 +1,109 @@
+package io.quarkiverse.cxf.deployment.test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.BindException;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Scanner;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.sun.net.httpserver.HttpServer;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Checks that a client with a remote WSDL reads it from the copy made at build time instead of downloading it.
+ * This class is loaded both by the test and by the application, the first one to be initialized starts the server.
+ */
+public class CxfEmbedWsdlTest {
+
+    private static final String WSDL_SERVER_URL = "http://localhost:8089";
+    private static final List<String> REQUESTS = new CopyOnWriteArrayList<>();
+    private static final HttpServer WSDL_SERVER = startWsdlServer();
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClass(PayloadWebService.class)
+                    .addClass(PayloadWebServiceImpl.class)
+                    .addClass(PayloadClient.class)
+                    .addClass(PayloadClientService.class))
+            .withConfigurationResource("application-cxf-embed-wsdl-test.properties");
+
+    @Inject
+    PayloadClient client;
+
+    @Test
+    public void whenWsdlEmbedded_thenOnlyDownloadedAtBuildTime() throws IOException {
+        // the WSDL and the schema it imports
+        Assertions.assertEquals("2", getRequestCount());
+        Assertions.assertEquals("abcdefghij", client.payload(10));
+        Assertions.assertEquals("2", getRequestCount());
+    }
+
+    @AfterAll
+    public static void stopWsdlServer() {
+        if (WSDL_SERVER != null) {
+            WSDL_SERVER.stop(0);
+        }
+    }
+
+    private static String getRequestCount() throws IOException {
+        try (Scanner scanner = new Scanner(new URL(WSDL_SERVER_URL + "/count").openStream(), "UTF-8")) {
+            return scanner.next();
+        }
+    }
+
+    private static HttpServer startWsdlServer() {
+        try {
+            HttpServer server;
+            try {
+                server = HttpServer.create(new InetSocketAddress("localhost", 8089), 0);
+            } catch (BindException e) {
+                return null;
+            }
+            server.createContext("/count", exchange -> {
+                byte[] count = String.valueOf(REQUESTS.size()).getBytes(StandardCharsets.UTF_8);
+                exchange.sendResponseHeaders(200, count.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(count);
+                }
+            });
+            server.createContext("/", exchange -> {
+                REQUESTS.add(exchange.getRequestURI().toString());
+                String path = exchange.getRequestURI().getPath();
+                String resource = "wsdl-embed" + (path.endsWith(".xsd") ? path : path + ".wsdl");
+                try (InputStream in = CxfEmbedWsdlTest.class.getClassLoader().getResourceAsStream(resource);
+                        OutputStream out = exchange.getResponseBody()) {
+                    if (in == null) {
+                        exchange.sendResponseHeaders(404, -1);
+                        return;
+                    }
+                    exchange.sendResponseHeaders(200, 0);
+                    byte[] buffer = new byte[4096];
+                    for (int n = in.read(buffer); n != -1; n = in.read(buffer)) {
+                        out.write(buffer, 0, n);
+                    }
+                }
+            });
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package io.quarkiverse.cxf.deployment.test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+
+/**
+ * Moves attachments much larger than the attachment memory threshold through an MTOM endpoint, in both directions.
+ */
+public class CxfMtomTest {
+
+    private static final String BOUNDARY = "uuid:5c0b1d5c-mtom-test";
+    private static final int SIZE = 16 * 1024 * 1024;
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClass(MtomWebService.class)
+                    .addClass(MtomWebServiceImpl.class))
+            .withConfigurationResource("application-cxf-mtom-test.properties");
+
+    @TestHTTPResource("/mtom")
+    URL url;
+
+    @Test
+    public void whenUploadingLargeAttachment_thenStreamedToImplementor() throws IOException, InterruptedException {
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        connection.setRequestMethod("POST");
+        connection.setRequestProperty("Content-Type", "multipart/related; type=\"application/xop+xml\"; boundary=\""
+                + BOUNDARY + "\"; start=\"<root.message@cxf.apache.org>\"; start-info=\"text/xml\"");
+        connection.setDoOutput(true);
+        connection.setChunkedStreamingMode(8192);
+        try (OutputStream out = connection.getOutputStream()) {
+            out.write(("--" + BOUNDARY + "\r\n"
+                    + "Content-Type: application/xop+xml; charset=UTF-8; type=\"text/xml\"\r\n"
+                    + "Content-Transfer-Encoding: binary\r\n"
+                    + "Content-ID: <root.message@cxf.apache.org>\r\n\r\n"
+                    + "<soapenv:Envelope xmlns:soapenv=\"http://schemas.xmlsoap.org/soap/envelope/\" xmlns:tem=\"http://test.deployment.cxf.quarkiverse.io/\">"
+                    + "<soapenv:Body><tem:upload><data><xop:Include xmlns:xop=\"http://www.w3.org/2004/08/xop/include\" href=\"cid:data@test\"/></data></tem:upload></soapenv:Body>"
+                    + "</soapenv:Envelope>\r\n"
+                    + "--" + BOUNDARY + "\r\n"
+                    + "Content-Type: application/octet-stream\r\n"
+                    + "Content-Transfer-Encoding: binary\r\n"
+                    + "Content-ID: <data@test>\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+            byte[] chunk = new byte[64 * 1024];
+            Arrays.fill(chunk, (byte) 'x');
+            for (int written = 0; written < SIZE; written += chunk.length) {
+                // the rest of the upload is only sent once the implementor reads the first half
+                if (written == SIZE / 2 && !MtomWebServiceImpl.UPLOAD_READING.await(10, TimeUnit.SECONDS)) {
+                    connection.disconnect();
+                    Assertions.fail("The implementor was not invoked before the end of the upload");
+                }
+                out.write(chunk);
+            }
+            out.write(("\r\n--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8));
+        }
+        Assertions.assertEquals(200, connection.getResponseCode());
+        String body = read(connection.getInputStream());
+        Assertions.assertTrue(body.contains(">" + SIZE + "</size>"), body);
+    }
+
+    @Test
+    public void whenDownloadingLargeAttachment_thenSentAsMtomAttachment() throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        connection.setRequestMethod("POST");
+        connection.setRequestProperty("Content-Type", "text/xml");
+        connection.setDoOutput(true);
+        try (OutputStream out = connection.getOutputStream()) {
+            out.write(
+                    ("<soapenv:Envelope xmlns:soapenv=\"http://schemas.xmlsoap.org/soap/envelope/\" xmlns:tem=\"http://test.deployment.cxf.quarkiverse.io/\">"
+                            + "<soapenv:Body><tem:download><size>" + SIZE + "</size></tem:download></soapenv:Body>"
+                            + "</soapenv:Envelope>").getBytes(StandardCharsets.UTF_8));
+        }
+        Assertions.assertEquals(200, connection.getResponseCode());
+        Assertions.assertTrue(connection.getContentType().startsWith("multipart/related"), connection.getContentType());
+        Assertions.assertEquals("chunked", connection.getHeaderField("Transfer-Encoding"));
+        long attachmentBytes = 0;
+        byte[] buffer = new byte[8192];
+        try (InputStream in = connection.getInputStream()) {
+            for (int len = in.read(buffer); len != -1; len = in.read(buffer)) {
+                for (int i = 0; i < len; i++) {
+                    if (buffer[i] == 'x') {
+                        attachmentBytes++;
+                    }
+                }
+            }
+        }
+        Assertions.assertTrue(attachmentBytes >= SIZE);
+    }
+
+    private static String read(InputStream in) throws IOException {
+        try (InputStream stream = in) {
+            byte[] buffer = new byte[8192];
+            StringBuilder body = new StringBuilder();
+            for (int len = stream.read(buffer); len != -1; len = stream.read(buffer)) {
+                body.append(new String(buffer, 0, len, StandardCharsets.UTF_8));
+            }
+            return body.toString();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package io.quarkiverse.cxf.deployment.test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.quarkiverse.cxf.CxfPhaseProfile;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class CxfPhaseProfilingTest {
+
+    private static final SimpleMeterRegistry REGISTRY = new SimpleMeterRegistry();
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClass(SlowWebService.class)
+                    .addClass(SlowWebServiceImpl.class)
+                    .addClass(SlowClient.class))
+            .withConfigurationResource("application-cxf-phase-profiling-test.properties");
+
+    @Inject
+    SlowClient client;
+
+    @BeforeAll
+    public static void addRegistry() {
+        Metrics.addRegistry(REGISTRY);
+    }
+
+    @AfterAll
+    public static void removeRegistry() {
+        Metrics.removeRegistry(REGISTRY);
+    }
+
+    @Test
+    public void whenInvoking_thenPhasesTimed() {
+        for (int i = 0; i < 3; i++) {
+            client.sleep(50);
+        }
+
+        Timer invoke = REGISTRY.find("cxf.phase")
+                .tags("side", "server", "endpoint", "/slow", "chain", "in", "phase", "invoke").timer();
+        Assertions.assertNotNull(invoke);
+        Assertions.assertEquals(3, invoke.count());
+        Assertions.assertTrue(invoke.totalTime(TimeUnit.MILLISECONDS) >= 150, invoke.totalTime(TimeUnit.MILLISECONDS)
+                + " ms in the invoke phase");
+        Timer unmarshal = REGISTRY.find("cxf.phase").tags("side", "server", "chain", "in", "phase", "unmarshal")
+                .timer();
+        Assertions.assertEquals(3, unmarshal.count());
+        Timer send = REGISTRY.find("cxf.phase").tags("side", "client", "endpoint", SlowClient.class.getName(), "chain",
+                "out", "phase", "prepare-send-ending").timer();
+        Assertions.assertEquals(3, send.count());
+        Assertions.assertTrue(send.totalTime(TimeUnit.MILLISECONDS) >= 150);
+
+        List<CxfPhaseProfile> profiles = CxfPhaseProfile.getRecent();
+        Assertions.assertTrue(profiles.size() <= 4);
+        Assertions.assertTrue(profiles.stream().anyMatch(profile -> profile.getSide().equals("client")
+                && profile.getChain().equals("out")
+                && profile.getOperation().equals("sleep")
+                && profile.getTotalMicros() >= 50000));
+        // the in chain of the server completes after it sent the response
+        long deadline = System.currentTimeMillis() + 5000;
+        while (CxfPhaseProfile.getRecent().stream().noneMatch(profile -> profile.getSide().equals("server")
+                && profile.getChain().equals("in")
+                && profile.getPhases().stream().anyMatch(phase -> phase.getPhase().equals("invoke")))) {
+            Assertions.assertTrue(System.currentTimeMillis() < deadline, "no profile of the server in chain");
+            Thread.yield();
+        }
+    }
+}
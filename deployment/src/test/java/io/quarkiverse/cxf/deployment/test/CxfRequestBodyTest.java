@@ -0,0 +1,89 @@
+package io.quarkiverse.cxf.deployment.test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.restassured.RestAssured;
+
+public class CxfRequestBodyTest {
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClass(FruitWebService.class)
+                    .addClass(FruitWebServiceImpl.class)
+                    .addClass(Fruit.class))
+            .withConfigurationResource("application-cxf-request-body-test.properties");
+
+    @TestHTTPResource("/fruit")
+    URL url;
+
+    private static String addRequest(int descriptionLength) {
+        StringBuilder description = new StringBuilder(descriptionLength);
+        for (int i = 0; i < descriptionLength; i++) {
+            description.append((char) ('a' + i % 26));
+        }
+        return "<soapenv:Envelope xmlns:soapenv=\"http://schemas.xmlsoap.org/soap/envelope/\" xmlns:tem=\"http://test.deployment.cxf.quarkiverse.io/\">\n"
+                +
+                "   <soapenv:Header/>\n" +
+                "   <soapenv:Body>\n" +
+                "      <tem:add>\n" +
+                "      <fruit>\n" +
+                "      <name>Durian</name>\n" +
+                "      <description>" + description + "</description>\n" +
+                "      </fruit>\n" +
+                "      </tem:add>\n" +
+                "   </soapenv:Body>\n" +
+                "</soapenv:Envelope>";
+    }
+
+    @Test
+    public void whenPostingLargeBody_thenCorrect() {
+        RestAssured.given().header("Content-Type", "text/xml").and().body(addRequest(1024 * 1024)).when().post("/fruit")
+                .then().statusCode(200);
+    }
+
+    @Test
+    public void whenPostingBodyOverLimit_thenRejected() {
+        RestAssured.given().header("Content-Type", "text/xml").and().body(addRequest(3 * 1024 * 1024)).when()
+                .post("/fruit")
+                .then().statusCode(413);
+    }
+
+    @Test
+    public void whenStreamingLargeBody_thenCorrect() throws IOException {
+        Assertions.assertEquals(200, postChunked(addRequest(1024 * 1024)));
+    }
+
+    @Test
+    public void whenStreamingBodyOverLimit_thenFault() throws IOException {
+        Assertions.assertEquals(500, postChunked(addRequest(3 * 1024 * 1024)));
+    }
+
+    private int postChunked(String xml) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        try {
+            connection.setDoOutput(true);
+            connection.setRequestMethod("POST");
+            connection.setRequestProperty("Content-Type", "text/xml");
+            connection.setChunkedStreamingMode(8192);
+            try (OutputStream out = connection.getOutputStream()) {
+                out.write(xml.getBytes(StandardCharsets.UTF_8));
+            }
+            return connection.getResponseCode();
+        } finally {
+            connection.disconnect();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package io.quarkiverse.cxf.deployment.test;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.restassured.response.Response;
+
+public class CxfServerMetricsTest {
+
+    private static final String ENVELOPE = "<soapenv:Envelope xmlns:soapenv=\"http://schemas.xmlsoap.org/soap/envelope/\""
+            + " xmlns:tem=\"http://test.deployment.cxf.quarkiverse.io/\"><soapenv:Body>%s</soapenv:Body></soapenv:Envelope>";
+
+    private static final SimpleMeterRegistry REGISTRY = new SimpleMeterRegistry();
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClass(FruitWebService.class)
+                    .addClass(FruitWebServiceImpl.class)
+                    .addClass(Fruit.class))
+            .withConfigurationResource("application-cxf-server-metrics-test.properties");
+
+    @BeforeAll
+    public static void addRegistry() {
+        Metrics.addRegistry(REGISTRY);
+    }
+
+    @AfterAll
+    public static void removeRegistry() {
+        Metrics.removeRegistry(REGISTRY);
+    }
+
+    @Test
+    public void whenInvokingOperations_thenMetricsRecorded() {
+        String count = String.format(ENVELOPE, "<tem:count/>");
+        for (int i = 0; i < 3; i++) {
+            Response response = RestAssured.given().header("Content-Type", "text/xml").body(count).post("/fruit");
+            response.then().statusCode(200);
+            // counting the response bytes does not flush the response buffer
+            Assertions.assertNotNull(response.header("Content-Length"));
+        }
+        RestAssured.given().header("Content-Type", "text/xml").body(String.format(ENVELOPE, "<tem:peel/>"))
+                .post("/fruit").then().statusCode(500);
+        RestAssured.given().get("/fruit?wsdl").then().statusCode(200);
+
+        Timer timer = REGISTRY.find("cxf.server.requests").tags("endpoint", "/fruit", "operation", "count",
+                "outcome", "success").timer();
+        Assertions.assertNotNull(timer);
+        Assertions.assertEquals(3, timer.count());
+        DistributionSummary requestSize = REGISTRY.find("cxf.server.request.size").tags("operation", "count")
+                .summary();
+        Assertions.assertEquals(3, requestSize.count());
+        Assertions.assertEquals(3 * count.length(), requestSize.totalAmount());
+        DistributionSummary responseSize = REGISTRY.find("cxf.server.response.size").tags("operation", "count")
+                .summary();
+        Assertions.assertEquals(3, responseSize.count());
+        Assertions.assertTrue(responseSize.max() > 0);
+
+        Counter faults = REGISTRY.find("cxf.server.faults").tags("endpoint", "/fruit", "operation", "unknown")
+                .counter();
+        Assertions.assertNotNull(faults);
+        Assertions.assertEquals(1, faults.count());
+        Assertions.assertEquals("Client", faults.getId().getTag("code"));
+        Assertions.assertEquals(1, REGISTRY.find("cxf.server.requests").tags("outcome", "fault").timer().count());
+
+        Gauge active = REGISTRY.find("cxf.server.requests.active").tags("endpoint", "/fruit").gauge();
+        Assertions.assertEquals(0, active.value());
+
+        Assertions.assertNotNull(REGISTRY.find("cxf.server.response.overflow.writes").functionCounter());
+        Assertions.assertNotNull(REGISTRY.find("cxf.server.response.overflow.bytes").functionCounter());
+        Assertions.assertNotNull(REGISTRY.find("cxf.server.response.drain.waits").functionTimer());
+    }
+}
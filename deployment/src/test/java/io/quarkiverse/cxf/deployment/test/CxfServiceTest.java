@@ -71,6 +71,9 @@ public class CxfServiceTest {
 
         Response response = RestAssured.given().header("Content-Type", "text/xml").and().body(xml).when().post("/fruit");
         response.then().statusCode(200);
+        // small responses fit in the response buffer and are not chunked
+        Assertions.assertNull(response.header("Transfer-Encoding"));
+        Assertions.assertEquals(response.body().asByteArray().length, Integer.parseInt(response.header("Content-Length")));
 
         DocumentBuilderFactory dbFactory = DocumentBuilderFactory.newInstance();
         DocumentBuilder dBuilder = dbFactory.newDocumentBuilder();
@@ -101,4 +104,41 @@ public class CxfServiceTest {
         Response response = RestAssured.given().header("Content-Type", "text/xml").and().body(xml).when().post("/fruit");
         response.then().statusCode(200);
     }
+
+    @Test
+    public void whenUsingUnknownOperation_thenFault() {
+        String xml = "<soapenv:Envelope xmlns:soapenv=\"http://schemas.xmlsoap.org/soap/envelope/\" xmlns:tem=\"http://test.deployment.cxf.quarkiverse.io/\">\n"
+                +
+                "   <soapenv:Header/>\n" +
+                "   <soapenv:Body>\n" +
+                "      <tem:peel/>\n" +
+                "   </soapenv:Body>\n" +
+                "</soapenv:Envelope>";
+
+        Response response = RestAssured.given().header("Content-Type", "text/xml").and().body(xml).when().post("/fruit");
+        response.then().statusCode(500);
+        Assertions.assertTrue(response.contentType().startsWith("text/xml"));
+        Assertions.assertTrue(response.body().asString().contains("Fault"));
+    }
+
+    @Test
+    public void whenListingServices_thenFruitIsListed() {
+        Response response = RestAssured.given().when().get("/services");
+        response.then().statusCode(200);
+        Assertions.assertTrue(response.body().asString().contains("FruitWebService"));
+    }
+
+    @Test
+    public void whenPathHasTrailingSlash_thenEndpointServes() {
+        String xml = "<soapenv:Envelope xmlns:soapenv=\"http://schemas.xmlsoap.org/soap/envelope/\" xmlns:tem=\"http://test.deployment.cxf.quarkiverse.io/\">"
+                + "<soapenv:Body><tem:count/></soapenv:Body></soapenv:Envelope>";
+        RestAssured.given().header("Content-Type", "text/xml").and().body(xml).when().post("/fruit/")
+                .then().statusCode(200);
+    }
+
+    @Test
+    public void whenUsingUnknownEndpoint_thenNotFound() {
+        RestAssured.given().header("Content-Type", "text/xml").and().body("<soapenv:Envelope/>").when().post("/vegetable")
+                .then().statusCode(404);
+    }
 }
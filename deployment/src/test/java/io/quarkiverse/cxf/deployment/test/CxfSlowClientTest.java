@@ -0,0 +1,122 @@
+package io.quarkiverse.cxf.deployment.test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+
+/**
+ * Downloads responses much larger than the write queue of the connection while reading slowly, so that the server
+ * has to wait for the queue to drain (worker) or set data aside until it does (event loop).
+ */
+public class CxfSlowClientTest {
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClass(PayloadWebService.class)
+                    .addClass(PayloadWebServiceImpl.class)
+                    .addClass(FlushingOutInterceptor.class))
+            .withConfigurationResource("application-cxf-slow-client-test.properties");
+
+    @TestHTTPResource("/payload")
+    URL url;
+
+    @TestHTTPResource("/payload-event-loop")
+    URL eventLoopUrl;
+
+    @TestHTTPResource("/payload-event-loop-buffered")
+    URL eventLoopBufferedUrl;
+
+    @TestHTTPResource("/payload-event-loop-flush")
+    URL eventLoopFlushUrl;
+
+    @Test
+    public void whenSlowClientDownloadsLargeResponse_thenComplete() throws Exception {
+        int size = 8 * 1024 * 1024;
+        String body = callPayload(url, size, "chunked");
+        Assertions.assertTrue(body.contains(new PayloadWebServiceImpl().payload(size)));
+        Assertions.assertTrue(body.endsWith("</soap:Envelope>"));
+    }
+
+    @Test
+    public void whenSlowClientDownloadsLargeResponseFromEventLoop_thenComplete() throws Exception {
+        int size = 2 * 1024 * 1024;
+        String body = callPayload(eventLoopUrl, size, "chunked");
+        Assertions.assertTrue(body.contains(new PayloadWebServiceImpl().payload(size)));
+        Assertions.assertTrue(body.endsWith("</soap:Envelope>"));
+    }
+
+    @Test
+    public void whenResponseFitsBufferOnEventLoop_thenWrittenOnceWithContentLength() throws Exception {
+        // the whole response fits the buffer, closing the stream writes it in one piece, filling the write queue
+        int size = 12 * 1024 * 1024;
+        String body = callPayload(eventLoopBufferedUrl, size, null);
+        Assertions.assertTrue(body.contains(new PayloadWebServiceImpl().payload(size)));
+        Assertions.assertTrue(body.endsWith("</soap:Envelope>"));
+    }
+
+    @Test
+    public void whenFlushFillsWriteQueueOnEventLoop_thenResponseEnded() throws Exception {
+        // the whole response fits the buffer, it is written in one chunk by the flush of FlushingOutInterceptor, which
+        // fills the write queue and leaves nothing for close but ending the response
+        int size = 12 * 1024 * 1024;
+        String body = callPayload(eventLoopFlushUrl, size, "chunked");
+        Assertions.assertTrue(body.contains(new PayloadWebServiceImpl().payload(size)));
+        Assertions.assertTrue(body.endsWith("</soap:Envelope>"));
+    }
+
+    /**
+     * @param transferEncoding the expected Transfer-Encoding of the response, or {@code null} for a response sent in
+     *        one piece with a Content-Length
+     */
+    private String callPayload(URL url, int size, String transferEncoding) throws IOException, InterruptedException {
+        String xml = "<soapenv:Envelope xmlns:soapenv=\"http://schemas.xmlsoap.org/soap/envelope/\" xmlns:tem=\"http://test.deployment.cxf.quarkiverse.io/\">\n"
+                +
+                "   <soapenv:Header/>\n" +
+                "   <soapenv:Body>\n" +
+                "      <tem:payload>\n" +
+                "      <size>" + size + "</size>\n" +
+                "      </tem:payload>\n" +
+                "   </soapenv:Body>\n" +
+                "</soapenv:Envelope>";
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        connection.setRequestMethod("POST");
+        connection.setRequestProperty("Content-Type", "text/xml");
+        connection.setDoOutput(true);
+        try (OutputStream out = connection.getOutputStream()) {
+            out.write(xml.getBytes(StandardCharsets.UTF_8));
+        }
+        Assertions.assertEquals(200, connection.getResponseCode());
+        Assertions.assertEquals(transferEncoding, connection.getHeaderField("Transfer-Encoding"));
+        if (transferEncoding == null) {
+            Assertions.assertNotNull(connection.getHeaderField("Content-Length"));
+        }
+        try (InputStream in = connection.getInputStream()) {
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read = 0;
+            for (int len = in.read(buffer); len != -1; len = in.read(buffer)) {
+                body.write(buffer, 0, len);
+                read += len;
+                if (read >= 256 * 1024) {
+                    read = 0;
+                    Thread.sleep(10);
+                }
+            }
+            return new String(body.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+}
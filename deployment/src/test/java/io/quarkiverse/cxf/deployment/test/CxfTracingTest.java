@@ -0,0 +1,142 @@
+package io.quarkiverse.cxf.deployment.test;
+
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import javax.inject.Inject;
+import javax.xml.ws.soap.SOAPFaultException;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import io.quarkiverse.cxf.CxfTracingFeature;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class CxfTracingTest {
+
+    private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+    private static final String ENVELOPE = "<soapenv:Envelope xmlns:soapenv=\"http://schemas.xmlsoap.org/soap/envelope/\""
+            + " xmlns:tem=\"http://test.deployment.cxf.quarkiverse.io/\"><soapenv:Header>"
+            + "<tc:traceparent xmlns:tc=\"" + CxfTracingFeature.SOAP_HEADER_NAMESPACE + "\">00-" + TRACE_ID
+            + "-00f067aa0ba902b7-01</tc:traceparent></soapenv:Header>"
+            + "<soapenv:Body><tem:sleep><millis>0</millis></tem:sleep></soapenv:Body></soapenv:Envelope>";
+
+    private static final InMemorySpanExporter EXPORTER = InMemorySpanExporter.create();
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClass(SlowWebService.class)
+                    .addClass(SlowWebServiceImpl.class)
+                    .addClass(SlowClient.class))
+            .withConfigurationResource("application-cxf-tracing-test.properties");
+
+    @Inject
+    SlowClient client;
+
+    @BeforeAll
+    public static void registerOpenTelemetry() {
+        GlobalOpenTelemetry.resetForTest();
+        OpenTelemetrySdk.builder()
+                .setTracerProvider(SdkTracerProvider.builder()
+                        .addSpanProcessor(SimpleSpanProcessor.create(EXPORTER))
+                        .build())
+                .setPropagators(ContextPropagators.create(W3CTraceContextPropagator.getInstance()))
+                .buildAndRegisterGlobal();
+    }
+
+    @AfterAll
+    public static void resetOpenTelemetry() {
+        GlobalOpenTelemetry.resetForTest();
+    }
+
+    @BeforeEach
+    public void reset() {
+        EXPORTER.reset();
+    }
+
+    @Test
+    public void whenInvoking_thenSpansPropagated() {
+        Span parent = GlobalOpenTelemetry.getTracer("test").spanBuilder("test").startSpan();
+        try (Scope ignored = parent.makeCurrent()) {
+            client.sleep(10);
+        } finally {
+            parent.end();
+        }
+
+        SpanData clientSpan = await(span -> span.getKind() == SpanKind.CLIENT);
+        SpanData serverSpan = await(span -> span.getKind() == SpanKind.SERVER);
+        String traceId = parent.getSpanContext().getTraceId();
+        Assertions.assertEquals("SlowWebService/sleep", clientSpan.getName());
+        Assertions.assertEquals(traceId, clientSpan.getTraceId());
+        Assertions.assertEquals(parent.getSpanContext().getSpanId(), clientSpan.getParentSpanId());
+        Assertions.assertEquals("sleep", clientSpan.getAttributes().get(AttributeKey.stringKey("rpc.method")));
+        Assertions.assertEquals("http://localhost:8081/slow",
+                clientSpan.getAttributes().get(AttributeKey.stringKey("http.url")));
+
+        Assertions.assertEquals("SlowWebService/sleep", serverSpan.getName());
+        Assertions.assertEquals(traceId, serverSpan.getTraceId());
+        Assertions.assertEquals(clientSpan.getSpanId(), serverSpan.getParentSpanId());
+        Assertions.assertEquals(StatusCode.UNSET, serverSpan.getStatus().getStatusCode());
+    }
+
+    @Test
+    public void whenFault_thenSpansFailed() {
+        Assertions.assertThrows(SOAPFaultException.class, () -> client.sleep(-1));
+
+        SpanData clientSpan = await(span -> span.getKind() == SpanKind.CLIENT);
+        SpanData serverSpan = await(span -> span.getKind() == SpanKind.SERVER);
+        for (SpanData span : new SpanData[] { clientSpan, serverSpan }) {
+            Assertions.assertEquals(StatusCode.ERROR, span.getStatus().getStatusCode(), span.getKind().name());
+            Assertions.assertEquals("Server", span.getAttributes().get(AttributeKey.stringKey("soap.fault.code")),
+                    span.getKind().name());
+            Assertions.assertFalse(span.getEvents().isEmpty(), span.getKind().name());
+        }
+    }
+
+    @Test
+    public void whenTraceContextInSoapHeader_thenServerSpanPropagated() {
+        RestAssured.given().header("Content-Type", "text/xml").body(ENVELOPE).post("/slow").then().statusCode(200);
+
+        SpanData serverSpan = await(span -> span.getKind() == SpanKind.SERVER);
+        Assertions.assertEquals(TRACE_ID, serverSpan.getTraceId());
+        Assertions.assertEquals("00f067aa0ba902b7", serverSpan.getParentSpanId());
+    }
+
+    /**
+     * The span of a server ends after it sent the response, possibly after the client got it.
+     */
+    private static SpanData await(Predicate<SpanData> filter) {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (true) {
+            List<SpanData> spans = EXPORTER.getFinishedSpanItems().stream().filter(filter).collect(Collectors.toList());
+            if (!spans.isEmpty()) {
+                Assertions.assertEquals(1, spans.size(), spans.toString());
+                return spans.get(0);
+            }
+            Assertions.assertTrue(System.currentTimeMillis() < deadline, "no span");
+            Thread.yield();
+        }
+    }
+}
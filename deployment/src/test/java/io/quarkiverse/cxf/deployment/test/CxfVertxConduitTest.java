@@ -0,0 +1,132 @@
+package io.quarkiverse.cxf.deployment.test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import javax.inject.Inject;
+import javax.xml.soap.SOAPFault;
+import javax.xml.ws.soap.SOAPFaultException;
+
+import org.apache.cxf.BusFactory;
+import org.apache.cxf.endpoint.Client;
+import org.apache.cxf.endpoint.ClientCallback;
+import org.apache.cxf.endpoint.Server;
+import org.apache.cxf.endpoint.ServerRegistry;
+import org.apache.cxf.frontend.ClientProxy;
+import org.apache.cxf.jaxb.JAXBDataBinding;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkiverse.cxf.CxfReactiveClient;
+import io.quarkiverse.cxf.transport.VertxHttpConduit;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Calls a service of the application through an injected client, which sends its requests through Vert.x.
+ */
+public class CxfVertxConduitTest {
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClass(PayloadWebService.class)
+                    .addClass(PayloadWebServiceImpl.class)
+                    .addClass(PayloadClient.class))
+            .withConfigurationResource("application-cxf-vertx-conduit-test.properties");
+
+    @Inject
+    PayloadClient client;
+
+    @Inject
+    CxfReactiveClient<PayloadClient> reactiveClient;
+
+    @Test
+    public void whenCreatingClient_thenVertxConduitUsed() {
+        Assertions.assertTrue(getClient().getConduit() instanceof VertxHttpConduit);
+    }
+
+    @Test
+    public void whenInvokingSynchronously_thenResponseReturned() {
+        Assertions.assertEquals("abcdefghij", client.payload(10));
+    }
+
+    @Test
+    public void whenReceivingLargeResponse_thenStreamedToClient() {
+        String payload = client.payload(4 * 1024 * 1024);
+        Assertions.assertEquals(4 * 1024 * 1024, payload.length());
+        Assertions.assertTrue(payload.endsWith("abcdefghij"));
+    }
+
+    @Test
+    public void whenInvokingAsynchronously_thenCallbackCompleted() throws Exception {
+        ClientCallback callback = new ClientCallback();
+        getClient().invoke(callback, "payload", 10);
+        Assertions.assertEquals("abcdefghij", callback.get(10, TimeUnit.SECONDS)[0]);
+    }
+
+    @Test
+    public void whenInvokingConcurrently_thenConnectionsShared() throws Exception {
+        // more invocations than connections in the pool
+        List<ClientCallback> callbacks = new ArrayList<>();
+        for (int i = 1; i <= 32; i++) {
+            ClientCallback callback = new ClientCallback();
+            getClient().invoke(callback, "payload", i);
+            callbacks.add(callback);
+        }
+        for (int i = 1; i <= callbacks.size(); i++) {
+            Assertions.assertEquals(i, ((String) callbacks.get(i - 1).get(10, TimeUnit.SECONDS)[0]).length());
+        }
+    }
+
+    @Test
+    public void whenServingAndCallingSameService_thenJaxbContextShared() {
+        Server server = BusFactory.getDefaultBus().getExtension(ServerRegistry.class).getServers().get(0);
+        JAXBDataBinding serverDataBinding = (JAXBDataBinding) server.getEndpoint().getService().getDataBinding();
+        JAXBDataBinding clientDataBinding = (JAXBDataBinding) getClient().getEndpoint().getService().getDataBinding();
+        Assertions.assertSame(serverDataBinding.getContext(), clientDataBinding.getContext());
+    }
+
+    @Test
+    public void whenInvokingReactively_thenUniCompleted() {
+        Assertions.assertEquals("abcdefghij",
+                reactiveClient.uni(c -> c.payload(10)).await().atMost(Duration.ofSeconds(10)));
+    }
+
+    @Test
+    public void whenNoOperationCalled_thenReactiveInvocationFails() {
+        Assertions.assertThrows(ExecutionException.class,
+                () -> reactiveClient.completionStage(c -> "nothing").toCompletableFuture().get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void whenServiceFailsReactively_thenFaultMappedAsSynchronously() {
+        // the implementor cannot create a payload of a negative size
+        SOAPFaultException expected = Assertions.assertThrows(SOAPFaultException.class, () -> client.payload(-1));
+        ExecutionException failure = Assertions.assertThrows(ExecutionException.class,
+                () -> reactiveClient.completionStage(c -> c.payload(-1)).toCompletableFuture().get(10, TimeUnit.SECONDS));
+        Assertions.assertTrue(failure.getCause() instanceof SOAPFaultException, failure.getCause().toString());
+        SOAPFault fault = ((SOAPFaultException) failure.getCause()).getFault();
+        Assertions.assertEquals(expected.getFault().getFaultCodeAsQName(), fault.getFaultCodeAsQName());
+        Assertions.assertEquals(expected.getFault().getFaultString(), fault.getFaultString());
+    }
+
+    @Test
+    public void whenThreadLocal_thenRequestContextNotShared() throws Exception {
+        Assertions.assertTrue(getClient().isThreadLocalRequestContext());
+        getClient().getRequestContext().put("test.key", "main");
+        CompletableFuture<Object> other = CompletableFuture.supplyAsync(() -> getClient().getRequestContext().get("test.key"));
+        Assertions.assertNull(other.get(10, TimeUnit.SECONDS));
+        getClient().getRequestContext().remove("test.key");
+    }
+
+    private Client getClient() {
+        return ClientProxy.getClient(((io.quarkus.arc.ClientProxy) client).arc_contextualInstance());
+    }
+}
@@ -0,0 +1,119 @@
+package io.quarkiverse.cxf.deployment.test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+
+/**
+ * Serves thousands of concurrent slow calls with a worker pool of four threads, which only completes in time when
+ * requests run on virtual threads. CXF invokes the implementor inside a monitor, so virtual threads are only used where
+ * monitors do not pin them (Java 24+), older JVMs serve the same requests on worker threads.
+ */
+public class CxfVirtualThreadServiceTest {
+
+    private static final int CALLS = 2000;
+    private static final int CONCURRENCY = 250;
+    private static final long SLEEP_MILLIS = 100;
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClass(SlowWebService.class)
+                    .addClass(SlowWebServiceImpl.class))
+            .withConfigurationResource("application-cxf-virtual-thread-test.properties");
+
+    @TestHTTPResource("/slow")
+    URL url;
+
+    @Test
+    public void whenCalling_thenImplementorRunsOnVirtualThread() throws IOException {
+        Assumptions.assumeTrue(getJavaVersion() >= 24, "virtual threads are pinned by monitors before Java 24");
+        Assertions.assertTrue(callSleep().contains("VirtualThread"));
+    }
+
+    @Test
+    public void whenCallingBeforeJava24_thenImplementorRunsOnWorkerThread() throws IOException {
+        Assumptions.assumeTrue(getJavaVersion() < 24, "virtual threads are used from Java 24");
+        String thread = callSleep();
+        Assertions.assertFalse(thread.contains("VirtualThread"), thread);
+        Assertions.assertTrue(thread.contains("worker-thread"), thread);
+    }
+
+    @Test
+    public void whenManySlowCallsInParallel_thenWorkerPoolIsNotExhausted() throws Exception {
+        Assumptions.assumeTrue(getJavaVersion() >= 24, "virtual threads are pinned by monitors before Java 24");
+
+        ExecutorService clients = Executors.newFixedThreadPool(CONCURRENCY);
+        try {
+            List<Future<String>> responses = new ArrayList<>();
+            long start = System.nanoTime();
+            for (int i = 0; i < CALLS; i++) {
+                responses.add(clients.submit(this::callSleep));
+            }
+            for (Future<String> response : responses) {
+                Assertions.assertTrue(response.get(60, TimeUnit.SECONDS).contains("VirtualThread"));
+            }
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            // four workers would need CALLS * SLEEP_MILLIS / 4 = 50 seconds
+            Assertions.assertTrue(elapsedMillis < 20000, "took " + elapsedMillis + " ms");
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    private String callSleep() throws IOException {
+        String xml = "<soapenv:Envelope xmlns:soapenv=\"http://schemas.xmlsoap.org/soap/envelope/\" xmlns:tem=\"http://test.deployment.cxf.quarkiverse.io/\">\n"
+                +
+                "   <soapenv:Header/>\n" +
+                "   <soapenv:Body>\n" +
+                "      <tem:sleep>\n" +
+                "      <millis>" + SLEEP_MILLIS + "</millis>\n" +
+                "      </tem:sleep>\n" +
+                "   </soapenv:Body>\n" +
+                "</soapenv:Envelope>";
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        connection.setRequestMethod("POST");
+        connection.setRequestProperty("Content-Type", "text/xml");
+        connection.setDoOutput(true);
+        try (OutputStream out = connection.getOutputStream()) {
+            out.write(xml.getBytes(StandardCharsets.UTF_8));
+        }
+        Assertions.assertEquals(200, connection.getResponseCode());
+        try (InputStream in = connection.getInputStream()) {
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            byte[] buffer = new byte[1024];
+            for (int len = in.read(buffer); len != -1; len = in.read(buffer)) {
+                body.write(buffer, 0, len);
+            }
+            return new String(body.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static int getJavaVersion() {
+        try {
+            return Integer.parseInt(System.getProperty("java.specification.version"));
+        } catch (NumberFormatException e) {
+            return 8;
+        }
+    }
+}
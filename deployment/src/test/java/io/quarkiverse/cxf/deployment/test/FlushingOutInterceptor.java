@@ -0,0 +1,36 @@
+package io.quarkiverse.cxf.deployment.test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.apache.cxf.interceptor.Fault;
+import org.apache.cxf.interceptor.MessageSenderInterceptor.MessageSenderEndingInterceptor;
+import org.apache.cxf.io.AbstractWrappedOutputStream;
+import org.apache.cxf.message.Message;
+import org.apache.cxf.phase.AbstractPhaseInterceptor;
+import org.apache.cxf.phase.Phase;
+
+/**
+ * Flushes the whole response right before the stream is closed, so that closing it has nothing left to write.
+ */
+public class FlushingOutInterceptor extends AbstractPhaseInterceptor<Message> {
+
+    public FlushingOutInterceptor() {
+        super(Phase.PREPARE_SEND_ENDING);
+        addBefore(MessageSenderEndingInterceptor.class.getName());
+    }
+
+    @Override
+    public void handleMessage(Message message) throws Fault {
+        try {
+            OutputStream out = message.getContent(OutputStream.class);
+            // StaxOutInterceptor keeps the XML writer from flushing the response stream, as an application may
+            if (out instanceof AbstractWrappedOutputStream) {
+                ((AbstractWrappedOutputStream) out).allowFlush(true);
+            }
+            out.flush();
+        } catch (IOException e) {
+            throw new Fault(e);
+        }
+    }
+}
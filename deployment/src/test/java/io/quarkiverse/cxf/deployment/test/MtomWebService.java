@@ -0,0 +1,21 @@
+package io.quarkiverse.cxf.deployment.test;
+
+import javax.activation.DataHandler;
+import javax.jws.WebMethod;
+import javax.jws.WebParam;
+import javax.jws.WebResult;
+import javax.jws.WebService;
+import javax.xml.bind.annotation.XmlMimeType;
+
+@WebService
+public interface MtomWebService {
+
+    @WebMethod
+    @WebResult(name = "size", targetNamespace = "http://test.deployment.cxf.quarkiverse.io/", partName = "parameters")
+    long upload(@WebParam(name = "data") @XmlMimeType("application/octet-stream") DataHandler data);
+
+    @WebMethod
+    @WebResult(name = "data", targetNamespace = "http://test.deployment.cxf.quarkiverse.io/", partName = "parameters")
+    @XmlMimeType("application/octet-stream")
+    DataHandler download(@WebParam(name = "size") int size);
+}
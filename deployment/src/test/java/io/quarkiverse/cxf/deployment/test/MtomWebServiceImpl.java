@@ -0,0 +1,65 @@
+package io.quarkiverse.cxf.deployment.test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CountDownLatch;
+
+import javax.activation.DataHandler;
+import javax.activation.DataSource;
+import javax.jws.WebService;
+
+@WebService(endpointInterface = "io.quarkiverse.cxf.deployment.test.MtomWebService", serviceName = "MtomWebService")
+public class MtomWebServiceImpl implements MtomWebService {
+
+    /** counted down once an upload started reading its attachment */
+    static final CountDownLatch UPLOAD_READING = new CountDownLatch(1);
+
+    @Override
+    public long upload(DataHandler data) {
+        long size = 0;
+        byte[] buffer = new byte[8192];
+        try (InputStream in = data.getInputStream()) {
+            for (int len = in.read(buffer); len != -1; len = in.read(buffer)) {
+                size += len;
+                UPLOAD_READING.countDown();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return size;
+    }
+
+    @Override
+    public DataHandler download(int size) {
+        return new DataHandler(new DataSource() {
+            @Override
+            public InputStream getInputStream() {
+                return new InputStream() {
+                    private int remaining = size;
+
+                    @Override
+                    public int read() {
+                        return remaining-- > 0 ? 'x' : -1;
+                    }
+                };
+            }
+
+            @Override
+            public OutputStream getOutputStream() {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public String getContentType() {
+                return "application/octet-stream";
+            }
+
+            @Override
+            public String getName() {
+                return "download";
+            }
+        });
+    }
+}
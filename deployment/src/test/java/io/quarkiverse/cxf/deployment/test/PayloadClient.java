@@ -0,0 +1,17 @@
+package io.quarkiverse.cxf.deployment.test;
+
+import javax.jws.WebMethod;
+import javax.jws.WebParam;
+import javax.jws.WebResult;
+import javax.jws.WebService;
+
+/**
+ * Client side view of {@link PayloadWebService}, which has no implementor so that a client is produced for it.
+ */
+@WebService(name = "PayloadWebService", targetNamespace = "http://test.deployment.cxf.quarkiverse.io/")
+public interface PayloadClient {
+
+    @WebMethod
+    @WebResult(name = "payload", targetNamespace = "http://test.deployment.cxf.quarkiverse.io/", partName = "parameters")
+    String payload(@WebParam(name = "size") int size);
+}
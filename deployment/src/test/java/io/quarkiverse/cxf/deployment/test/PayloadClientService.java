@@ -0,0 +1,24 @@
+package io.quarkiverse.cxf.deployment.test;
+
+import java.net.URL;
+
+import javax.xml.namespace.QName;
+import javax.xml.ws.Service;
+import javax.xml.ws.WebEndpoint;
+import javax.xml.ws.WebServiceClient;
+
+/**
+ * Service of {@link PayloadClient} as described by wsdl-embed/payload.wsdl.
+ */
+@WebServiceClient(name = "PayloadService", targetNamespace = "http://test.deployment.cxf.quarkiverse.io/")
+public class PayloadClientService extends Service {
+
+    public PayloadClientService(URL wsdlLocation) {
+        super(wsdlLocation, new QName("http://test.deployment.cxf.quarkiverse.io/", "PayloadService"));
+    }
+
+    @WebEndpoint(name = "PayloadWebServicePort")
+    public PayloadClient getPayloadWebServicePort() {
+        return super.getPort(PayloadClient.class);
+    }
+}
@@ -0,0 +1,17 @@
+package io.quarkiverse.cxf.deployment.test;
+
+import javax.jws.WebParam;
+import javax.jws.WebService;
+
+@WebService(endpointInterface = "io.quarkiverse.cxf.deployment.test.PayloadWebService", serviceName = "PayloadWebService")
+public class PayloadWebServiceImpl implements PayloadWebService {
+
+    @Override
+    public String payload(@WebParam(name = "size") int size) {
+        StringBuilder payload = new StringBuilder(size);
+        for (int i = 0; i < size; i++) {
+            payload.append((char) ('a' + i % 26));
+        }
+        return payload.toString();
+    }
+}
@@ -0,0 +1,17 @@
+package io.quarkiverse.cxf.deployment.test;
+
+import javax.jws.WebMethod;
+import javax.jws.WebParam;
+import javax.jws.WebResult;
+import javax.jws.WebService;
+
+/**
+ * Client side view of {@link SlowWebService}, which has no implementor so that a client is produced for it.
+ */
+@WebService(name = "SlowWebService", targetNamespace = "http://test.deployment.cxf.quarkiverse.io/")
+public interface SlowClient {
+
+    @WebMethod
+    @WebResult(name = "thread", targetNamespace = "http://test.deployment.cxf.quarkiverse.io/", partName = "parameters")
+    String sleep(@WebParam(name = "millis") long millis);
+}
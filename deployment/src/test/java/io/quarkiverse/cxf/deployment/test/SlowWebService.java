@@ -0,0 +1,14 @@
+package io.quarkiverse.cxf.deployment.test;
+
+import javax.jws.WebMethod;
+import javax.jws.WebParam;
+import javax.jws.WebResult;
+import javax.jws.WebService;
+
+@WebService
+public interface SlowWebService {
+
+    @WebMethod
+    @WebResult(name = "thread", targetNamespace = "http://test.deployment.cxf.quarkiverse.io/", partName = "parameters")
+    String sleep(@WebParam(name = "millis") long millis);
+}
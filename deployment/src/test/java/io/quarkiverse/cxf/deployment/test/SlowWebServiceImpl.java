@@ -0,0 +1,18 @@
+package io.quarkiverse.cxf.deployment.test;
+
+import javax.jws.WebParam;
+import javax.jws.WebService;
+
+@WebService(endpointInterface = "io.quarkiverse.cxf.deployment.test.SlowWebService", serviceName = "SlowWebService")
+public class SlowWebServiceImpl implements SlowWebService {
+
+    @Override
+    public String sleep(@WebParam(name = "millis") long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return Thread.currentThread().toString();
+    }
+}
@@ -1,5 +1,7 @@
 package io.quarkiverse.it.cxf;
 
+import java.util.concurrent.CompletionStage;
+
 import javax.inject.Inject;
 import javax.ws.rs.GET;
 import javax.ws.rs.Path;
@@ -10,6 +12,8 @@ import javax.ws.rs.core.MediaType;
 import org.tempuri.CalculatorSoap;
 import org.tempuri.alt.AltCalculatorSoap;
 
+import io.quarkiverse.cxf.CxfReactiveClient;
+
 @Path("/rest/clientfacade")
 public class ClientFacadeResource {
 
@@ -19,6 +23,9 @@ public class ClientFacadeResource {
     @Inject
     AltCalculatorSoap altCalculatorWS;
 
+    @Inject
+    CxfReactiveClient<CalculatorSoap> reactiveCalculatorWS;
+
     @GET
     @Path("/multiply")
     @Produces(MediaType.TEXT_PLAIN)
@@ -26,6 +33,13 @@ public class ClientFacadeResource {
         return calculatorWS.multiply(a, b);
     }
 
+    @GET
+    @Path("/multiply-async")
+    @Produces(MediaType.TEXT_PLAIN)
+    public CompletionStage<Integer> multiplyAsync(@QueryParam("a") int a, @QueryParam("b") int b) {
+        return reactiveCalculatorWS.completionStage(c -> c.multiply(a, b));
+    }
+
     @GET
     @Path("/add")
     @Produces(MediaType.TEXT_PLAIN)
@@ -19,6 +19,13 @@ class ClientFacadeResourceTest {
                 .then().statusCode(200).body(is("221"));
     }
 
+    @Test
+    public void testMultiplyAsync() {
+        given().param("a", 13).param("b", 17)
+                .when().get("/rest/clientfacade/multiply-async")
+                .then().statusCode(200).body(is("221"));
+    }
+
     @Test
     public void testAdd() {
         given().param("a", 19).param("b", 23)
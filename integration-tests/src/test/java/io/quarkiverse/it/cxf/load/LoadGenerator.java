@@ -0,0 +1,129 @@
+package io.quarkiverse.it.cxf.load;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpClientRequest;
+
+/**
+ * Sends the requests of a {@link LoadScenario} at a fixed rate, whether or not the responses to the previous ones
+ * came back, as independent users would: the rate is that of an open model, not that of a given number of users
+ * waiting for each of their responses.
+ * <p>
+ * The latency of a request is measured from the time it was meant to be sent rather than from the time it was sent,
+ * so that a stalled application is charged for the requests it held back, instead of them being omitted from the
+ * results as coordinated omission would. The requests are sent by the Vert.x event loop of the generator, which
+ * catches up with the schedule if late, and wait for a connection when all are busy.
+ */
+final class LoadGenerator implements AutoCloseable {
+
+    private static final long TIMEOUT_MILLIS = 10_000;
+
+    private final Vertx vertx;
+    private final HttpClient client;
+    private final ProcessMemory memory;
+
+    /**
+     * @param port the HTTP port of the application
+     * @param connections the maximum number of connections to the application
+     * @param memory the process serving the application
+     */
+    LoadGenerator(int port, int connections, ProcessMemory memory) {
+        this.vertx = Vertx.vertx();
+        this.client = vertx.createHttpClient(new HttpClientOptions()
+                .setDefaultHost("localhost")
+                .setDefaultPort(port)
+                .setMaxPoolSize(connections)
+                .setMaxWaitQueueSize(-1));
+        this.memory = memory;
+    }
+
+    /**
+     * Sends {@code rate} requests per second during {@code seconds}, then waits for their responses.
+     */
+    LoadResult run(LoadScenario scenario, int rate, int seconds) throws InterruptedException {
+        Run run = new Run(scenario, rate * seconds, TimeUnit.SECONDS.toNanos(1) / rate);
+        vertx.setPeriodic(1, run::send);
+        if (!run.done.await(seconds * 1000L + TIMEOUT_MILLIS * 2, TimeUnit.MILLISECONDS)) {
+            throw new IllegalStateException(run.done.getCount() + " requests of " + scenario.getName()
+                    + " neither completed nor timed out");
+        }
+        long elapsed = System.nanoTime() - run.start;
+        long[] latencies = new long[run.total];
+        for (int i = 0; i < latencies.length; i++) {
+            latencies[i] = run.latencies.get(i);
+        }
+        return new LoadResult(scenario.getName(), rate, seconds, latencies, elapsed, memory.getRssKb(),
+                memory.getPeakRssKb());
+    }
+
+    @Override
+    public void close() {
+        client.close();
+        vertx.close();
+    }
+
+    private final class Run {
+        private final LoadScenario scenario;
+        private final int total;
+        private final long interval;
+        private final long start = System.nanoTime();
+        /** The latency of each request in nanoseconds, 0 while in flight and -1 once failed. */
+        private final AtomicLongArray latencies;
+        private final CountDownLatch done;
+        /** Only accessed by the timer. */
+        private int sent;
+
+        private Run(LoadScenario scenario, int total, long interval) {
+            this.scenario = scenario;
+            this.total = total;
+            this.interval = interval;
+            this.latencies = new AtomicLongArray(total);
+            this.done = new CountDownLatch(total);
+        }
+
+        /**
+         * Sends the requests due by now.
+         */
+        private void send(long timer) {
+            long now = System.nanoTime();
+            while (sent < total && start + sent * interval <= now) {
+                send(sent, start + sent * interval);
+                sent++;
+            }
+            if (sent == total) {
+                vertx.cancelTimer(timer);
+            }
+        }
+
+        @SuppressWarnings("deprecation")
+        private void send(int index, long intended) {
+            HttpClientRequest request = client.request(scenario.getMethod(), scenario.getUri());
+            request.headers().addAll(scenario.getHeaders());
+            request.setTimeout(TIMEOUT_MILLIS);
+            request.exceptionHandler(e -> complete(index, -1));
+            request.handler(response -> {
+                response.exceptionHandler(e -> complete(index, -1));
+                response.bodyHandler(body -> {
+                    boolean ok = response.statusCode() == 200 && body.toString().contains(scenario.getExpected());
+                    complete(index, ok ? Math.max(1, System.nanoTime() - intended) : -1);
+                });
+            });
+            if (scenario.getBody() != null) {
+                request.end(scenario.getBody().copy());
+            } else {
+                request.end();
+            }
+        }
+
+        private void complete(int index, long latency) {
+            if (latencies.compareAndSet(index, 0, latency)) {
+                done.countDown();
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package io.quarkiverse.it.cxf.load;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The latencies, throughput and memory of the application under a {@link LoadScenario}.
+ */
+final class LoadResult {
+
+    private final String scenario;
+    private final int rate;
+    private final int seconds;
+    private final int requests;
+    private final int errors;
+    private final double throughput;
+    /** The latencies of the successful requests in nanoseconds, in ascending order. */
+    private final long[] latencies;
+    private final long rssKb;
+    private final long peakRssKb;
+
+    /**
+     * @param latencies the latency of each request in nanoseconds, or -1 if it failed
+     * @param elapsed the nanoseconds from the first request due to the last response
+     */
+    LoadResult(String scenario, int rate, int seconds, long[] latencies, long elapsed, long rssKb, long peakRssKb) {
+        this.scenario = scenario;
+        this.rate = rate;
+        this.seconds = seconds;
+        this.requests = latencies.length;
+        this.latencies = Arrays.stream(latencies).filter(latency -> latency > 0).sorted().toArray();
+        this.errors = requests - this.latencies.length;
+        this.throughput = this.latencies.length * (double) TimeUnit.SECONDS.toNanos(1) / elapsed;
+        this.rssKb = rssKb;
+        this.peakRssKb = peakRssKb;
+    }
+
+    int getRequests() {
+        return requests;
+    }
+
+    int getErrors() {
+        return errors;
+    }
+
+    /**
+     * @return the latency in milliseconds under which {@code quantile} of the successful requests completed
+     */
+    double getLatencyMillis(double quantile) {
+        if (latencies.length == 0) {
+            return Double.NaN;
+        }
+        int rank = (int) Math.ceil(quantile * latencies.length);
+        return latencies[Math.max(0, Math.min(rank, latencies.length) - 1)] / 1e6;
+    }
+
+    /**
+     * @param mode {@code jvm} or {@code native}
+     * @param version the version of the extension
+     */
+    String toJson(String mode, String version) {
+        return String.format(Locale.ROOT, "{%n"
+                + "  \"scenario\": \"%s\",%n"
+                + "  \"mode\": \"%s\",%n"
+                + "  \"version\": \"%s\",%n"
+                + "  \"rate\": %d,%n"
+                + "  \"seconds\": %d,%n"
+                + "  \"requests\": %d,%n"
+                + "  \"errors\": %d,%n"
+                + "  \"throughput\": %.1f,%n"
+                + "  \"latencyMillis\": { \"p50\": %.3f, \"p99\": %.3f, \"p999\": %.3f, \"max\": %.3f },%n"
+                + "  \"rssKb\": %d,%n"
+                + "  \"peakRssKb\": %d%n"
+                + "}%n",
+                scenario, mode, version, rate, seconds, requests, errors, throughput, getLatencyMillis(0.5),
+                getLatencyMillis(0.99), getLatencyMillis(0.999), getLatencyMillis(1), rssKb, peakRssKb);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT,
+                "%s at %d req/s for %d s: %d requests, %d errors, %.1f req/s,"
+                        + " latency p50 %.3f ms, p99 %.3f ms, p999 %.3f ms, max %.3f ms, RSS %d kB, peak RSS %d kB",
+                scenario, rate, seconds, requests, errors, throughput, getLatencyMillis(0.5), getLatencyMillis(0.99),
+                getLatencyMillis(0.999), getLatencyMillis(1), rssKb, peakRssKb);
+    }
+}
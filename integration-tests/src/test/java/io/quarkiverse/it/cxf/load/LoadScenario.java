@@ -0,0 +1,72 @@
+package io.quarkiverse.it.cxf.load;
+
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpMethod;
+
+/**
+ * A request sent over and over by the {@link LoadGenerator}, and what its response must contain to count as a success.
+ */
+final class LoadScenario {
+
+    private final String name;
+    private final HttpMethod method;
+    private final String uri;
+    private final MultiMap headers = MultiMap.caseInsensitiveMultiMap();
+    private final Buffer body;
+    private final String expected;
+
+    private LoadScenario(String name, HttpMethod method, String uri, Buffer body, String expected) {
+        this.name = name;
+        this.method = method;
+        this.uri = uri;
+        this.body = body;
+        this.expected = expected;
+    }
+
+    /**
+     * A SOAP request served by an endpoint of the application.
+     */
+    static LoadScenario soap(String name, String uri, String envelope, String expected) {
+        LoadScenario scenario = new LoadScenario(name, HttpMethod.POST, uri, Buffer.buffer(envelope), expected);
+        scenario.headers.set("Content-Type", "text/xml; charset=UTF-8");
+        return scenario;
+    }
+
+    /**
+     * A plain request to a resource of the application, e.g. one calling a SOAP client.
+     */
+    static LoadScenario get(String name, String uri, String expected) {
+        return new LoadScenario(name, HttpMethod.GET, uri, null, expected);
+    }
+
+    String getName() {
+        return name;
+    }
+
+    HttpMethod getMethod() {
+        return method;
+    }
+
+    String getUri() {
+        return uri;
+    }
+
+    MultiMap getHeaders() {
+        return headers;
+    }
+
+    /**
+     * @return the request body, or {@code null} if none
+     */
+    Buffer getBody() {
+        return body;
+    }
+
+    /**
+     * @return a string the body of a successful response contains
+     */
+    String getExpected() {
+        return expected;
+    }
+}
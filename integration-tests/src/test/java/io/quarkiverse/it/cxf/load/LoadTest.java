@@ -0,0 +1,105 @@
+package io.quarkiverse.it.cxf.load;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.jboss.logging.Logger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import io.quarkiverse.it.cxf.MockWSTestResource;
+import io.quarkus.test.common.QuarkusTestResource;
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.RestAssured;
+
+/**
+ * Drives the SOAP endpoint and the SOAP clients of the application at a fixed rate, the clients calling the mock
+ * backend of {@link MockWSTestResource}, and writes the latencies, throughput and memory of each scenario to
+ * {@code target/load-test/<mode>-<scenario>.json}. Only enabled by the {@code load-test} profile, which sets:
+ * <ul>
+ * <li>{@code load-test.rate}: the requests per second, 200 by default,</li>
+ * <li>{@code load-test.warmup}: the seconds of warm-up at that rate, left out of the results, 10 by default,</li>
+ * <li>{@code load-test.duration}: the seconds of measurement, 30 by default,</li>
+ * <li>{@code load-test.connections}: the maximum number of connections to the application, 64 by default.</li>
+ * </ul>
+ * In JVM mode the RSS is that of the JVM running the tests and the load generator along with the application.
+ */
+@QuarkusTest
+@QuarkusTestResource(value = MockWSTestResource.class)
+@EnabledIfSystemProperty(named = "load-test", matches = "true")
+class LoadTest {
+
+    private static final Logger LOG = Logger.getLogger(LoadTest.class);
+
+    private static final String GREETING = "<x:Envelope xmlns:x=\"http://schemas.xmlsoap.org/soap/envelope/\""
+            + " xmlns:cxf=\"http://cxf.it.quarkiverse.io/\"><x:Header/><x:Body>"
+            + "<cxf:reply><text>foo</text></cxf:reply></x:Body></x:Envelope>";
+
+    private final int rate = Integer.getInteger("load-test.rate", 200);
+    private final int warmup = Integer.getInteger("load-test.warmup", 10);
+    private final int duration = Integer.getInteger("load-test.duration", 30);
+    private final int connections = Integer.getInteger("load-test.connections", 64);
+
+    private LoadGenerator generator;
+
+    @BeforeEach
+    void startGenerator() {
+        generator = new LoadGenerator(RestAssured.port, connections, memory());
+    }
+
+    @AfterEach
+    void stopGenerator() {
+        generator.close();
+    }
+
+    @Test
+    void server() throws Exception {
+        run(LoadScenario.soap("server", "/soap/greeting", GREETING, "Hello foo"));
+    }
+
+    @Test
+    void client() throws Exception {
+        run(LoadScenario.get("client", "/rest/clientfacade/multiply?a=13&b=17", "221"));
+    }
+
+    @Test
+    void clientAsync() throws Exception {
+        run(LoadScenario.get("client-async", "/rest/clientfacade/multiply-async?a=13&b=17", "221"));
+    }
+
+    /**
+     * @return {@code jvm} or {@code native}
+     */
+    protected String mode() {
+        return "jvm";
+    }
+
+    /**
+     * @return the process serving the application
+     */
+    protected ProcessMemory memory() {
+        return ProcessMemory.self();
+    }
+
+    private void run(LoadScenario scenario) throws InterruptedException, IOException {
+        if (warmup > 0) {
+            LOG.infof("Warm-up: %s", generator.run(scenario, rate, warmup));
+        }
+        LoadResult result = generator.run(scenario, rate, duration);
+        LOG.infof("%s: %s", mode(), result);
+
+        Path report = Paths.get(System.getProperty("load-test.report-dir", "target/load-test"))
+                .resolve(mode() + "-" + scenario.getName() + ".json");
+        Files.createDirectories(report.getParent());
+        Files.write(report, result.toJson(mode(), System.getProperty("load-test.version", "unknown"))
+                .getBytes(StandardCharsets.UTF_8));
+
+        Assertions.assertEquals(0, result.getErrors(), result.toString());
+    }
+}
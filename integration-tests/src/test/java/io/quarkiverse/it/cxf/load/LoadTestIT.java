@@ -0,0 +1,17 @@
+package io.quarkiverse.it.cxf.load;
+
+import io.quarkus.test.junit.NativeImageTest;
+
+@NativeImageTest
+class LoadTestIT extends LoadTest {
+
+    @Override
+    protected String mode() {
+        return "native";
+    }
+
+    @Override
+    protected ProcessMemory memory() {
+        return ProcessMemory.of(System.getProperty("native.image.path"));
+    }
+}
@@ -0,0 +1,94 @@
+package io.quarkiverse.it.cxf.load;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * The resident set size of the process serving the application, read from {@code /proc}, so only on Linux.
+ */
+final class ProcessMemory {
+
+    private static final Path PROC = Paths.get("/proc");
+
+    private final Path status;
+
+    private ProcessMemory(Path status) {
+        this.status = status;
+    }
+
+    /**
+     * The current process, which serves the application in JVM mode, along with the tests and the load generator.
+     */
+    static ProcessMemory self() {
+        return new ProcessMemory(PROC.resolve("self/status"));
+    }
+
+    /**
+     * The process running {@code executable}, e.g. the native image of the application.
+     */
+    static ProcessMemory of(String executable) {
+        if (executable != null && Files.isDirectory(PROC)) {
+            try (DirectoryStream<Path> processes = Files.newDirectoryStream(PROC, "[0-9]*")) {
+                for (Path process : processes) {
+                    if (executable.equals(command(process))) {
+                        return new ProcessMemory(process.resolve("status"));
+                    }
+                }
+            } catch (IOException e) {
+                // unknown then
+            }
+        }
+        return new ProcessMemory(null);
+    }
+
+    private static String command(Path process) {
+        try {
+            byte[] cmdline = Files.readAllBytes(process.resolve("cmdline"));
+            int end = 0;
+            while (end < cmdline.length && cmdline[end] != 0) {
+                end++;
+            }
+            return new String(cmdline, 0, end, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            // gone or not ours
+            return null;
+        }
+    }
+
+    /**
+     * @return the current resident set size in kB, or -1 if unknown
+     */
+    long getRssKb() {
+        return read("VmRSS:");
+    }
+
+    /**
+     * @return the peak resident set size in kB, or -1 if unknown
+     */
+    long getPeakRssKb() {
+        return read("VmHWM:");
+    }
+
+    private long read(String field) {
+        if (status == null) {
+            return -1;
+        }
+        try {
+            List<String> lines = Files.readAllLines(status, StandardCharsets.UTF_8);
+            for (String line : lines) {
+                if (line.startsWith(field)) {
+                    // e.g. "VmRSS:     123456 kB"
+                    return Long.parseLong(line.substring(field.length()).replace("kB", "").trim());
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            // unknown then
+        }
+        return -1;
+    }
+}
@@ -28,6 +28,31 @@ public class CXFClientInfo {
     private List<String> inFaultInterceptors;
     private List<String> features;
     private List<String> classNames;
+    private int connectionPoolSize;
+    private long idleTimeout;
+    private long connectTimeout;
+    private boolean http2;
+    private ClientConcurrencyMode concurrencyMode;
+    private int proxyPoolSize;
+    private boolean warmUp;
+    private int warmUpConnections;
+    private List<String> cachedOperations;
+    private long responseCacheTtl;
+    private int responseCacheMaxSize;
+    private List<String> coalescedOperations;
+    private long receiveTimeout;
+    private int maxConcurrentRequests;
+    private boolean circuitBreaker;
+    private int circuitBreakerRequestVolume;
+    private double circuitBreakerFailureRatio;
+    private long circuitBreakerDelay;
+    private boolean adaptiveTimeout;
+    private double adaptiveTimeoutPercentile;
+    private double adaptiveTimeoutMultiplier;
+    private boolean profiling;
+    private int profilingHistory;
+    private boolean tracing;
+    private boolean tracingSoapHeaders;
     private static final Logger LOGGER = Logger.getLogger(CXFClientInfo.class);
 
     public CXFClientInfo() {
@@ -52,6 +77,8 @@ public class CXFClientInfo {
         this.outFaultInterceptors = new ArrayList<>();
         this.inFaultInterceptors = new ArrayList<>();
         this.features = new ArrayList<>();
+        this.cachedOperations = new ArrayList<>();
+        this.coalescedOperations = new ArrayList<>();
     }
 
     public String getSei() {
@@ -121,4 +148,229 @@ public class CXFClientInfo {
     public List<String> getInFaultInterceptors() {
         return inFaultInterceptors;
     }
+
+    public int getConnectionPoolSize() {
+        return connectionPoolSize;
+    }
+
+    public void setConnectionPoolSize(int connectionPoolSize) {
+        this.connectionPoolSize = connectionPoolSize;
+    }
+
+    /**
+     * @return how long a pooled connection may stay unused, in milliseconds
+     */
+    public long getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    public void setIdleTimeout(long idleTimeout) {
+        this.idleTimeout = idleTimeout;
+    }
+
+    /**
+     * @return how long establishing a connection may take, in milliseconds
+     */
+    public long getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    public void setConnectTimeout(long connectTimeout) {
+        this.connectTimeout = connectTimeout;
+    }
+
+    public boolean isHttp2() {
+        return http2;
+    }
+
+    public void setHttp2(boolean http2) {
+        this.http2 = http2;
+    }
+
+    public ClientConcurrencyMode getConcurrencyMode() {
+        return concurrencyMode;
+    }
+
+    public void setConcurrencyMode(ClientConcurrencyMode concurrencyMode) {
+        this.concurrencyMode = concurrencyMode;
+    }
+
+    public int getProxyPoolSize() {
+        return proxyPoolSize;
+    }
+
+    public void setProxyPoolSize(int proxyPoolSize) {
+        this.proxyPoolSize = proxyPoolSize;
+    }
+
+    public boolean isWarmUp() {
+        return warmUp;
+    }
+
+    public void setWarmUp(boolean warmUp) {
+        this.warmUp = warmUp;
+    }
+
+    public int getWarmUpConnections() {
+        return warmUpConnections;
+    }
+
+    public void setWarmUpConnections(int warmUpConnections) {
+        this.warmUpConnections = warmUpConnections;
+    }
+
+    /**
+     * @return the names of the operations whose responses are cached
+     */
+    public List<String> getCachedOperations() {
+        return cachedOperations;
+    }
+
+    /**
+     * @return how long a cached response is used, in milliseconds
+     */
+    public long getResponseCacheTtl() {
+        return responseCacheTtl;
+    }
+
+    public void setResponseCacheTtl(long responseCacheTtl) {
+        this.responseCacheTtl = responseCacheTtl;
+    }
+
+    public int getResponseCacheMaxSize() {
+        return responseCacheMaxSize;
+    }
+
+    public void setResponseCacheMaxSize(int responseCacheMaxSize) {
+        this.responseCacheMaxSize = responseCacheMaxSize;
+    }
+
+    /**
+     * @return the names of the operations whose concurrent invocations with the same request payload are coalesced
+     */
+    public List<String> getCoalescedOperations() {
+        return coalescedOperations;
+    }
+
+    /**
+     * @return how long a response is waited for, in milliseconds
+     */
+    public long getReceiveTimeout() {
+        return receiveTimeout;
+    }
+
+    public void setReceiveTimeout(long receiveTimeout) {
+        this.receiveTimeout = receiveTimeout;
+    }
+
+    /**
+     * @return the maximum number of invocations in flight, 0 for no limit
+     */
+    public int getMaxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
+    public void setMaxConcurrentRequests(int maxConcurrentRequests) {
+        this.maxConcurrentRequests = maxConcurrentRequests;
+    }
+
+    public boolean isCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    public void setCircuitBreaker(boolean circuitBreaker) {
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    public int getCircuitBreakerRequestVolume() {
+        return circuitBreakerRequestVolume;
+    }
+
+    public void setCircuitBreakerRequestVolume(int circuitBreakerRequestVolume) {
+        this.circuitBreakerRequestVolume = circuitBreakerRequestVolume;
+    }
+
+    public double getCircuitBreakerFailureRatio() {
+        return circuitBreakerFailureRatio;
+    }
+
+    public void setCircuitBreakerFailureRatio(double circuitBreakerFailureRatio) {
+        this.circuitBreakerFailureRatio = circuitBreakerFailureRatio;
+    }
+
+    /**
+     * @return how long an open circuit breaker rejects invocations, in milliseconds
+     */
+    public long getCircuitBreakerDelay() {
+        return circuitBreakerDelay;
+    }
+
+    public void setCircuitBreakerDelay(long circuitBreakerDelay) {
+        this.circuitBreakerDelay = circuitBreakerDelay;
+    }
+
+    public boolean isAdaptiveTimeout() {
+        return adaptiveTimeout;
+    }
+
+    public void setAdaptiveTimeout(boolean adaptiveTimeout) {
+        this.adaptiveTimeout = adaptiveTimeout;
+    }
+
+    public double getAdaptiveTimeoutPercentile() {
+        return adaptiveTimeoutPercentile;
+    }
+
+    public void setAdaptiveTimeoutPercentile(double adaptiveTimeoutPercentile) {
+        this.adaptiveTimeoutPercentile = adaptiveTimeoutPercentile;
+    }
+
+    public double getAdaptiveTimeoutMultiplier() {
+        return adaptiveTimeoutMultiplier;
+    }
+
+    public void setAdaptiveTimeoutMultiplier(double adaptiveTimeoutMultiplier) {
+        this.adaptiveTimeoutMultiplier = adaptiveTimeoutMultiplier;
+    }
+
+    /**
+     * @return whether the client records the time spent in each phase of its interceptor chains
+     */
+    public boolean isProfiling() {
+        return profiling;
+    }
+
+    public void setProfiling(boolean profiling) {
+        this.profiling = profiling;
+    }
+
+    public int getProfilingHistory() {
+        return profilingHistory;
+    }
+
+    public void setProfilingHistory(int profilingHistory) {
+        this.profilingHistory = profilingHistory;
+    }
+
+    /**
+     * @return whether the client traces its invocations with OpenTelemetry spans
+     */
+    public boolean isTracing() {
+        return tracing;
+    }
+
+    public void setTracing(boolean tracing) {
+        this.tracing = tracing;
+    }
+
+    /**
+     * @return whether the client also sends the trace context in SOAP headers
+     */
+    public boolean isTracingSoapHeaders() {
+        return tracingSoapHeaders;
+    }
+
+    public void setTracingSoapHeaders(boolean tracingSoapHeaders) {
+        this.tracingSoapHeaders = tracingSoapHeaders;
+    }
 }
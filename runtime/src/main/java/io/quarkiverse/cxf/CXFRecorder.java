@@ -4,15 +4,26 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
+import javax.enterprise.inject.literal.NamedLiteral;
+
+import org.apache.cxf.attachment.AttachmentDeserializer;
+import org.apache.cxf.endpoint.Client;
+import org.apache.cxf.message.Message;
 import org.jboss.logging.Logger;
 
 import io.quarkiverse.cxf.devconsole.DevCxfServerInfosSupplier;
 import io.quarkiverse.cxf.transport.CxfHandler;
+import io.quarkiverse.cxf.transport.VertxHttpConduit;
+import io.quarkus.arc.Arc;
 import io.quarkus.arc.runtime.BeanContainer;
 import io.quarkus.runtime.RuntimeValue;
+import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.configuration.MemorySize;
 import io.vertx.core.Handler;
 import io.vertx.ext.web.RoutingContext;
 
@@ -90,10 +101,143 @@ public class CXFRecorder {
             if (cxfEndPointConfig != null && cxfEndPointConfig.features.isPresent()) {
                 cfg.getFeatures().addAll(cxfEndPointConfig.features.get());
             }
+            if (cxfEndPointConfig != null && cxfEndPointConfig.cachedOperations.isPresent()) {
+                cfg.getCachedOperations().addAll(cxfEndPointConfig.cachedOperations.get());
+            }
+            if (cxfEndPointConfig != null && cxfEndPointConfig.coalescedOperations.isPresent()) {
+                cfg.getCoalescedOperations().addAll(cxfEndPointConfig.coalescedOperations.get());
+            }
+            cfg.setConnectionPoolSize(cxfEndPointConfig != null
+                    ? cxfEndPointConfig.connectionPoolSize.orElse(cxfConfig.clientConnectionPoolSize)
+                    : cxfConfig.clientConnectionPoolSize);
+            cfg.setIdleTimeout((cxfEndPointConfig != null
+                    ? cxfEndPointConfig.idleTimeout.orElse(cxfConfig.clientIdleTimeout)
+                    : cxfConfig.clientIdleTimeout).toMillis());
+            cfg.setConnectTimeout((cxfEndPointConfig != null
+                    ? cxfEndPointConfig.connectTimeout.orElse(cxfConfig.clientConnectTimeout)
+                    : cxfConfig.clientConnectTimeout).toMillis());
+            cfg.setHttp2(cxfEndPointConfig != null
+                    ? cxfEndPointConfig.http2.orElse(cxfConfig.clientHttp2)
+                    : cxfConfig.clientHttp2);
+            cfg.setConcurrencyMode(cxfEndPointConfig != null
+                    ? cxfEndPointConfig.concurrencyMode.orElse(cxfConfig.clientConcurrencyMode)
+                    : cxfConfig.clientConcurrencyMode);
+            cfg.setProxyPoolSize(cxfEndPointConfig != null
+                    ? cxfEndPointConfig.proxyPoolSize.orElse(cxfConfig.clientProxyPoolSize)
+                    : cxfConfig.clientProxyPoolSize);
+            cfg.setWarmUp(cxfEndPointConfig != null
+                    ? cxfEndPointConfig.warmUp.orElse(cxfConfig.clientWarmUp)
+                    : cxfConfig.clientWarmUp);
+            cfg.setWarmUpConnections(cxfEndPointConfig != null
+                    ? cxfEndPointConfig.warmUpConnections.orElse(cxfConfig.clientWarmUpConnections)
+                    : cxfConfig.clientWarmUpConnections);
+            cfg.setResponseCacheTtl((cxfEndPointConfig != null
+                    ? cxfEndPointConfig.responseCacheTtl.orElse(cxfConfig.clientResponseCacheTtl)
+                    : cxfConfig.clientResponseCacheTtl).toMillis());
+            cfg.setResponseCacheMaxSize(cxfEndPointConfig != null
+                    ? cxfEndPointConfig.responseCacheMaxSize.orElse(cxfConfig.clientResponseCacheMaxSize)
+                    : cxfConfig.clientResponseCacheMaxSize);
+            cfg.setReceiveTimeout((cxfEndPointConfig != null
+                    ? cxfEndPointConfig.receiveTimeout.orElse(cxfConfig.clientReceiveTimeout)
+                    : cxfConfig.clientReceiveTimeout).toMillis());
+            cfg.setMaxConcurrentRequests(cxfEndPointConfig != null
+                    ? cxfEndPointConfig.maxConcurrentRequests.orElse(cxfConfig.clientMaxConcurrentRequests)
+                    : cxfConfig.clientMaxConcurrentRequests);
+            cfg.setCircuitBreaker(cxfEndPointConfig != null
+                    ? cxfEndPointConfig.circuitBreaker.orElse(cxfConfig.clientCircuitBreaker)
+                    : cxfConfig.clientCircuitBreaker);
+            cfg.setCircuitBreakerRequestVolume(cxfEndPointConfig != null
+                    ? cxfEndPointConfig.circuitBreakerRequestVolume.orElse(cxfConfig.clientCircuitBreakerRequestVolume)
+                    : cxfConfig.clientCircuitBreakerRequestVolume);
+            cfg.setCircuitBreakerFailureRatio(cxfEndPointConfig != null
+                    ? cxfEndPointConfig.circuitBreakerFailureRatio.orElse(cxfConfig.clientCircuitBreakerFailureRatio)
+                    : cxfConfig.clientCircuitBreakerFailureRatio);
+            cfg.setCircuitBreakerDelay((cxfEndPointConfig != null
+                    ? cxfEndPointConfig.circuitBreakerDelay.orElse(cxfConfig.clientCircuitBreakerDelay)
+                    : cxfConfig.clientCircuitBreakerDelay).toMillis());
+            cfg.setAdaptiveTimeout(cxfEndPointConfig != null
+                    ? cxfEndPointConfig.adaptiveTimeout.orElse(cxfConfig.clientAdaptiveTimeout)
+                    : cxfConfig.clientAdaptiveTimeout);
+            cfg.setAdaptiveTimeoutPercentile(cxfEndPointConfig != null
+                    ? cxfEndPointConfig.adaptiveTimeoutPercentile.orElse(cxfConfig.clientAdaptiveTimeoutPercentile)
+                    : cxfConfig.clientAdaptiveTimeoutPercentile);
+            cfg.setAdaptiveTimeoutMultiplier(cxfEndPointConfig != null
+                    ? cxfEndPointConfig.adaptiveTimeoutMultiplier.orElse(cxfConfig.clientAdaptiveTimeoutMultiplier)
+                    : cxfConfig.clientAdaptiveTimeoutMultiplier);
+            cfg.setProfiling(cxfConfig.profiling);
+            cfg.setProfilingHistory(cxfConfig.profilingHistory);
+            cfg.setTracing(cxfConfig.tracing);
+            cfg.setTracingSoapHeaders(cxfConfig.tracingSoapHeaders);
             return cfg;
         };
     }
 
+    /**
+     * Builds the service model of each client SEI ahead of the first injection of its client, reading the remote
+     * WSDLs {@code embeddedWsdls} downloaded at build time through the OASIS catalog {@code embeddedWsdlCatalog}, if
+     * any. A model which cannot be built is only reported, it is then built on the first injection of the client.
+     */
+    public void buildClientModels(List<String> seis, String embeddedWsdlCatalog, List<String> embeddedWsdls,
+            ShutdownContext shutdown) {
+        shutdown.addShutdownTask(CxfClientModels::clear);
+        if (embeddedWsdlCatalog != null) {
+            CxfClientModels.loadEmbeddedWsdls(embeddedWsdlCatalog, embeddedWsdls);
+        }
+        for (String sei : seis) {
+            Class<?> seiClass;
+            try {
+                seiClass = Class.forName(sei, false, Thread.currentThread().getContextClassLoader());
+            } catch (ClassNotFoundException e) {
+                LOGGER.warn("client interface not found: " + sei);
+                continue;
+            }
+            CXFClientInfo cxfClientInfo = Arc.container().instance(CXFClientInfo.class, NamedLiteral.of(sei)).get();
+            try {
+                CxfClientModels.getJaxbContext(cxfClientInfo, seiClass);
+            } catch (RuntimeException e) {
+                // e.g. a remote WSDL which cannot be downloaded yet, the first injection of the client tries again
+                LOGGER.warnf("Could not build the service model of client %s at startup: %s", sei, e);
+                continue;
+            }
+            if (cxfClientInfo.isWarmUp()) {
+                warmUp(cxfClientInfo, seiClass);
+            }
+        }
+    }
+
+    /**
+     * Creates the client of {@code seiClass} and starts opening the connections it is configured to open at startup,
+     * without waiting for them: the application starts while they are being opened, each within the connect timeout
+     * of the client. Connections which cannot be opened are only reported, the client will open them on demand.
+     */
+    private static void warmUp(CXFClientInfo cxfClientInfo, Class<?> seiClass) {
+        // resolving the CXF client creates the bean
+        Client cxfClient = CxfClientPool.clientOf(Arc.container().instance(seiClass).get());
+        if (cxfClient == null || cxfClientInfo.getWarmUpConnections() <= 0
+                || !(cxfClient.getConduit() instanceof VertxHttpConduit)) {
+            return;
+        }
+        long start = System.nanoTime();
+        CompletableFuture<Void> connections;
+        try {
+            connections = ((VertxHttpConduit) cxfClient.getConduit()).warmUp(cxfClientInfo.getWarmUpConnections(),
+                    cxfClientInfo.getConnectTimeout());
+        } catch (RuntimeException e) {
+            // e.g. TLS client parameters the Vert.x client cannot be created with, which the first request reports
+            connections = new CompletableFuture<>();
+            connections.completeExceptionally(e);
+        }
+        connections.whenComplete((v, t) -> {
+            if (t != null) {
+                LOGGER.warnf("Could not open the connections of client %s to %s: %s", cxfClientInfo.getSei(),
+                        cxfClientInfo.getEndpointAddress(), t);
+            } else {
+                LOGGER.debugf("Opened the connections of client %s in %d ms", cxfClientInfo.getSei(),
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            }
+        });
+    }
+
     public class servletConfig {
         public CxfEndpointConfig config;
         public String path;
@@ -129,7 +273,8 @@ public class CXFRecorder {
             for (servletConfig cfg : cfgs) {
                 CxfEndpointConfig cxfEndPointConfig = cfg.config;
                 String relativePath = cfg.path;
-                startRoute(path, sei, soapBinding, wrapperClassNames, wsImplementor, infos, cxfEndPointConfig, relativePath);
+                startRoute(path, sei, soapBinding, wrapperClassNames, wsImplementor, infos, cxfEndPointConfig, relativePath,
+                        cxfConfig);
             }
         } else {
             String serviceName = sei.toLowerCase();
@@ -137,12 +282,13 @@ public class CXFRecorder {
                 serviceName = serviceName.substring(serviceName.lastIndexOf('.') + 1);
             }
             String relativePath = "/" + serviceName;
-            startRoute(path, sei, soapBinding, wrapperClassNames, wsImplementor, infos, null, relativePath);
+            startRoute(path, sei, soapBinding, wrapperClassNames, wsImplementor, infos, null, relativePath,
+                    cxfConfig);
         }
     }
 
     private void startRoute(String path, String sei, String soapBinding, List<String> wrapperClassNames, String wsImplementor,
-            CXFServletInfos infos, CxfEndpointConfig cxfEndPointConfig, String relativePath) {
+            CXFServletInfos infos, CxfEndpointConfig cxfEndPointConfig, String relativePath, CxfConfig cxfConfig) {
         if (wsImplementor != null && !wsImplementor.equals("")) {
             CXFServletInfo cfg = new CXFServletInfo(path,
                     relativePath,
@@ -151,7 +297,12 @@ public class CXFRecorder {
                     cxfEndPointConfig != null ? cxfEndPointConfig.wsdlPath.orElse(null) : null,
                     soapBinding,
                     wrapperClassNames,
-                    cxfEndPointConfig != null ? cxfEndPointConfig.publishedEndpointUrl.orElse(null) : null);
+                    cxfEndPointConfig != null ? cxfEndPointConfig.publishedEndpointUrl.orElse(null) : null,
+                    cxfEndPointConfig != null ? cxfEndPointConfig.dispatchMode.orElse(cxfConfig.dispatchMode)
+                            : cxfConfig.dispatchMode,
+                    (int) (cxfEndPointConfig != null
+                            ? cxfEndPointConfig.responseBufferSize.orElse(cxfConfig.responseBufferSize)
+                            : cxfConfig.responseBufferSize).asLongValue());
             if (cxfEndPointConfig != null && cxfEndPointConfig.inInterceptors.isPresent()) {
                 cfg.getInInterceptors().addAll(cxfEndPointConfig.inInterceptors.get());
             }
@@ -167,11 +318,26 @@ public class CXFRecorder {
             if (cxfEndPointConfig != null && cxfEndPointConfig.features.isPresent()) {
                 cfg.getFeatures().addAll(cxfEndPointConfig.features.get());
             }
+            if (cxfEndPointConfig != null) {
+                putAttachmentProperties(cfg.getProperties(), cxfEndPointConfig);
+            }
             LOGGER.trace("register CXF Servlet info");
             infos.add(cfg);
         }
     }
 
+    private static void putAttachmentProperties(Map<String, Object> properties, CxfEndpointConfig cxfEndPointConfig) {
+        cxfEndPointConfig.mtomEnabled.ifPresent(enabled -> properties.put(Message.MTOM_ENABLED, enabled));
+        cxfEndPointConfig.mtomThreshold
+                .ifPresent(threshold -> properties.put(Message.MTOM_THRESHOLD, (int) threshold.asLongValue()));
+        cxfEndPointConfig.attachmentMemoryThreshold.ifPresent(threshold -> properties
+                .put(AttachmentDeserializer.ATTACHMENT_MEMORY_THRESHOLD, threshold.asLongValue()));
+        cxfEndPointConfig.attachmentDirectory
+                .ifPresent(directory -> properties.put(AttachmentDeserializer.ATTACHMENT_DIRECTORY, directory));
+        cxfEndPointConfig.attachmentMaxSize
+                .ifPresent(maxSize -> properties.put(AttachmentDeserializer.ATTACHMENT_MAX_SIZE, maxSize.asLongValue()));
+    }
+
     public RuntimeValue<CXFServletInfos> createInfos() {
         CXFServletInfos infos = new CXFServletInfos();
         return new RuntimeValue<>(infos);
@@ -187,4 +353,23 @@ public class CXFRecorder {
     public void setPath(RuntimeValue<CXFServletInfos> infos, String path) {
         infos.getValue().setPath(path);
     }
+
+    public void setRequestLimits(RuntimeValue<CXFServletInfos> infos, CxfConfig cxfConfig) {
+        infos.getValue().setReadTimeout(cxfConfig.readTimeout.toMillis());
+        infos.getValue().setMaxBodySize(cxfConfig.maxBodySize.map(MemorySize::asLongValue).orElse(-1L));
+    }
+
+    public void setMetrics(RuntimeValue<CXFServletInfos> infos, CxfConfig cxfConfig) {
+        infos.getValue().setMetrics(cxfConfig.metrics);
+    }
+
+    public void setProfiling(RuntimeValue<CXFServletInfos> infos, CxfConfig cxfConfig) {
+        infos.getValue().setProfiling(cxfConfig.profiling);
+        infos.getValue().setProfilingHistory(cxfConfig.profilingHistory);
+    }
+
+    public void setTracing(RuntimeValue<CXFServletInfos> infos, CxfConfig cxfConfig) {
+        infos.getValue().setTracing(cxfConfig.tracing);
+        infos.getValue().setTracingSoapHeaders(cxfConfig.tracingSoapHeaders);
+    }
 }
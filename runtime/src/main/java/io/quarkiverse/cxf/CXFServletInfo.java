@@ -1,7 +1,9 @@
 package io.quarkiverse.cxf;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.jboss.logging.Logger;
 
@@ -19,11 +21,14 @@ public class CXFServletInfo {
     private final String soapBinding;
     private final List<String> wrapperClassNames;
     private final String endpointUrl;
+    private final DispatchMode dispatchMode;
+    private final int responseBufferSize;
+    private final Map<String, Object> properties;
 
     private static final Logger LOGGER = Logger.getLogger(CXFServletInfo.class);
 
     public CXFServletInfo(String path, String relativePath, String className, String sei, String wsdlPath, String soapBinding,
-            List<String> wrapperClassNames, String endpointUrl) {
+            List<String> wrapperClassNames, String endpointUrl, DispatchMode dispatchMode, int responseBufferSize) {
         super();
         LOGGER.trace("new CXFServletInfo");
         this.path = path;
@@ -39,6 +44,9 @@ public class CXFServletInfo {
         this.soapBinding = soapBinding;
         this.wrapperClassNames = wrapperClassNames;
         this.endpointUrl = endpointUrl;
+        this.dispatchMode = dispatchMode;
+        this.responseBufferSize = responseBufferSize;
+        this.properties = new HashMap<>();
     }
 
     public String getClassName() {
@@ -93,6 +101,21 @@ public class CXFServletInfo {
         return endpointUrl;
     }
 
+    public DispatchMode getDispatchMode() {
+        return dispatchMode;
+    }
+
+    public int getResponseBufferSize() {
+        return responseBufferSize;
+    }
+
+    /**
+     * @return the CXF properties of the endpoint, e.g. its attachment thresholds
+     */
+    public Map<String, Object> getProperties() {
+        return properties;
+    }
+
     @Override
     public String toString() {
         return "Web Service " + className + " on " + path;
@@ -2,9 +2,7 @@ package io.quarkiverse.cxf;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import org.jboss.logging.Logger;
 
@@ -13,6 +11,13 @@ public class CXFServletInfos {
     private final List<CXFServletInfo> infos;
     private static final Logger LOGGER = Logger.getLogger(CXFServletInfos.class);
     private String path = null;
+    private long readTimeout = 10000;
+    private long maxBodySize = -1;
+    private boolean metrics;
+    private boolean profiling;
+    private int profilingHistory;
+    private boolean tracing;
+    private boolean tracingSoapHeaders;
 
     public CXFServletInfos() {
         LOGGER.trace("new CXFServletInfos");
@@ -27,13 +32,6 @@ public class CXFServletInfos {
         return path;
     }
 
-    public List<String> getWrappersclasses() {
-        if (infos == null)
-            return Collections.emptyList();
-        return infos.stream().map(CXFServletInfo::getWrapperClassNames).flatMap(List::stream)
-                .collect(Collectors.toList());
-    }
-
     public void add(CXFServletInfo cfg) {
         infos.add(cfg);
     }
@@ -41,4 +39,81 @@ public class CXFServletInfos {
     public void setPath(String path) {
         this.path = path;
     }
+
+    /**
+     * @return how long a read of a request body waits for data, in milliseconds
+     */
+    public long getReadTimeout() {
+        return readTimeout;
+    }
+
+    public void setReadTimeout(long readTimeout) {
+        this.readTimeout = readTimeout;
+    }
+
+    /**
+     * @return the largest request body accepted, in bytes, or -1 for no limit
+     */
+    public long getMaxBodySize() {
+        return maxBodySize;
+    }
+
+    public void setMaxBodySize(long maxBodySize) {
+        this.maxBodySize = maxBodySize;
+    }
+
+    /**
+     * @return whether the endpoints record Micrometer metrics of their requests
+     */
+    public boolean isMetrics() {
+        return metrics;
+    }
+
+    public void setMetrics(boolean metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * @return whether the endpoints record the time spent in each phase of their interceptor chains
+     */
+    public boolean isProfiling() {
+        return profiling;
+    }
+
+    public void setProfiling(boolean profiling) {
+        this.profiling = profiling;
+    }
+
+    /**
+     * @return the number of most recent phase profiles kept
+     */
+    public int getProfilingHistory() {
+        return profilingHistory;
+    }
+
+    public void setProfilingHistory(int profilingHistory) {
+        this.profilingHistory = profilingHistory;
+    }
+
+    /**
+     * @return whether the endpoints trace their requests with OpenTelemetry spans
+     */
+    public boolean isTracing() {
+        return tracing;
+    }
+
+    public void setTracing(boolean tracing) {
+        this.tracing = tracing;
+    }
+
+    /**
+     * @return whether the endpoints read the trace context from SOAP headers when the HTTP headers carry none
+     */
+    public boolean isTracingSoapHeaders() {
+        return tracingSoapHeaders;
+    }
+
+    public void setTracingSoapHeaders(boolean tracingSoapHeaders) {
+        this.tracingSoapHeaders = tracingSoapHeaders;
+    }
 }
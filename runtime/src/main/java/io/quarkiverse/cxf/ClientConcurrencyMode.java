@@ -0,0 +1,23 @@
+package io.quarkiverse.cxf;
+
+/**
+ * How an injected client may be used by several threads at a time.
+ */
+public enum ClientConcurrencyMode {
+    /**
+     * A single proxy whose request context is shared by all threads. Only suitable when the request context is
+     * never modified once the client is set up.
+     */
+    SHARED,
+    /**
+     * A single proxy whose request context is local to each thread, the response context always is.
+     */
+    THREAD_LOCAL,
+    /**
+     * A bounded pool of proxies sharing the service model and the connections of the client. Each invocation borrows
+     * a proxy for its duration, callers wait when all of them are busy. The request and response contexts of the
+     * client are local to each thread. {@code ClientProxy.getClient} is not supported, the client having a CXF client
+     * for each proxy.
+     */
+    POOLED
+}
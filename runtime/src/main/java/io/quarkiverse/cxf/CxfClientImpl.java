@@ -0,0 +1,104 @@
+package io.quarkiverse.cxf;
+
+import java.util.Map;
+
+import org.apache.cxf.Bus;
+import org.apache.cxf.endpoint.ClientCallback;
+import org.apache.cxf.endpoint.ClientImpl;
+import org.apache.cxf.endpoint.ConduitSelector;
+import org.apache.cxf.endpoint.Endpoint;
+import org.apache.cxf.helpers.CastUtils;
+import org.apache.cxf.message.Exchange;
+import org.apache.cxf.service.model.BindingOperationInfo;
+
+/**
+ * Client whose synchronous and asynchronous invocations go through its {@link CxfRequestCoalescer} and its
+ * {@link CxfClientResilience}, shared with the other proxies of the same injected client. Invocations coalesced with
+ * one in flight do not go through the resilience guards, as they send no request.
+ */
+class CxfClientImpl extends ClientImpl {
+
+    private final CxfRequestCoalescer coalescer;
+    private final CxfClientResilience resilience;
+
+    /**
+     * @param coalescer the request coalescer of the client, or {@code null}
+     * @param resilience the resilience guards of the client, or {@code null}
+     */
+    CxfClientImpl(Bus bus, Endpoint endpoint, ConduitSelector conduitSelector, CxfRequestCoalescer coalescer,
+            CxfClientResilience resilience) {
+        super(bus, endpoint, conduitSelector);
+        this.coalescer = coalescer;
+        this.resilience = resilience;
+    }
+
+    CxfRequestCoalescer getCoalescer() {
+        return coalescer;
+    }
+
+    CxfClientResilience getResilience() {
+        return resilience;
+    }
+
+    @Override
+    public Object[] invoke(BindingOperationInfo oi, Object[] params, Map<String, Object> context, Exchange exchange)
+            throws Exception {
+        String key = coalescer != null ? coalescer.key(getEndpoint().getService(), oi, params, requestContext(context))
+                : null;
+        if (key == null) {
+            return guardedInvoke(oi, params, context, exchange);
+        }
+        Map<String, Object> responseContext = context != null ? CastUtils.cast((Map<?, ?>) context.get(RESPONSE_CONTEXT))
+                : null;
+        return coalescer.invoke(key, responseContext, () -> guardedInvoke(oi, params, context, exchange));
+    }
+
+    @Override
+    public void invoke(ClientCallback callback, BindingOperationInfo oi, Object[] params, Map<String, Object> context,
+            Exchange exchange) throws Exception {
+        String key = coalescer != null ? coalescer.key(getEndpoint().getService(), oi, params, requestContext(context))
+                : null;
+        if (key == null) {
+            guardedInvoke(callback, oi, params, context, exchange);
+            return;
+        }
+        coalescer.invoke(key, callback, completing -> guardedInvoke(completing, oi, params, context, exchange));
+    }
+
+    /**
+     * @return the request context of an invocation, the one of the client if it was given none
+     */
+    private Map<String, Object> requestContext(Map<String, Object> context) {
+        Map<String, Object> requestContext = context != null
+                ? CastUtils.cast((Map<?, ?>) context.get(REQUEST_CONTEXT))
+                : null;
+        return requestContext != null ? requestContext : getRequestContext();
+    }
+
+    private Object[] guardedInvoke(BindingOperationInfo oi, Object[] params, Map<String, Object> context,
+            Exchange exchange) throws Exception {
+        if (resilience == null) {
+            return super.invoke(oi, params, context, exchange);
+        }
+        Map<String, Object> guardedContext = resilience.withTimeout(context, getRequestContext());
+        return resilience.invoke(() -> super.invoke(oi, params, guardedContext, exchange));
+    }
+
+    private void guardedInvoke(ClientCallback callback, BindingOperationInfo oi, Object[] params,
+            Map<String, Object> context, Exchange exchange) throws Exception {
+        if (resilience == null) {
+            super.invoke(callback, oi, params, context, exchange);
+            return;
+        }
+        Map<String, Object> guardedContext = resilience.withTimeout(context, getRequestContext());
+        resilience.invoke(callback, releasing -> super.invoke(releasing, oi, params, guardedContext, exchange));
+    }
+
+    interface Invocation {
+        Object[] invoke() throws Exception;
+    }
+
+    interface AsyncInvocation {
+        void invoke(ClientCallback callback) throws Exception;
+    }
+}
@@ -0,0 +1,153 @@
+package io.quarkiverse.cxf;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.wsdl.WSDLException;
+import javax.wsdl.xml.WSDLReader;
+import javax.xml.bind.JAXBContext;
+import javax.xml.namespace.QName;
+
+import org.apache.cxf.Bus;
+import org.apache.cxf.BusFactory;
+import org.apache.cxf.catalog.OASISCatalogManager;
+import org.apache.cxf.common.jaxb.JAXBContextCache.CachedContextAndSchemas;
+import org.apache.cxf.common.spi.GeneratedNamespaceClassLoader;
+import org.apache.cxf.common.spi.NamespaceClassCreator;
+import org.apache.cxf.endpoint.dynamic.ExceptionClassCreator;
+import org.apache.cxf.endpoint.dynamic.ExceptionClassLoader;
+import org.apache.cxf.jaxb.FactoryClassCreator;
+import org.apache.cxf.jaxb.FactoryClassLoader;
+import org.apache.cxf.jaxb.WrapperHelperClassLoader;
+import org.apache.cxf.jaxb.WrapperHelperCreator;
+import org.apache.cxf.jaxws.spi.WrapperClassCreator;
+import org.apache.cxf.jaxws.spi.WrapperClassLoader;
+import org.apache.cxf.wsdl.ExtensionClassCreator;
+import org.apache.cxf.wsdl.ExtensionClassLoader;
+import org.apache.cxf.wsdl.WSDLManager;
+import org.jboss.logging.Logger;
+
+/**
+ * The Bus shared by all clients, and the JAXBContext of each client SEI. The JAXBContext of a SEI is created along with
+ * its first service model, at startup by {@link CXFRecorder#buildClientModels} or else on the first injection of its
+ * client, and the JAXB data binding of every later proxy of the SEI is handed that same JAXBContext. Service factories
+ * and the services they create are modified by the clients built from them, each proxy thus gets its own.
+ */
+public final class CxfClientModels {
+
+    private static final Logger LOGGER = Logger.getLogger(CxfClientModels.class);
+
+    private static final Map<String, AtomicReference<CachedContextAndSchemas>> JAXB_CONTEXTS = new ConcurrentHashMap<>();
+    private static Bus bus;
+
+    private CxfClientModels() {
+    }
+
+    /**
+     * @return the default Bus, on which the class loaders of the classes generated at build time are registered
+     */
+    public static synchronized Bus getBus() {
+        if (bus == null) {
+            Bus b = BusFactory.getDefaultBus();
+            b.setExtension(new WrapperHelperClassLoader(b), WrapperHelperCreator.class);
+            b.setExtension(new ExtensionClassLoader(b), ExtensionClassCreator.class);
+            b.setExtension(new ExceptionClassLoader(b), ExceptionClassCreator.class);
+            b.setExtension(new WrapperClassLoader(b), WrapperClassCreator.class);
+            b.setExtension(new FactoryClassLoader(b), FactoryClassCreator.class);
+            b.setExtension(new GeneratedNamespaceClassLoader(b), NamespaceClassCreator.class);
+            bus = b;
+        }
+        return bus;
+    }
+
+    /**
+     * Makes the Bus read the remote WSDLs and schemas downloaded at build time from their copy, through the OASIS
+     * catalog {@code catalog} mapping their URLs to the classpath, and parses the remote WSDLs {@code wsdls} from
+     * there once for all.
+     */
+    public static void loadEmbeddedWsdls(String catalog, List<String> wsdls) {
+        URL catalogUrl = Thread.currentThread().getContextClassLoader().getResource(catalog);
+        if (catalogUrl == null) {
+            throw new IllegalStateException("Catalog of the embedded WSDLs not found: " + catalog);
+        }
+        OASISCatalogManager catalogManager = OASISCatalogManager.getCatalogManager(getBus());
+        try {
+            catalogManager.loadCatalog(catalogUrl);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not load the catalog of the embedded WSDLs " + catalog, e);
+        }
+        WSDLManager wsdlManager = getBus().getExtension(WSDLManager.class);
+        for (String wsdl : wsdls) {
+            if (wsdlManager.getDefinitions().containsKey(wsdl)) {
+                continue;
+            }
+            WSDLReader reader = wsdlManager.getWSDLFactory().newWSDLReader();
+            reader.setFeature("javax.wsdl.verbose", false);
+            reader.setFeature("javax.wsdl.importDocuments", true);
+            reader.setExtensionRegistry(wsdlManager.getExtensionRegistry());
+            EmbeddedWsdlLocator locator = new EmbeddedWsdlLocator(catalogManager, wsdl);
+            try {
+                wsdlManager.addDefinition(wsdl, reader.readWSDL(locator));
+            } catch (WSDLException e) {
+                throw new IllegalStateException("Could not read the embedded WSDL " + wsdl, e);
+            } finally {
+                locator.close();
+            }
+        }
+    }
+
+    /**
+     * @return a new service factory for a proxy of the SEI of {@code cxfClientInfo}, whose JAXB data binding gets the
+     *         JAXBContext of the SEI, creating it if it is the first one
+     */
+    public static QuarkusJaxWsServiceFactoryBean newServiceFactory(CXFClientInfo cxfClientInfo, Class<?> seiClass) {
+        QuarkusJaxWsServiceFactoryBean serviceFactory = new QuarkusJaxWsServiceFactoryBean(cxfClientInfo.getClassNames());
+        serviceFactory.setSharedJaxbContext(JAXB_CONTEXTS.computeIfAbsent(cxfClientInfo.getSei(),
+                sei -> new AtomicReference<>()));
+        return configure(serviceFactory, cxfClientInfo, seiClass);
+    }
+
+    /**
+     * @return the JAXBContext of the SEI of {@code cxfClientInfo}, built on first use along with a service model, or
+     *         {@code null} if its data binding is not JAXB
+     */
+    public static JAXBContext getJaxbContext(CXFClientInfo cxfClientInfo, Class<?> seiClass) {
+        AtomicReference<CachedContextAndSchemas> shared = JAXB_CONTEXTS.get(cxfClientInfo.getSei());
+        if (shared == null || shared.get() == null) {
+            long start = System.nanoTime();
+            newServiceFactory(cxfClientInfo, seiClass).create();
+            LOGGER.debugf("Built the service model of %s in %d ms", cxfClientInfo.getSei(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            shared = JAXB_CONTEXTS.get(cxfClientInfo.getSei());
+        }
+        CachedContextAndSchemas cached = shared.get();
+        return cached == null ? null : cached.getContext();
+    }
+
+    private static QuarkusJaxWsServiceFactoryBean configure(QuarkusJaxWsServiceFactoryBean serviceFactory,
+            CXFClientInfo cxfClientInfo, Class<?> seiClass) {
+        serviceFactory.setBus(getBus());
+        serviceFactory.setServiceClass(seiClass);
+        serviceFactory.setServiceName(new QName(cxfClientInfo.getWsNamespace(), cxfClientInfo.getWsName()));
+        if (cxfClientInfo.getEpName() != null) {
+            serviceFactory.setEndpointName(new QName(cxfClientInfo.getEpNamespace(), cxfClientInfo.getEpName()));
+        }
+        if (cxfClientInfo.getWsdlUrl() != null && !cxfClientInfo.getWsdlUrl().isEmpty()) {
+            serviceFactory.setWsdlURL(cxfClientInfo.getWsdlUrl());
+        }
+        return serviceFactory;
+    }
+
+    /**
+     * Forgets the JAXBContexts and the Bus, whose classes belong to the application being stopped.
+     */
+    static synchronized void clear() {
+        JAXB_CONTEXTS.clear();
+        bus = null;
+    }
+}
@@ -0,0 +1,191 @@
+package io.quarkiverse.cxf;
+
+import java.io.Closeable;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.xml.ws.BindingProvider;
+import javax.xml.ws.WebServiceException;
+
+import org.apache.cxf.endpoint.Client;
+import org.apache.cxf.frontend.ClientProxy;
+
+/**
+ * Invocation handler of a client using {@link ClientConcurrencyMode#POOLED}: each invocation of the SEI borrows one
+ * of the proxies of the pool, so that no two threads ever share a request context or an exchange. An invocation waits
+ * for a proxy at most as long as another one may hold it, its connect and receive timeouts, then fails.
+ * <p>
+ * The client is a {@link BindingProvider} whose request and response contexts are those of the calling thread: the
+ * entries a thread puts in the request context are set on the proxy it borrows for each of its invocations, and the
+ * response context is the one of its last invocation. {@link ClientProxy#getClient(Object)} is rejected, as the
+ * configuration of a single CXF client would only apply to some of the invocations.
+ */
+public final class CxfClientPool extends ClientProxy {
+
+    private final String sei;
+    private final List<Object> clients;
+    private final BlockingQueue<Object> idle;
+    private final long timeout;
+    private final AtomicInteger next = new AtomicInteger();
+    private final ThreadLocal<Map<String, Object>> requestContexts = new ThreadLocal<>();
+    /** the proxy each thread borrowed last, holding the response context of its last invocation */
+    private final ThreadLocal<Object> lastClients = new ThreadLocal<>();
+
+    /**
+     * @param timeout how long an invocation waits for a proxy, in milliseconds, forever if not positive
+     */
+    CxfClientPool(String sei, List<Object> clients, long timeout) {
+        super(ClientProxy.getClient(clients.get(0)));
+        this.sei = sei;
+        this.clients = clients;
+        this.idle = new ArrayBlockingQueue<>(clients.size(), false, clients);
+        this.timeout = timeout;
+    }
+
+    /**
+     * @param seiClass the service endpoint interface implemented by {@code clients}
+     * @param clients the JAX-WS proxies of the pool
+     * @param timeout how long an invocation waits for a proxy, in milliseconds, forever if not positive
+     * @return an implementation of {@code seiClass} dispatching each invocation to one of {@code clients} that is not
+     *         in use
+     */
+    public static <T> T create(Class<T> seiClass, List<?> clients, long timeout) {
+        return seiClass.cast(Proxy.newProxyInstance(seiClass.getClassLoader(),
+                new Class<?>[] { seiClass, BindingProvider.class, Closeable.class },
+                new CxfClientPool(seiClass.getName(), new ArrayList<>(clients), timeout)));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    return "pooled client of " + sei;
+            }
+        }
+        if (method.getDeclaringClass() == Closeable.class) {
+            close();
+            return null;
+        }
+        if (method.getDeclaringClass() == BindingProvider.class) {
+            switch (method.getName()) {
+                case "getRequestContext":
+                    return getRequestContext();
+                case "getResponseContext":
+                    return getResponseContext();
+                default:
+                    // the binding and the endpoint reference are the same for all the proxies
+                    return delegate(clients.get(0), method, args);
+            }
+        }
+        Object client;
+        try {
+            client = timeout > 0 ? idle.poll(timeout, TimeUnit.MILLISECONDS) : idle.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WebServiceException("Interrupted while waiting for a client of " + sei, e);
+        }
+        if (client == null) {
+            throw new WebServiceException("No client of " + sei + " became available within " + timeout
+                    + " ms, all " + clients.size() + " of them are in use");
+        }
+        Map<String, Object> requestContext = requestContexts.get();
+        Map<String, Object> borrowedContext = null;
+        Map<String, Object> saved = null;
+        if (requestContext != null && !requestContext.isEmpty()) {
+            borrowedContext = ((BindingProvider) client).getRequestContext();
+            saved = new HashMap<>(borrowedContext);
+            borrowedContext.putAll(requestContext);
+        }
+        try {
+            return delegate(client, method, args);
+        } finally {
+            if (saved != null) {
+                borrowedContext.clear();
+                borrowedContext.putAll(saved);
+            }
+            lastClients.set(client);
+            idle.offer(client);
+        }
+    }
+
+    private static Object delegate(Object client, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(client, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * @return the request context of the calling thread
+     */
+    @Override
+    public Map<String, Object> getRequestContext() {
+        Map<String, Object> requestContext = requestContexts.get();
+        if (requestContext == null) {
+            requestContext = new HashMap<>();
+            requestContexts.set(requestContext);
+        }
+        return requestContext;
+    }
+
+    /**
+     * @return the response context of the last invocation of the calling thread
+     */
+    @Override
+    public Map<String, Object> getResponseContext() {
+        Object client = lastClients.get();
+        // the response contexts of CXF clients are kept by thread
+        return client == null ? new HashMap<>() : ((BindingProvider) client).getResponseContext();
+    }
+
+    /**
+     * @throws UnsupportedOperationException always, a pooled client has a CXF client for each of its proxies
+     */
+    @Override
+    public Client getClient() {
+        throw new UnsupportedOperationException("The pooled client of " + sei + " has " + clients.size()
+                + " CXF clients, configure them with quarkus.cxf.endpoint properties or use another concurrency mode");
+    }
+
+    /**
+     * @return the proxies of the pool in turn, for asynchronous invocations which do not need one for themselves
+     */
+    Client nextClient() {
+        return ClientProxy.getClient(clients.get(Math.floorMod(next.getAndIncrement(), clients.size())));
+    }
+
+    /**
+     * @return the CXF client behind an injected client, one of the proxies of the pool for a pooled client
+     */
+    static Client clientOf(Object client) {
+        Object instance = client instanceof io.quarkus.arc.ClientProxy
+                ? ((io.quarkus.arc.ClientProxy) client).arc_contextualInstance()
+                : client;
+        if (Proxy.isProxyClass(instance.getClass()) && Proxy.getInvocationHandler(instance) instanceof CxfClientPool) {
+            return ((CxfClientPool) Proxy.getInvocationHandler(instance)).nextClient();
+        }
+        return ClientProxy.getClient(instance);
+    }
+
+    @Override
+    public void close() {
+        for (Object client : clients) {
+            ClientProxy.getClient(client).destroy();
+        }
+    }
+}
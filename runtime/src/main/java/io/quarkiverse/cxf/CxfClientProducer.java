@@ -1,6 +1,9 @@
 package io.quarkiverse.cxf;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.inject.UnsatisfiedResolutionException;
@@ -8,25 +11,26 @@ import javax.enterprise.inject.spi.CDI;
 import javax.xml.namespace.QName;
 
 import org.apache.cxf.Bus;
-import org.apache.cxf.common.spi.GeneratedNamespaceClassLoader;
-import org.apache.cxf.common.spi.NamespaceClassCreator;
-import org.apache.cxf.endpoint.dynamic.ExceptionClassCreator;
-import org.apache.cxf.endpoint.dynamic.ExceptionClassLoader;
+import org.apache.cxf.configuration.Configurer;
+import org.apache.cxf.configuration.jsse.TLSClientParameters;
+import org.apache.cxf.endpoint.Client;
+import org.apache.cxf.endpoint.Endpoint;
+import org.apache.cxf.endpoint.PreexistingConduitSelector;
 import org.apache.cxf.feature.Feature;
+import org.apache.cxf.frontend.ClientProxy;
 import org.apache.cxf.helpers.CastUtils;
 import org.apache.cxf.interceptor.Interceptor;
-import org.apache.cxf.jaxb.FactoryClassCreator;
-import org.apache.cxf.jaxb.FactoryClassLoader;
-import org.apache.cxf.jaxb.WrapperHelperClassLoader;
-import org.apache.cxf.jaxb.WrapperHelperCreator;
 import org.apache.cxf.jaxws.JaxWsProxyFactoryBean;
-import org.apache.cxf.jaxws.spi.WrapperClassCreator;
-import org.apache.cxf.jaxws.spi.WrapperClassLoader;
 import org.apache.cxf.message.Message;
-import org.apache.cxf.wsdl.ExtensionClassCreator;
-import org.apache.cxf.wsdl.ExtensionClassLoader;
+import org.apache.cxf.transport.http.HTTPConduit;
+import org.apache.cxf.transports.http.configuration.HTTPClientPolicy;
 import org.jboss.logging.Logger;
 
+import io.quarkiverse.cxf.transport.VertxHttpConduit;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpVersion;
+
 @ApplicationScoped
 public class CxfClientProducer {
 
@@ -46,15 +50,84 @@ public class CxfClientProducer {
             LOGGER.error("either webservice interface (client) or implementation (server) is mandatory");
             return null;
         }
-        QuarkusClientFactoryBean quarkusClientFactoryBean = new QuarkusClientFactoryBean(cxfClientInfo.getClassNames());
+        Bus bus = CxfClientModels.getBus();
+        Feature cache = null;
+        if (!cxfClientInfo.getCachedOperations().isEmpty()) {
+            cache = new CxfResponseCacheFeature(new CxfResponseCache(cxfClientInfo.getCachedOperations(),
+                    cxfClientInfo.getResponseCacheTtl(), cxfClientInfo.getResponseCacheMaxSize()));
+        }
+        CxfRequestCoalescer coalescer = null;
+        if (!cxfClientInfo.getCoalescedOperations().isEmpty()) {
+            coalescer = new CxfRequestCoalescer(cxfClientInfo.getCoalescedOperations());
+        }
+        CxfClientResilience resilience = null;
+        if (CxfClientResilience.isEnabled(cxfClientInfo)) {
+            resilience = new CxfClientResilience(cxfClientInfo);
+        }
+        Object client;
+        if (cxfClientInfo.getConcurrencyMode() == ClientConcurrencyMode.POOLED) {
+            client = createPool(cxfClientInfo, seiClass, bus, cache, coalescer, resilience);
+        } else {
+            client = createProxy(cxfClientInfo, seiClass, bus, cache, coalescer, resilience);
+            Client cxfClient = ClientProxy.getClient(client);
+            installVertxConduit(cxfClient, cxfClientInfo, bus, null);
+            if (cxfClientInfo.getConcurrencyMode() == ClientConcurrencyMode.THREAD_LOCAL) {
+                cxfClient.setThreadLocalRequestContext(true);
+            }
+        }
+        LOGGER.info("cxf client loaded for " + cxfClientInfo.getSei());
+        return client;
+    }
+
+    /**
+     * @return the {@link CxfReactiveClient} of the SEI, invoking operations through its injected client
+     */
+    public Object loadCxfReactiveClient() {
+        CXFClientInfo cxfClientInfo = getInfo();
+        Class<?> seiClass;
+        try {
+            seiClass = Class.forName(cxfClientInfo.getSei(), false, Thread.currentThread().getContextClassLoader());
+        } catch (ClassNotFoundException e) {
+            LOGGER.error("either webservice interface (client) or implementation (server) is mandatory");
+            return null;
+        }
+        return new CxfReactiveClient<>(seiClass, CDI.current().select(seiClass).get());
+    }
+
+    /**
+     * Creates {@code proxy-pool-size} proxies sharing the service model and the connections of the client, and
+     * returns an implementation of the SEI dispatching each invocation to one that is not in use.
+     */
+    private Object createPool(CXFClientInfo cxfClientInfo, Class<?> seiClass, Bus bus, Feature cache,
+            CxfRequestCoalescer coalescer, CxfClientResilience resilience) {
+        int size = Math.max(1, cxfClientInfo.getProxyPoolSize());
+        List<Object> clients = new ArrayList<>(size);
+        VertxHttpConduit owner = null;
+        for (int i = 0; i < size; i++) {
+            Object client = createProxy(cxfClientInfo, seiClass, bus, cache, coalescer, resilience);
+            VertxHttpConduit conduit = installVertxConduit(ClientProxy.getClient(client), cxfClientInfo, bus, owner);
+            if (owner == null) {
+                owner = conduit;
+            }
+            clients.add(client);
+        }
+        return CxfClientPool.create(seiClass, clients,
+                cxfClientInfo.getConnectTimeout() + cxfClientInfo.getReceiveTimeout());
+    }
+
+    /**
+     * @param cache the response cache of the client, shared by all its proxies, or {@code null}
+     * @param coalescer the request coalescer of the client, shared by all its proxies, or {@code null}
+     * @param resilience the resilience guards of the client, shared by all its proxies, or {@code null}
+     */
+    private Object createProxy(CXFClientInfo cxfClientInfo, Class<?> seiClass, Bus bus, Feature cache,
+            CxfRequestCoalescer coalescer, CxfClientResilience resilience) {
+        QuarkusClientFactoryBean quarkusClientFactoryBean = new QuarkusClientFactoryBean(
+                CxfClientModels.newServiceFactory(cxfClientInfo, seiClass));
+        quarkusClientFactoryBean.setCoalescer(coalescer);
+        quarkusClientFactoryBean.setResilience(resilience);
         JaxWsProxyFactoryBean factory = new JaxWsProxyFactoryBean(quarkusClientFactoryBean);
-        Bus bus = quarkusClientFactoryBean.getBus(true);
-        bus.setExtension(new WrapperHelperClassLoader(bus), WrapperHelperCreator.class);
-        bus.setExtension(new ExtensionClassLoader(bus), ExtensionClassCreator.class);
-        bus.setExtension(new ExceptionClassLoader(bus), ExceptionClassCreator.class);
-        bus.setExtension(new WrapperClassLoader(bus), WrapperClassCreator.class);
-        bus.setExtension(new FactoryClassLoader(bus), FactoryClassCreator.class);
-        bus.setExtension(new GeneratedNamespaceClassLoader(bus), NamespaceClassCreator.class);
+        factory.setBus(bus);
         factory.setServiceClass(seiClass);
         factory.setServiceName(new QName(cxfClientInfo.getWsNamespace(), cxfClientInfo.getWsName()));
         if (cxfClientInfo.getEpName() != null) {
@@ -76,6 +149,17 @@ public class CxfClientProducer {
         for (String feature : cxfClientInfo.getFeatures()) {
             addToCols(feature, factory.getFeatures(), Feature.class);
         }
+        if (cache != null) {
+            factory.getFeatures().add(cache);
+        }
+        if (cxfClientInfo.isProfiling()) {
+            factory.getFeatures().add(CxfPhaseProfilingFeature.create("client", cxfClientInfo.getSei(),
+                    cxfClientInfo.getProfilingHistory()));
+        }
+        if (cxfClientInfo.isTracing()) {
+            factory.getFeatures().add(CxfTracingFeature.forClient(cxfClientInfo.getSei(),
+                    cxfClientInfo.isTracingSoapHeaders()));
+        }
         for (String inInterceptor : cxfClientInfo.getInInterceptors()) {
             addToCols(inInterceptor, factory.getInInterceptors());
         }
@@ -88,11 +172,79 @@ public class CxfClientProducer {
         for (String inFaultInterceptor : cxfClientInfo.getInFaultInterceptors()) {
             addToCols(inFaultInterceptor, factory.getInFaultInterceptors());
         }
-
-        LOGGER.info("cxf client loaded for " + cxfClientInfo.getSei());
         return factory.create();
     }
 
+    /**
+     * Sends the requests of the client through Vert.x instead of {@link java.net.HttpURLConnection}, with a
+     * connection pool of its own unless it is given the conduit of another proxy of the same client to share. The
+     * client policy, TLS parameters and authorizations of the stock conduit are carried over. Clients with an SSL
+     * context or socket factory or going through a proxy keep the stock conduit, which the Vert.x one does not
+     * support yet.
+     *
+     * @return the Vert.x conduit of the client, or {@code null} if it keeps the stock one
+     */
+    private VertxHttpConduit installVertxConduit(Client client, CXFClientInfo cxfClientInfo, Bus bus,
+            VertxHttpConduit owner) {
+        HTTPConduit stock = client.getConduit() instanceof HTTPConduit ? (HTTPConduit) client.getConduit() : null;
+        HTTPClientPolicy policy = stock != null && stock.getClient() != null ? stock.getClient()
+                : new HTTPClientPolicy();
+        policy.setReceiveTimeout(cxfClientInfo.getReceiveTimeout());
+        if (stock != null && requiresStockConduit(stock, policy)) {
+            LOGGER.infof("Client %s uses an SSL context or socket factory or a proxy, its requests are sent through "
+                    + "HttpURLConnection", cxfClientInfo.getSei());
+            stock.setClient(policy);
+            return null;
+        }
+        HttpClientOptions options = new HttpClientOptions()
+                .setMaxPoolSize(cxfClientInfo.getConnectionPoolSize())
+                .setHttp2MaxPoolSize(cxfClientInfo.getConnectionPoolSize())
+                .setConnectTimeout((int) cxfClientInfo.getConnectTimeout())
+                .setIdleTimeoutUnit(TimeUnit.MILLISECONDS)
+                .setIdleTimeout((int) cxfClientInfo.getIdleTimeout());
+        if (cxfClientInfo.isHttp2()) {
+            options.setProtocolVersion(HttpVersion.HTTP_2).setUseAlpn(true);
+        }
+        Endpoint endpoint = client.getEndpoint();
+        VertxHttpConduit conduit;
+        try {
+            conduit = owner != null ? new VertxHttpConduit(bus, endpoint.getEndpointInfo(), null, owner)
+                    : new VertxHttpConduit(bus, endpoint.getEndpointInfo(), null,
+                            CDI.current().select(Vertx.class).get(), options);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not create the conduit of " + cxfClientInfo.getSei(), e);
+        }
+        conduit.setClient(policy);
+        if (stock != null) {
+            conduit.setTlsClientParameters(stock.getTlsClientParameters());
+            conduit.setAuthorization(stock.getAuthorization());
+            conduit.setProxyAuthorization(stock.getProxyAuthorization());
+        }
+        Configurer configurer = bus.getExtension(Configurer.class);
+        if (configurer != null) {
+            configurer.configureBean(conduit);
+        }
+        conduit.finalizeConfig();
+        client.setConduitSelector(new PreexistingConduitSelector(conduit, endpoint));
+        if (stock != null) {
+            stock.close();
+        }
+        return conduit;
+    }
+
+    /**
+     * @return whether the conduit is configured with an SSL context or socket factory or a proxy, none of which
+     *         {@link VertxHttpConduit} maps to its {@link HttpClientOptions}
+     */
+    private static boolean requiresStockConduit(HTTPConduit conduit, HTTPClientPolicy policy) {
+        TLSClientParameters tls = conduit.getTlsClientParameters();
+        if (tls != null && (tls.getSslContext() != null || tls.getSSLSocketFactory() != null)) {
+            return true;
+        }
+        return policy.getProxyServer() != null || System.getProperty("http.proxyHost") != null
+                || System.getProperty("https.proxyHost") != null;
+    }
+
     private void addToCols(String className, List<Interceptor<? extends Message>> cols) {
         /*
          * We use CastUtils to simplify an unchecked cast from
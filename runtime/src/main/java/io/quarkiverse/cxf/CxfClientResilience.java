@@ -0,0 +1,311 @@
+package io.quarkiverse.cxf;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.xml.ws.WebServiceException;
+
+import org.apache.cxf.binding.soap.SoapFault;
+import org.apache.cxf.endpoint.Client;
+import org.apache.cxf.endpoint.ClientCallback;
+import org.apache.cxf.helpers.CastUtils;
+import org.apache.cxf.message.Message;
+
+/**
+ * Guards the service of a client against being called while it is failing or overloaded, and the callers of the
+ * client against waiting too long for it:
+ * <ul>
+ * <li>a bulkhead rejects invocations beyond {@code max-concurrent-requests} in flight,</li>
+ * <li>a circuit breaker rejects invocations for {@code circuit-breaker-delay} once the ratio of failures among the
+ * last {@code circuit-breaker-request-volume} ones reaches {@code circuit-breaker-failure-ratio}, then lets a single
+ * probe through and closes again if it succeeds,</li>
+ * <li>an adaptive timeout waits for responses {@code adaptive-timeout-multiplier} times the
+ * {@code adaptive-timeout-percentile} of the latency of the last successful invocations, up to the receive
+ * timeout.</li>
+ * </ul>
+ * Faults sent by the service are responses, they do not count as failures. Only transport failures, timeouts and
+ * unexpected responses do.
+ */
+public final class CxfClientResilience {
+
+    /** The states of the circuit breaker */
+    public enum State {
+        /** invocations go through */
+        CLOSED,
+        /** invocations are rejected */
+        OPEN,
+        /** a single invocation goes through to probe the service */
+        HALF_OPEN
+    }
+
+    private static final int LATENCY_SAMPLES = 128;
+    private static final int MIN_LATENCY_SAMPLES = 16;
+
+    private final String sei;
+    private final int maxConcurrentRequests;
+    private final Semaphore bulkhead;
+    private final int requestVolume;
+    private final double failureRatio;
+    private final long delayNanos;
+    private final long receiveTimeout;
+    private final double percentile;
+    private final double multiplier;
+
+    /** outcomes of the last invocations, true for failures, when the circuit breaker is enabled */
+    private final boolean[] outcomes;
+    private int outcomeCount;
+    private int failureCount;
+    private State state = State.CLOSED;
+    private long openedAt;
+    private boolean probing;
+
+    /** latencies of the last successful invocations in milliseconds, when the adaptive timeout is enabled */
+    private final long[] latencies;
+    private int latencyCount;
+
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+
+    CxfClientResilience(CXFClientInfo cxfClientInfo) {
+        this.sei = cxfClientInfo.getSei();
+        this.maxConcurrentRequests = cxfClientInfo.getMaxConcurrentRequests();
+        this.bulkhead = maxConcurrentRequests > 0 ? new Semaphore(maxConcurrentRequests) : null;
+        this.requestVolume = Math.max(1, cxfClientInfo.getCircuitBreakerRequestVolume());
+        this.failureRatio = cxfClientInfo.getCircuitBreakerFailureRatio();
+        this.delayNanos = TimeUnit.MILLISECONDS.toNanos(cxfClientInfo.getCircuitBreakerDelay());
+        this.outcomes = cxfClientInfo.isCircuitBreaker() ? new boolean[requestVolume] : null;
+        this.receiveTimeout = cxfClientInfo.getReceiveTimeout();
+        this.percentile = cxfClientInfo.getAdaptiveTimeoutPercentile();
+        this.multiplier = cxfClientInfo.getAdaptiveTimeoutMultiplier();
+        this.latencies = cxfClientInfo.isAdaptiveTimeout() ? new long[LATENCY_SAMPLES] : null;
+    }
+
+    /**
+     * @return whether any of the guards is enabled for the client described by {@code cxfClientInfo}
+     */
+    static boolean isEnabled(CXFClientInfo cxfClientInfo) {
+        return cxfClientInfo.getMaxConcurrentRequests() > 0 || cxfClientInfo.isCircuitBreaker()
+                || cxfClientInfo.isAdaptiveTimeout();
+    }
+
+    /**
+     * @return the resilience guards of an injected client, or {@code null} if none is enabled
+     */
+    public static CxfClientResilience of(Object client) {
+        Client cxfClient = CxfClientPool.clientOf(client);
+        return cxfClient instanceof CxfClientImpl ? ((CxfClientImpl) cxfClient).getResilience() : null;
+    }
+
+    /**
+     * @return the state of the circuit breaker, always {@link State#CLOSED} when it is disabled
+     */
+    public synchronized State getState() {
+        if (state == State.OPEN && System.nanoTime() - openedAt >= delayNanos) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    /**
+     * @return the number of invocations in flight, when the bulkhead is enabled
+     */
+    public int getConcurrentRequests() {
+        return bulkhead == null ? 0 : maxConcurrentRequests - bulkhead.availablePermits();
+    }
+
+    /**
+     * @return the number of invocations rejected by the bulkhead or the circuit breaker
+     */
+    public long getRejected() {
+        return rejected.get();
+    }
+
+    /**
+     * @return the number of invocations which failed
+     */
+    public long getFailures() {
+        return failures.get();
+    }
+
+    /**
+     * @return how long the next invocation waits for its response, in milliseconds
+     */
+    public long getTimeout() {
+        if (latencies == null) {
+            return receiveTimeout;
+        }
+        long[] sorted;
+        synchronized (this) {
+            if (latencyCount < MIN_LATENCY_SAMPLES) {
+                return receiveTimeout;
+            }
+            sorted = Arrays.copyOf(latencies, Math.min(latencyCount, LATENCY_SAMPLES));
+        }
+        Arrays.sort(sorted);
+        long latency = sorted[Math.min(sorted.length - 1, (int) Math.ceil(percentile * sorted.length) - 1)];
+        long timeout = (long) Math.ceil(Math.max(1, latency) * multiplier);
+        return receiveTimeout > 0 ? Math.min(timeout, receiveTimeout) : timeout;
+    }
+
+    /**
+     * @return {@code context} with the adaptive timeout as receive timeout of the request, unless it has one already
+     */
+    Map<String, Object> withTimeout(Map<String, Object> context, Map<String, Object> requestContext) {
+        if (latencies == null) {
+            return context;
+        }
+        Map<String, Object> result = context == null ? new HashMap<>() : new HashMap<>(context);
+        Map<String, Object> request = CastUtils.cast((Map<?, ?>) result.get(Client.REQUEST_CONTEXT));
+        request = new HashMap<>(request != null ? request : requestContext);
+        request.putIfAbsent(Message.RECEIVE_TIMEOUT, getTimeout());
+        result.put(Client.REQUEST_CONTEXT, request);
+        return result;
+    }
+
+    Object[] invoke(CxfClientImpl.Invocation call) throws Exception {
+        Permit permit = acquire();
+        try {
+            Object[] response = call.invoke();
+            permit.release(null);
+            return response;
+        } catch (Exception | Error e) {
+            permit.release(e);
+            throw e;
+        }
+    }
+
+    void invoke(ClientCallback callback, CxfClientImpl.AsyncInvocation call) throws Exception {
+        Permit permit = acquire();
+        ClientCallback releasing = new ClientCallback() {
+            @Override
+            public void handleResponse(Map<String, Object> ctx, Object[] res) {
+                permit.release(null);
+                callback.handleResponse(ctx, res);
+            }
+
+            @Override
+            public void handleException(Map<String, Object> ctx, Throwable ex) {
+                permit.release(ex);
+                callback.handleException(ctx, ex);
+            }
+        };
+        try {
+            call.invoke(releasing);
+        } catch (Exception | Error e) {
+            permit.release(e);
+            throw e;
+        }
+    }
+
+    private Permit acquire() {
+        if (bulkhead != null && !bulkhead.tryAcquire()) {
+            rejected.incrementAndGet();
+            throw new WebServiceException("Too many concurrent requests to " + sei);
+        }
+        boolean probe = false;
+        if (outcomes != null) {
+            boolean reject = false;
+            synchronized (this) {
+                if (state == State.OPEN && System.nanoTime() - openedAt >= delayNanos) {
+                    state = State.HALF_OPEN;
+                }
+                if (state == State.OPEN || (state == State.HALF_OPEN && probing)) {
+                    reject = true;
+                } else if (state == State.HALF_OPEN) {
+                    probing = true;
+                    probe = true;
+                }
+            }
+            if (reject) {
+                if (bulkhead != null) {
+                    bulkhead.release();
+                }
+                rejected.incrementAndGet();
+                throw new WebServiceException("Circuit breaker of " + sei + " is open");
+            }
+        }
+        return new Permit(System.nanoTime(), probe);
+    }
+
+    private synchronized void record(boolean failure, long latencyNanos, boolean probe) {
+        if (latencies != null && !failure) {
+            latencies[latencyCount++ % LATENCY_SAMPLES] = TimeUnit.NANOSECONDS.toMillis(latencyNanos);
+            if (latencyCount == 2 * LATENCY_SAMPLES) {
+                // keeps the index in the same slot while avoiding an overflow
+                latencyCount = LATENCY_SAMPLES;
+            }
+        }
+        if (outcomes == null) {
+            return;
+        }
+        if (probe) {
+            probing = false;
+            if (failure) {
+                open();
+            } else {
+                state = State.CLOSED;
+                outcomeCount = 0;
+                failureCount = 0;
+            }
+            return;
+        }
+        if (state != State.CLOSED) {
+            // started before the circuit was opened, only the probe decides whether it closes again
+            return;
+        }
+        int slot = outcomeCount % requestVolume;
+        if (outcomeCount >= requestVolume && outcomes[slot]) {
+            failureCount--;
+        }
+        outcomes[slot] = failure;
+        if (failure) {
+            failureCount++;
+        }
+        outcomeCount++;
+        if (outcomeCount == 2 * requestVolume) {
+            // keeps the index in the same slot while avoiding an overflow
+            outcomeCount = requestVolume;
+        }
+        if (outcomeCount >= requestVolume && failureCount >= failureRatio * requestVolume) {
+            open();
+        }
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = System.nanoTime();
+        outcomeCount = 0;
+        failureCount = 0;
+    }
+
+    private static boolean isFailure(Throwable failure) {
+        return failure != null && !(failure instanceof SoapFault)
+                && !(failure.getCause() instanceof SoapFault);
+    }
+
+    private final class Permit {
+        private final long start;
+        /** whether this is the single invocation let through by the half-open circuit breaker */
+        private final boolean probe;
+
+        private Permit(long start, boolean probe) {
+            this.start = start;
+            this.probe = probe;
+        }
+
+        private void release(Throwable failure) {
+            if (bulkhead != null) {
+                bulkhead.release();
+            }
+            boolean failed = isFailure(failure);
+            if (failed) {
+                failures.incrementAndGet();
+            }
+            record(failed, System.nanoTime() - start, probe);
+        }
+    }
+}
@@ -1,10 +1,13 @@
 package io.quarkiverse.cxf;
 
+import java.time.Duration;
 import java.util.Map;
+import java.util.Optional;
 
 import io.quarkus.runtime.annotations.ConfigItem;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
+import io.quarkus.runtime.configuration.MemorySize;
 
 @ConfigRoot(name = CxfConfig.CONFIG_NAME, phase = ConfigPhase.RUN_TIME)
 public class CxfConfig {
@@ -15,4 +18,188 @@ public class CxfConfig {
      */
     @ConfigItem(name = "endpoint")
     public Map<String, CxfEndpointConfig> endpoints;
+
+    /**
+     * The thread on which requests to server endpoints are processed: event-loop, worker or virtual-thread.
+     * virtual-thread requires Java 24 or later, worker threads are used on older JVMs.
+     */
+    @ConfigItem(defaultValue = "worker")
+    public DispatchMode dispatchMode;
+
+    /**
+     * How long reading the body of a server request waits for the client to send more data.
+     */
+    @ConfigItem(defaultValue = "10S")
+    public Duration readTimeout;
+
+    /**
+     * The largest request body accepted by server endpoints. Larger requests are rejected with status 413, or fail
+     * while being read when they do not declare a Content-Length. When not set, the bodies streamed to endpoints
+     * dispatched to worker threads are not limited, and those read whole into memory by the other dispatch modes are
+     * limited to 10M, as {@code quarkus.http.limits.max-body-size}.
+     */
+    @ConfigItem
+    public Optional<MemorySize> maxBodySize;
+
+    /**
+     * The size of the response buffer of server endpoints. Responses that fit are sent in one write with a
+     * Content-Length, larger ones are streamed in chunks of this size.
+     */
+    @ConfigItem(defaultValue = "32K")
+    public MemorySize responseBufferSize;
+
+    /**
+     * Whether server endpoints record Micrometer metrics of their requests: timers and payload size histograms by
+     * endpoint and operation, fault counts by fault code and gauges of the requests in flight. Requires
+     * io.quarkus:quarkus-micrometer.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean metrics;
+
+    /**
+     * Whether the interceptor chains of server endpoints and clients record the time spent in each of their phases in
+     * the cxf.phase Micrometer histogram. Requires io.quarkus:quarkus-micrometer.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean profiling;
+
+    /**
+     * The number of most recent per-request phase breakdowns shown in the Dev UI when profiling is enabled.
+     */
+    @ConfigItem(defaultValue = "20")
+    public int profilingHistory;
+
+    /**
+     * Whether server endpoints and clients trace their requests with OpenTelemetry spans and propagate the trace
+     * context in HTTP headers. Requires io.quarkus:quarkus-opentelemetry.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean tracing;
+
+    /**
+     * Whether clients also send the trace context in SOAP headers, and server endpoints read it from them when the
+     * HTTP headers carry none.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean tracingSoapHeaders;
+
+    /**
+     * The maximum number of connections each client keeps open to a host.
+     */
+    @ConfigItem(defaultValue = "20")
+    public int clientConnectionPoolSize;
+
+    /**
+     * How long a pooled client connection may stay unused before it is closed.
+     */
+    @ConfigItem(defaultValue = "60S")
+    public Duration clientIdleTimeout;
+
+    /**
+     * How long clients wait for a connection to be established.
+     */
+    @ConfigItem(defaultValue = "30S")
+    public Duration clientConnectTimeout;
+
+    /**
+     * Whether clients talk HTTP/2 to the services they call, negotiated with ALPN over TLS or through an h2c upgrade
+     * otherwise.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean clientHttp2;
+
+    /**
+     * How injected clients may be used by several threads at a time: shared, thread-local or pooled.
+     */
+    @ConfigItem(defaultValue = "shared")
+    public ClientConcurrencyMode clientConcurrencyMode;
+
+    /**
+     * The number of proxies of a client using the pooled concurrency mode. They share the connections of the client.
+     * An invocation waits for one of them to be free at most for the connect and receive timeouts of the client.
+     */
+    @ConfigItem(defaultValue = "8")
+    public int clientProxyPoolSize;
+
+    /**
+     * Whether clients are created at startup rather than on first use, fetching their WSDL and building their JAXB
+     * context before the application serves requests.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean clientWarmUp;
+
+    /**
+     * The number of connections a client warmed up at startup opens to its service, in the background. They are closed
+     * once idle for the client idle timeout. Connections which cannot be opened are reported and opened on demand
+     * later.
+     */
+    @ConfigItem(defaultValue = "0")
+    public int clientWarmUpConnections;
+
+    /**
+     * How long clients use a cached response, for the operations listed in quarkus.cxf.endpoint."key".cached-operations.
+     */
+    @ConfigItem(defaultValue = "60S")
+    public Duration clientResponseCacheTtl;
+
+    /**
+     * The maximum number of responses a client caches, the least recently used ones being evicted first.
+     */
+    @ConfigItem(defaultValue = "1000")
+    public int clientResponseCacheMaxSize;
+
+    /**
+     * How long clients wait for a response once their request is sent.
+     */
+    @ConfigItem(defaultValue = "60S")
+    public Duration clientReceiveTimeout;
+
+    /**
+     * The maximum number of invocations a client has in flight, the others being rejected. 0 means no limit.
+     */
+    @ConfigItem(defaultValue = "0")
+    public int clientMaxConcurrentRequests;
+
+    /**
+     * Whether clients stop calling their service for a while once too many of their invocations fail.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean clientCircuitBreaker;
+
+    /**
+     * The number of last invocations of a client whose failures the circuit breaker counts.
+     */
+    @ConfigItem(defaultValue = "20")
+    public int clientCircuitBreakerRequestVolume;
+
+    /**
+     * The ratio of failures among the last invocations of a client which opens its circuit breaker.
+     */
+    @ConfigItem(defaultValue = "0.5")
+    public double clientCircuitBreakerFailureRatio;
+
+    /**
+     * How long an open circuit breaker rejects invocations before it lets one through to probe the service.
+     */
+    @ConfigItem(defaultValue = "5S")
+    public Duration clientCircuitBreakerDelay;
+
+    /**
+     * Whether clients wait for responses a multiple of a percentile of their recent latency rather than the whole
+     * receive timeout.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean clientAdaptiveTimeout;
+
+    /**
+     * The percentile of the latency of the last successful invocations of a client the adaptive timeout is based on.
+     */
+    @ConfigItem(defaultValue = "0.99")
+    public double clientAdaptiveTimeoutPercentile;
+
+    /**
+     * The factor applied to the latency percentile to get the adaptive timeout.
+     */
+    @ConfigItem(defaultValue = "2")
+    public double clientAdaptiveTimeoutMultiplier;
 }
@@ -1,10 +1,12 @@
 package io.quarkiverse.cxf;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
 import io.quarkus.runtime.annotations.ConfigGroup;
 import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.configuration.MemorySize;
 
 @ConfigGroup
 public class CxfEndpointConfig {
@@ -92,4 +94,192 @@ public class CxfEndpointConfig {
      */
     @ConfigItem
     public Optional<List<String>> inFaultInterceptors;
+
+    /**
+     * The thread on which requests to this server endpoint are processed: event-loop, worker or virtual-thread.
+     * Defaults to quarkus.cxf.dispatch-mode
+     */
+    @ConfigItem
+    public Optional<DispatchMode> dispatchMode;
+
+    /**
+     * The size of the response buffer of this server endpoint. Defaults to quarkus.cxf.response-buffer-size
+     */
+    @ConfigItem
+    public Optional<MemorySize> responseBufferSize;
+
+    /**
+     * Whether this server endpoint sends binary content as MTOM attachments
+     */
+    @ConfigItem
+    public Optional<Boolean> mtomEnabled;
+
+    /**
+     * Binary content smaller than this is inlined in the SOAP body instead of being sent as an MTOM attachment
+     */
+    @ConfigItem
+    public Optional<MemorySize> mtomThreshold;
+
+    /**
+     * How much of an incoming attachment this server endpoint keeps in memory when it has to be cached, e.g. because
+     * a later attachment is read first. Larger attachments are cached in attachment-directory
+     */
+    @ConfigItem
+    public Optional<MemorySize> attachmentMemoryThreshold;
+
+    /**
+     * The directory incoming attachments larger than attachment-memory-threshold are cached in
+     */
+    @ConfigItem
+    public Optional<String> attachmentDirectory;
+
+    /**
+     * The largest incoming attachment this server endpoint caches
+     */
+    @ConfigItem
+    public Optional<MemorySize> attachmentMaxSize;
+
+    /**
+     * The maximum number of connections this client keeps open to a host. Defaults to
+     * quarkus.cxf.client-connection-pool-size
+     */
+    @ConfigItem
+    public Optional<Integer> connectionPoolSize;
+
+    /**
+     * How long a pooled connection of this client may stay unused before it is closed. Defaults to
+     * quarkus.cxf.client-idle-timeout
+     */
+    @ConfigItem
+    public Optional<Duration> idleTimeout;
+
+    /**
+     * How long this client waits for a connection to be established. Defaults to quarkus.cxf.client-connect-timeout
+     */
+    @ConfigItem
+    public Optional<Duration> connectTimeout;
+
+    /**
+     * Whether this client talks HTTP/2 to the service. Defaults to quarkus.cxf.client-http2
+     */
+    @ConfigItem
+    public Optional<Boolean> http2;
+
+    /**
+     * How this client may be used by several threads at a time: shared, thread-local or pooled. Defaults to
+     * quarkus.cxf.client-concurrency-mode
+     */
+    @ConfigItem
+    public Optional<ClientConcurrencyMode> concurrencyMode;
+
+    /**
+     * The number of proxies of this client when it uses the pooled concurrency mode. Defaults to
+     * quarkus.cxf.client-proxy-pool-size
+     */
+    @ConfigItem
+    public Optional<Integer> proxyPoolSize;
+
+    /**
+     * Whether this client is created at startup rather than on first use. Defaults to quarkus.cxf.client-warm-up
+     */
+    @ConfigItem
+    public Optional<Boolean> warmUp;
+
+    /**
+     * The number of connections this client opens to its service when it is warmed up at startup. Defaults to
+     * quarkus.cxf.client-warm-up-connections
+     */
+    @ConfigItem
+    public Optional<Integer> warmUpConnections;
+
+    /**
+     * The comma-separated list of the operations of this client whose responses are cached, by request payload,
+     * endpoint address and credentials. Only operations without side effects should be listed. The objects of a
+     * cached response are returned as is to every invocation the cache answers, they must not be modified
+     */
+    @ConfigItem
+    public Optional<List<String>> cachedOperations;
+
+    /**
+     * How long this client uses a cached response. Defaults to quarkus.cxf.client-response-cache-ttl
+     */
+    @ConfigItem
+    public Optional<Duration> responseCacheTtl;
+
+    /**
+     * The maximum number of responses this client caches. Defaults to quarkus.cxf.client-response-cache-max-size
+     */
+    @ConfigItem
+    public Optional<Integer> responseCacheMaxSize;
+
+    /**
+     * The comma-separated list of the operations of this client whose concurrent invocations with the same request
+     * payload share a single request to the service and its response. Only operations without side effects should be
+     * listed
+     */
+    @ConfigItem
+    public Optional<List<String>> coalescedOperations;
+
+    /**
+     * How long this client waits for a response once its request is sent. Defaults to
+     * quarkus.cxf.client-receive-timeout
+     */
+    @ConfigItem
+    public Optional<Duration> receiveTimeout;
+
+    /**
+     * The maximum number of invocations this client has in flight, the others being rejected. Defaults to
+     * quarkus.cxf.client-max-concurrent-requests
+     */
+    @ConfigItem
+    public Optional<Integer> maxConcurrentRequests;
+
+    /**
+     * Whether this client stops calling the service for a while once too many of its invocations fail. Defaults to
+     * quarkus.cxf.client-circuit-breaker
+     */
+    @ConfigItem
+    public Optional<Boolean> circuitBreaker;
+
+    /**
+     * The number of last invocations of this client whose failures the circuit breaker counts. Defaults to
+     * quarkus.cxf.client-circuit-breaker-request-volume
+     */
+    @ConfigItem
+    public Optional<Integer> circuitBreakerRequestVolume;
+
+    /**
+     * The ratio of failures among the last invocations of this client which opens its circuit breaker. Defaults to
+     * quarkus.cxf.client-circuit-breaker-failure-ratio
+     */
+    @ConfigItem
+    public Optional<Double> circuitBreakerFailureRatio;
+
+    /**
+     * How long the open circuit breaker of this client rejects invocations before it lets one through. Defaults to
+     * quarkus.cxf.client-circuit-breaker-delay
+     */
+    @ConfigItem
+    public Optional<Duration> circuitBreakerDelay;
+
+    /**
+     * Whether this client waits for responses a multiple of a percentile of its recent latency. Defaults to
+     * quarkus.cxf.client-adaptive-timeout
+     */
+    @ConfigItem
+    public Optional<Boolean> adaptiveTimeout;
+
+    /**
+     * The latency percentile the adaptive timeout of this client is based on. Defaults to
+     * quarkus.cxf.client-adaptive-timeout-percentile
+     */
+    @ConfigItem
+    public Optional<Double> adaptiveTimeoutPercentile;
+
+    /**
+     * The factor applied to the latency percentile to get the adaptive timeout of this client. Defaults to
+     * quarkus.cxf.client-adaptive-timeout-multiplier
+     */
+    @ConfigItem
+    public Optional<Double> adaptiveTimeoutMultiplier;
 }
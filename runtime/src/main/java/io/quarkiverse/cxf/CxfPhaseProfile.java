@@ -0,0 +1,125 @@
+package io.quarkiverse.cxf;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The time an interceptor chain of a server endpoint or of a client spent in each of its phases, recorded when
+ * {@code quarkus.cxf.profiling} is enabled. The most recent ones are kept for the Dev UI.
+ */
+public final class CxfPhaseProfile {
+
+    private static final Deque<CxfPhaseProfile> RECENT = new ArrayDeque<>();
+
+    private final long timestamp;
+    private final String side;
+    private final String endpoint;
+    private final String operation;
+    private final String chain;
+    private final List<PhaseTime> phases;
+
+    CxfPhaseProfile(long timestamp, String side, String endpoint, String operation, String chain,
+            List<PhaseTime> phases) {
+        this.timestamp = timestamp;
+        this.side = side;
+        this.endpoint = endpoint;
+        this.operation = operation;
+        this.chain = chain;
+        this.phases = phases;
+    }
+
+    /**
+     * @return the most recent profiles, the latest first
+     */
+    public static List<CxfPhaseProfile> getRecent() {
+        synchronized (RECENT) {
+            return new ArrayList<>(RECENT);
+        }
+    }
+
+    /**
+     * Keeps {@code profile} among the {@code history} most recent ones.
+     */
+    static void publish(CxfPhaseProfile profile, int history) {
+        synchronized (RECENT) {
+            RECENT.addFirst(profile);
+            while (RECENT.size() > history) {
+                RECENT.removeLast();
+            }
+        }
+    }
+
+    /**
+     * @return when the chain completed, in milliseconds since the epoch
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * @return {@code server} or {@code client}
+     */
+    public String getSide() {
+        return side;
+    }
+
+    /**
+     * @return the relative path of the server endpoint or the SEI of the client
+     */
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * @return the name of the operation, or {@code unknown} if none was matched
+     */
+    public String getOperation() {
+        return operation;
+    }
+
+    /**
+     * @return {@code in}, {@code out}, {@code in-fault} or {@code out-fault}
+     */
+    public String getChain() {
+        return chain;
+    }
+
+    /**
+     * @return the phases the chain went through, in order
+     */
+    public List<PhaseTime> getPhases() {
+        return phases;
+    }
+
+    public long getTotalMicros() {
+        long total = 0;
+        for (PhaseTime phase : phases) {
+            total += phase.nanos;
+        }
+        return TimeUnit.NANOSECONDS.toMicros(total);
+    }
+
+    /**
+     * The time spent in a phase.
+     */
+    public static final class PhaseTime {
+        private final String phase;
+        private final long nanos;
+
+        PhaseTime(String phase, long nanos) {
+            this.phase = phase;
+            this.nanos = nanos;
+        }
+
+        public String getPhase() {
+            return phase;
+        }
+
+        public long getMicros() {
+            return TimeUnit.NANOSECONDS.toMicros(nanos);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package io.quarkiverse.cxf;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.cxf.Bus;
+import org.apache.cxf.feature.AbstractFeature;
+import org.apache.cxf.feature.Feature;
+import org.apache.cxf.interceptor.Interceptor;
+import org.apache.cxf.interceptor.InterceptorProvider;
+import org.apache.cxf.message.Message;
+import org.apache.cxf.phase.AbstractPhaseInterceptor;
+import org.apache.cxf.phase.Phase;
+import org.apache.cxf.phase.PhaseManager;
+import org.apache.cxf.service.model.BindingOperationInfo;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Times each phase of the interceptor chains of a server endpoint or of a client: a marker at the head of every phase
+ * records the time spent since the marker of the previous phase in the {@code cxf.phase} histogram, tagged with the
+ * side, the endpoint, the chain and the phase. The chains of the endpoints without this feature are left untouched.
+ * <p>
+ * A phase running a nested chain includes its time: the post-invoke phase of the in chain of a server includes the
+ * out chain of the response, and the prepare-send-ending phase of the out chain of a synchronous client includes the
+ * wait for the response and its in chain.
+ */
+public final class CxfPhaseProfilingFeature extends AbstractFeature {
+
+    private static final String PROFILE = CxfPhaseProfilingFeature.class.getName() + ".profile";
+    private static final String UNKNOWN = "unknown";
+
+    private final String side;
+    private final String endpoint;
+    private final int history;
+
+    private CxfPhaseProfilingFeature(String side, String endpoint, int history) {
+        this.side = side;
+        this.endpoint = endpoint;
+        this.history = history;
+    }
+
+    /**
+     * Records the phases in the Micrometer global registry, which the Micrometer extension adds its registries to.
+     *
+     * @param side {@code server} or {@code client}
+     * @param endpoint the relative path of the server endpoint or the SEI of the client
+     * @param history the number of most recent {@link CxfPhaseProfile}s to keep
+     */
+    public static Feature create(String side, String endpoint, int history) {
+        return new CxfPhaseProfilingFeature(side, endpoint, history);
+    }
+
+    @Override
+    protected void initializeProvider(InterceptorProvider provider, Bus bus) {
+        PhaseManager phaseManager = bus.getExtension(PhaseManager.class);
+        addMarkers(provider.getInInterceptors(), phaseManager.getInPhases(), "in");
+        addMarkers(provider.getInFaultInterceptors(), phaseManager.getInPhases(), "in-fault");
+        addMarkers(provider.getOutInterceptors(), phaseManager.getOutPhases(), "out");
+        addMarkers(provider.getOutFaultInterceptors(), phaseManager.getOutPhases(), "out-fault");
+    }
+
+    private void addMarkers(List<Interceptor<? extends Message>> interceptors, SortedSet<Phase> phaseSet,
+            String chain) {
+        List<Phase> phases = new ArrayList<>(phaseSet);
+        String[] names = new String[phases.size()];
+        Timer[] timers = new Timer[phases.size()];
+        for (int i = 0; i < phases.size(); i++) {
+            names[i] = phases.get(i).getName();
+            timers[i] = Timer.builder("cxf.phase")
+                    .description("The time spent in a phase of an interceptor chain")
+                    .tag("side", side)
+                    .tag("endpoint", endpoint)
+                    .tag("chain", chain)
+                    .tag("phase", names[i])
+                    .publishPercentileHistogram()
+                    .register(Metrics.globalRegistry);
+            interceptors.add(new PhaseMarker(chain, i, names, timers));
+        }
+        interceptors.add(new EndMarker(chain, names, timers));
+    }
+
+    /**
+     * The phases a message went through so far.
+     */
+    private static final class Profile {
+        private final long[] nanos;
+        private int current = -1;
+        private long mark;
+
+        private Profile(int phases) {
+            this.nanos = new long[phases];
+        }
+
+        /**
+         * Records the time spent in the current phase and enters {@code next}.
+         */
+        private void enter(int next, long now, Timer[] timers) {
+            if (current >= 0) {
+                long elapsed = now - mark;
+                nanos[current] += elapsed;
+                timers[current].record(elapsed, TimeUnit.NANOSECONDS);
+            }
+            current = next;
+            mark = now;
+        }
+    }
+
+    private static class PhaseMarker extends AbstractPhaseInterceptor<Message> {
+        private final int index;
+        private final String[] names;
+        private final Timer[] timers;
+
+        PhaseMarker(String chain, int index, String[] names, Timer[] timers) {
+            super(PhaseMarker.class.getName() + "." + chain + "." + names[index], names[index]);
+            addBefore("*");
+            this.index = index;
+            this.names = names;
+            this.timers = timers;
+        }
+
+        @Override
+        public void handleMessage(Message message) {
+            long now = System.nanoTime();
+            Profile profile = (Profile) message.get(PROFILE);
+            if (profile == null) {
+                profile = new Profile(names.length);
+                message.put(PROFILE, profile);
+            }
+            profile.enter(index, now, timers);
+        }
+    }
+
+    /**
+     * Closes the last phase and publishes the profile of the message.
+     */
+    private class EndMarker extends AbstractPhaseInterceptor<Message> {
+        private final String chain;
+        private final String[] names;
+        private final Timer[] timers;
+
+        EndMarker(String chain, String[] names, Timer[] timers) {
+            super(EndMarker.class.getName() + "." + chain, names[names.length - 1]);
+            this.chain = chain;
+            this.names = names;
+            this.timers = timers;
+        }
+
+        @Override
+        public void handleMessage(Message message) {
+            long now = System.nanoTime();
+            Profile profile = (Profile) message.remove(PROFILE);
+            if (profile == null) {
+                return;
+            }
+            profile.enter(-1, now, timers);
+            if (history <= 0) {
+                return;
+            }
+            List<CxfPhaseProfile.PhaseTime> phases = new ArrayList<>();
+            for (int i = 0; i < names.length; i++) {
+                if (profile.nanos[i] > 0) {
+                    phases.add(new CxfPhaseProfile.PhaseTime(names[i], profile.nanos[i]));
+                }
+            }
+            BindingOperationInfo bop = message.getExchange().getBindingOperationInfo();
+            String operation = bop != null ? bop.getOperationInfo().getName().getLocalPart() : UNKNOWN;
+            CxfPhaseProfile.publish(new CxfPhaseProfile(System.currentTimeMillis(), side, endpoint, operation, chain,
+                    phases), history);
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package io.quarkiverse.cxf;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.HttpURLConnection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import javax.xml.soap.SOAPException;
+import javax.xml.soap.SOAPFault;
+import javax.xml.ws.Binding;
+import javax.xml.ws.Holder;
+import javax.xml.ws.WebServiceException;
+import javax.xml.ws.http.HTTPBinding;
+import javax.xml.ws.http.HTTPException;
+import javax.xml.ws.soap.SOAPBinding;
+import javax.xml.ws.soap.SOAPFaultException;
+
+import org.apache.cxf.binding.soap.SoapFault;
+import org.apache.cxf.endpoint.Client;
+import org.apache.cxf.endpoint.ClientCallback;
+import org.apache.cxf.interceptor.Fault;
+import org.apache.cxf.jaxws.support.JaxWsEndpointImpl;
+import org.apache.cxf.service.invoker.MethodDispatcher;
+import org.apache.cxf.service.model.BindingOperationInfo;
+import org.w3c.dom.Node;
+
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Non-blocking view of the injected client of an SEI, produced for each client SEI alongside the client itself:
+ *
+ * <pre>
+ * &#64;Inject
+ * CxfReactiveClient&lt;CalculatorSoap&gt; calculator;
+ *
+ * Uni&lt;Integer&gt; product = calculator.uni(c -&gt; c.multiply(a, b));
+ * </pre>
+ *
+ * The function is applied to a stand-in of the SEI which only records the operation called and its arguments. The
+ * operation is then invoked asynchronously through the client, whose conduit waits for the response without holding
+ * a thread; the result is delivered on a thread of the CXF work queue. Failures are mapped as by the synchronous
+ * client: to the checked exceptions declared by the operation, or else to a {@link SOAPFaultException}.
+ */
+public class CxfReactiveClient<T> {
+
+    private final Class<T> sei;
+    private final Supplier<Client> clients;
+
+    protected CxfReactiveClient() {
+        this.sei = null;
+        this.clients = null;
+    }
+
+    CxfReactiveClient(Class<T> sei, Object client) {
+        this.sei = sei;
+        this.clients = () -> CxfClientPool.clientOf(client);
+    }
+
+    /**
+     * @param call calls one operation of the SEI, its return value is ignored
+     * @return the result of the operation, invoked upon subscription
+     */
+    public <R> Uni<R> uni(Function<T, R> call) {
+        return Uni.createFrom().completionStage(() -> completionStage(call));
+    }
+
+    /**
+     * @param call calls one operation of the SEI, its return value is ignored
+     * @return the result of the operation, invoked right away
+     */
+    public <R> CompletionStage<R> completionStage(Function<T, R> call) {
+        CompletableFuture<R> result = new CompletableFuture<>();
+        try {
+            Recorder recorder = new Recorder();
+            call.apply(sei.cast(Proxy.newProxyInstance(sei.getClassLoader(), new Class<?>[] { sei }, recorder)));
+            if (recorder.method == null) {
+                throw new IllegalArgumentException("No operation of " + sei.getName() + " was called");
+            }
+            Client client = clients.get();
+            client.invoke(new ClientCallback() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public void handleResponse(Map<String, Object> ctx, Object[] res) {
+                    super.handleResponse(ctx, res);
+                    result.complete(res == null || res.length == 0 ? null : (R) res[0]);
+                }
+
+                @Override
+                public void handleException(Map<String, Object> ctx, Throwable ex) {
+                    super.handleException(ctx, ex);
+                    result.completeExceptionally(mapException(client, recorder.method, ex));
+                }
+            }, getOperation(client, recorder.method), recorder.args);
+        } catch (Exception e) {
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
+    private BindingOperationInfo getOperation(Client client, Method method) {
+        MethodDispatcher dispatcher = (MethodDispatcher) client.getEndpoint().getService()
+                .get(MethodDispatcher.class.getName());
+        BindingOperationInfo operation = dispatcher.getBindingOperation(method, client.getEndpoint());
+        if (operation == null) {
+            throw new WebServiceException(method + " is not an operation of " + sei.getName());
+        }
+        return operation;
+    }
+
+    /**
+     * Maps a failure of an invocation the way {@code JaxWsClientProxy} does for synchronous invocations.
+     */
+    private static Throwable mapException(Client client, Method method, Throwable ex) {
+        if (ex instanceof WebServiceException || !(ex instanceof Exception)) {
+            return ex;
+        }
+        for (Class<?> exceptionType : method.getExceptionTypes()) {
+            if (exceptionType.isInstance(ex)) {
+                return ex;
+            }
+        }
+        if (ex instanceof Fault && ex.getCause() instanceof IOException) {
+            return new WebServiceException(ex.getMessage(), ex.getCause());
+        }
+        Binding binding = client.getEndpoint() instanceof JaxWsEndpointImpl
+                ? ((JaxWsEndpointImpl) client.getEndpoint()).getJaxwsBinding()
+                : null;
+        if (binding instanceof HTTPBinding) {
+            HTTPException exception = new HTTPException(HttpURLConnection.HTTP_INTERNAL_ERROR);
+            exception.initCause(ex);
+            return exception;
+        } else if (binding instanceof SOAPBinding) {
+            SOAPFaultException exception;
+            try {
+                exception = new SOAPFaultException(createSoapFault((SOAPBinding) binding, (Exception) ex));
+            } catch (SOAPException | RuntimeException e) {
+                return new WebServiceException(ex);
+            }
+            exception.initCause(ex instanceof Fault && ex.getCause() != null ? ex.getCause() : ex);
+            return exception;
+        }
+        return new WebServiceException(ex);
+    }
+
+    private static SOAPFault createSoapFault(SOAPBinding binding, Exception ex) throws SOAPException {
+        SOAPFault soapFault = binding.getSOAPFactory().createFault();
+        if (!(ex instanceof SoapFault)) {
+            if (ex.getMessage() != null) {
+                soapFault.setFaultString(ex.getMessage());
+            }
+            return soapFault;
+        }
+        SoapFault fault = (SoapFault) ex;
+        soapFault.setFaultString(fault.getReason());
+        soapFault.setFaultCode(fault.getFaultCode());
+        if (fault.getRole() != null) {
+            soapFault.setFaultActor(fault.getRole());
+        }
+        if (fault.hasDetails()) {
+            soapFault.addDetail();
+            Node node = soapFault.getOwnerDocument().importNode(fault.getDetail(), true).getFirstChild();
+            while (node != null) {
+                Node next = node.getNextSibling();
+                soapFault.getDetail().appendChild(node);
+                node = next;
+            }
+        }
+        return soapFault;
+    }
+
+    /**
+     * Stand-in of the SEI, recording the last method called and returning default values.
+     */
+    private static class Recorder implements InvocationHandler {
+
+        private Method method;
+        private Object[] args;
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            if (method.getDeclaringClass() == Object.class) {
+                throw new IllegalArgumentException("Only operations of the SEI can be called, not " + method);
+            }
+            this.method = method;
+            this.args = args == null ? new Object[0] : args;
+            for (Object arg : this.args) {
+                if (arg instanceof Holder) {
+                    throw new IllegalArgumentException("Holder parameters are not supported by reactive clients");
+                }
+            }
+            return defaultValue(method.getReturnType());
+        }
+
+        private static Object defaultValue(Class<?> type) {
+            if (!type.isPrimitive() || type == void.class) {
+                return null;
+            } else if (type == boolean.class) {
+                return false;
+            } else if (type == char.class) {
+                return '\0';
+            } else if (type == byte.class) {
+                return (byte) 0;
+            } else if (type == short.class) {
+                return (short) 0;
+            } else if (type == int.class) {
+                return 0;
+            } else if (type == long.class) {
+                return 0L;
+            } else if (type == float.class) {
+                return 0f;
+            }
+            return 0d;
+        }
+    }
+}
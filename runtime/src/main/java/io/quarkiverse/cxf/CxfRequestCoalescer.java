@@ -0,0 +1,171 @@
+package io.quarkiverse.cxf;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.cxf.endpoint.Client;
+import org.apache.cxf.endpoint.ClientCallback;
+import org.apache.cxf.service.Service;
+import org.apache.cxf.service.model.BindingOperationInfo;
+
+/**
+ * Single-flight invocations of the coalesced operations of a client: while a request is in flight, the invocations
+ * with the same request payload, endpoint address and credentials, as keyed by {@link CxfRequestDigest}, wait for its
+ * response or failure instead of sending a request of their own. Requests with SOAP headers are never coalesced.
+ * <p>
+ * Invocations sharing a response get their own copies of its array of return values and of its response context, but
+ * share the objects it is made of, which must thus not be modified.
+ */
+public final class CxfRequestCoalescer {
+
+    private final List<String> operations;
+    private final Map<String, CompletableFuture<Response>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+
+    CxfRequestCoalescer(List<String> operations) {
+        this.operations = operations;
+    }
+
+    /**
+     * @return the request coalescer of an injected client, or {@code null} if none of its operations is coalesced
+     */
+    public static CxfRequestCoalescer of(Object client) {
+        Client cxfClient = CxfClientPool.clientOf(client);
+        return cxfClient instanceof CxfClientImpl ? ((CxfClientImpl) cxfClient).getCoalescer() : null;
+    }
+
+    /**
+     * @return the number of invocations of coalesced operations which sent a request
+     */
+    public long getCalls() {
+        return calls.get();
+    }
+
+    /**
+     * @return the number of invocations of coalesced operations which shared the request of another one
+     */
+    public long getCoalesced() {
+        return coalesced.get();
+    }
+
+    /**
+     * @param requestContext the request context of the invocation
+     * @return the key of the request, or {@code null} if it is not to be coalesced
+     */
+    String key(Service service, BindingOperationInfo bop, Object[] params, Map<String, Object> requestContext) {
+        if (bop.getOperationInfo().isOneWay() || !operations.contains(bop.getName().getLocalPart())) {
+            return null;
+        }
+        return CxfRequestDigest.of(service, bop, params == null ? Collections.emptyList() : Arrays.asList(params),
+                requestContext);
+    }
+
+    /**
+     * Invokes {@code call} unless a request with the same key is in flight, in which case its response is returned.
+     *
+     * @param responseContext the response context of the invocation, filled by {@code call} or with a copy of the
+     *        one of the request in flight, possibly {@code null}
+     */
+    Object[] invoke(String key, Map<String, Object> responseContext, CxfClientImpl.Invocation call) throws Exception {
+        CompletableFuture<Response> own = new CompletableFuture<>();
+        CompletableFuture<Response> pending = inFlight.putIfAbsent(key, own);
+        if (pending != null) {
+            coalesced.incrementAndGet();
+            try {
+                Response response = pending.get();
+                if (responseContext != null) {
+                    responseContext.putAll(response.context);
+                }
+                return response.copyValues();
+            } catch (ExecutionException e) {
+                throw rethrow(e.getCause());
+            }
+        }
+        calls.incrementAndGet();
+        try {
+            Object[] values = call.invoke();
+            own.complete(new Response(values, responseContext));
+            return values;
+        } catch (Exception | Error e) {
+            own.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, own);
+        }
+    }
+
+    /**
+     * Invokes {@code call} with a callback completing the invocations with the same key made meanwhile, unless a
+     * request with that key is in flight, in which case {@code callback} is completed with its response.
+     */
+    void invoke(String key, ClientCallback callback, CxfClientImpl.AsyncInvocation call) throws Exception {
+        CompletableFuture<Response> own = new CompletableFuture<>();
+        CompletableFuture<Response> pending = inFlight.putIfAbsent(key, own);
+        if (pending != null) {
+            coalesced.incrementAndGet();
+            pending.whenComplete((response, failure) -> {
+                if (failure != null) {
+                    callback.handleException(new HashMap<>(), failure);
+                } else {
+                    callback.handleResponse(new HashMap<>(response.context), response.copyValues());
+                }
+            });
+            return;
+        }
+        calls.incrementAndGet();
+        ClientCallback completing = new ClientCallback() {
+            @Override
+            public void handleResponse(Map<String, Object> ctx, Object[] res) {
+                inFlight.remove(key, own);
+                own.complete(new Response(res, ctx));
+                callback.handleResponse(ctx, res);
+            }
+
+            @Override
+            public void handleException(Map<String, Object> ctx, Throwable ex) {
+                inFlight.remove(key, own);
+                own.completeExceptionally(ex);
+                callback.handleException(ctx, ex);
+            }
+        };
+        try {
+            call.invoke(completing);
+        } catch (Exception | Error e) {
+            inFlight.remove(key, own);
+            own.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * The return values and a copy of the response context of a request, for the invocations coalesced with it to copy.
+     */
+    private static final class Response {
+        private final Object[] values;
+        private final Map<String, Object> context;
+
+        private Response(Object[] values, Map<String, Object> context) {
+            this.values = values;
+            this.context = context == null ? Collections.emptyMap() : new HashMap<>(context);
+        }
+
+        private Object[] copyValues() {
+            return values == null ? null : values.clone();
+        }
+    }
+
+    private static Exception rethrow(Throwable failure) {
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        return (Exception) failure;
+    }
+}
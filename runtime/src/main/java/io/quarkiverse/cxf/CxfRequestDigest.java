@@ -0,0 +1,167 @@
+package io.quarkiverse.cxf;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.xml.bind.JAXBElement;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.namespace.QName;
+import javax.xml.ws.BindingProvider;
+import javax.xml.ws.Holder;
+import javax.xml.ws.handler.MessageContext;
+
+import org.apache.cxf.configuration.security.AuthorizationPolicy;
+import org.apache.cxf.databinding.DataBinding;
+import org.apache.cxf.headers.Header;
+import org.apache.cxf.jaxb.JAXBDataBinding;
+import org.apache.cxf.message.Message;
+import org.apache.cxf.service.Service;
+import org.apache.cxf.service.model.BindingOperationInfo;
+import org.jboss.logging.Logger;
+
+/**
+ * Keys of client requests, made of the operation and of a SHA-256 digest of the XML its arguments are marshalled to,
+ * so that equal payloads get the same key whether or not their classes implement {@code equals}. The digest also
+ * covers the entries of the request context selecting the service and the caller: the endpoint address, the
+ * credentials and the outgoing HTTP headers, so that requests sent to another address or on behalf of another caller
+ * never get the same key.
+ */
+final class CxfRequestDigest {
+
+    private static final Logger LOGGER = Logger.getLogger(CxfRequestDigest.class);
+
+    private CxfRequestDigest() {
+    }
+
+    /**
+     * The entries of the request context the key depends on.
+     */
+    private static final String[] CONTEXT_KEYS = {
+            Message.ENDPOINT_ADDRESS,
+            BindingProvider.ENDPOINT_ADDRESS_PROPERTY,
+            BindingProvider.USERNAME_PROPERTY,
+            BindingProvider.PASSWORD_PROPERTY,
+            AuthorizationPolicy.class.getName(),
+            Message.PROTOCOL_HEADERS,
+            MessageContext.HTTP_REQUEST_HEADERS
+    };
+
+    /**
+     * @param context the request context of the invocation, or the outgoing message, possibly {@code null}
+     * @return the key of the request, or {@code null} if it has {@link Holder} arguments or arguments JAXB cannot
+     *         marshal, or if its context has SOAP headers or entries of unknown types
+     */
+    static String of(Service service, BindingOperationInfo bop, List<Object> args, Map<String, Object> context) {
+        DataBinding dataBinding = service.getDataBinding();
+        if (!(dataBinding instanceof JAXBDataBinding)) {
+            return null;
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(bop.getName().toString().getBytes(StandardCharsets.UTF_8));
+            if (context != null && !digestContext(digest, context)) {
+                return null;
+            }
+            if (args != null) {
+                Marshaller marshaller = ((JAXBDataBinding) dataBinding).getContext().createMarshaller();
+                marshaller.setProperty(Marshaller.JAXB_FRAGMENT, Boolean.TRUE);
+                OutputStream out = new DigestOutputStream(NullOutputStream.INSTANCE, digest);
+                for (Object arg : args) {
+                    if (arg instanceof Holder) {
+                        return null;
+                    }
+                    // separates the arguments so that null ones count
+                    digest.update((byte) 0);
+                    if (arg != null) {
+                        marshal(marshaller, arg, out);
+                    }
+                }
+            }
+            return bop.getName().getLocalPart() + ':' + Base64.getEncoder().encodeToString(digest.digest());
+        } catch (JAXBException e) {
+            LOGGER.debugf(e, "No key for a request to %s, its arguments could not be marshalled", bop.getName());
+            return null;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @return whether the entries of the context the key depends on could be digested
+     */
+    private static boolean digestContext(MessageDigest digest, Map<String, Object> context) {
+        Object soapHeaders = context.get(Header.HEADER_LIST);
+        if (soapHeaders instanceof Collection && !((Collection<?>) soapHeaders).isEmpty()) {
+            return false;
+        }
+        for (String key : CONTEXT_KEYS) {
+            // separates the entries so that missing ones count
+            digest.update((byte) 0);
+            Object value = context.get(key);
+            if (value == null) {
+                continue;
+            }
+            if (value instanceof CharSequence || value instanceof Number || value instanceof Boolean) {
+                update(digest, value);
+            } else if (value instanceof AuthorizationPolicy) {
+                AuthorizationPolicy policy = (AuthorizationPolicy) value;
+                update(digest, policy.getAuthorizationType());
+                update(digest, policy.getUserName());
+                update(digest, policy.getPassword());
+                update(digest, policy.getAuthorization());
+            } else if (value instanceof Map) {
+                // the headers, in the order of their names
+                Map<String, Object> headers = new TreeMap<>();
+                for (Map.Entry<?, ?> header : ((Map<?, ?>) value).entrySet()) {
+                    headers.put(String.valueOf(header.getKey()), header.getValue());
+                }
+                for (Map.Entry<String, Object> header : headers.entrySet()) {
+                    update(digest, header.getKey());
+                    if (header.getValue() instanceof Collection) {
+                        for (Object headerValue : (Collection<?>) header.getValue()) {
+                            update(digest, headerValue);
+                        }
+                    } else {
+                        update(digest, header.getValue());
+                    }
+                }
+            } else {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void update(MessageDigest digest, Object value) {
+        digest.update((byte) 0);
+        if (value != null) {
+            digest.update(value.toString().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static void marshal(Marshaller marshaller, Object arg, OutputStream out) throws JAXBException {
+        marshaller.marshal(new JAXBElement(new QName("arg"), arg.getClass(), arg), out);
+    }
+
+    private static final class NullOutputStream extends OutputStream {
+        private static final NullOutputStream INSTANCE = new NullOutputStream();
+
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package io.quarkiverse.cxf;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The responses of the cached operations of a client, by operation and request payload, evicted when they are older
+ * than the time to live or when the cache is full and they are the least recently used.
+ * <p>
+ * The objects of a cached response are handed as is to every invocation hitting the cache, they must thus not be
+ * modified.
+ */
+public final class CxfResponseCache {
+
+    private final List<String> operations;
+    private final long ttlNanos;
+    private final int maxSize;
+    private final Map<String, Entry> entries;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    CxfResponseCache(List<String> operations, long ttl, int maxSize) {
+        this.operations = operations;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttl);
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > CxfResponseCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * @return the response cache of an injected client, or {@code null} if none of its operations is cached
+     */
+    public static CxfResponseCache of(Object client) {
+        return (CxfResponseCache) CxfClientPool.clientOf(client).getEndpoint().get(CxfResponseCache.class.getName());
+    }
+
+    /**
+     * @return the number of invocations answered from the cache
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * @return the number of invocations of cached operations sent to the service
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * @return the number of responses in the cache, some of them possibly expired
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Removes all the responses from the cache.
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    boolean isCached(String operation) {
+        return operations.contains(operation);
+    }
+
+    /**
+     * @return a copy of the response cached for {@code key}, or {@code null} if it is missing or expired
+     */
+    List<Object> get(String key) {
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(key);
+            if (entry != null && System.nanoTime() - entry.created > ttlNanos) {
+                entries.remove(key);
+                entry = null;
+            }
+        }
+        if (entry == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return new ArrayList<>(entry.response);
+    }
+
+    void put(String key, List<Object> response) {
+        Entry entry = new Entry(new ArrayList<>(response), System.nanoTime());
+        synchronized (this) {
+            entries.put(key, entry);
+        }
+    }
+
+    private static final class Entry {
+        private final List<Object> response;
+        private final long created;
+
+        private Entry(List<Object> response, long created) {
+            this.response = response;
+            this.created = created;
+        }
+    }
+}
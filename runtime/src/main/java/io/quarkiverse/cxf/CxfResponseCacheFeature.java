@@ -0,0 +1,118 @@
+package io.quarkiverse.cxf;
+
+import java.util.HashMap;
+import java.util.List;
+
+import org.apache.cxf.Bus;
+import org.apache.cxf.endpoint.Client;
+import org.apache.cxf.endpoint.ClientCallback;
+import org.apache.cxf.endpoint.ClientImpl;
+import org.apache.cxf.feature.AbstractFeature;
+import org.apache.cxf.helpers.CastUtils;
+import org.apache.cxf.interceptor.Fault;
+import org.apache.cxf.interceptor.InterceptorProvider;
+import org.apache.cxf.message.Exchange;
+import org.apache.cxf.message.Message;
+import org.apache.cxf.message.MessageImpl;
+import org.apache.cxf.phase.AbstractPhaseInterceptor;
+import org.apache.cxf.phase.Phase;
+import org.apache.cxf.service.model.BindingOperationInfo;
+
+/**
+ * Answers the invocations of the cached operations of a client from its {@link CxfResponseCache} when it holds a
+ * response for the same request payload, endpoint address and credentials, as keyed by {@link CxfRequestDigest}, and
+ * stores the responses of the others. Requests with SOAP headers are never cached.
+ */
+class CxfResponseCacheFeature extends AbstractFeature {
+
+    private static final String KEY = CxfResponseCacheFeature.class.getName() + ".key";
+
+    private final CxfResponseCache cache;
+
+    CxfResponseCacheFeature(CxfResponseCache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public void initialize(Client client, Bus bus) {
+        client.getEndpoint().put(CxfResponseCache.class.getName(), cache);
+        super.initialize(client, bus);
+    }
+
+    @Override
+    protected void initializeProvider(InterceptorProvider provider, Bus bus) {
+        provider.getOutInterceptors().add(new LookupInterceptor());
+        provider.getInInterceptors().add(new StoreInterceptor());
+    }
+
+    /**
+     * @return the key of the request, or {@code null} if it is not to be cached
+     */
+    private String key(Message message) {
+        BindingOperationInfo bop = message.getExchange().getBindingOperationInfo();
+        if (bop == null || bop.getOperationInfo().isOneWay() || !cache.isCached(bop.getName().getLocalPart())) {
+            return null;
+        }
+        // the request context of the invocation is part of the message
+        return CxfRequestDigest.of(message.getExchange().getService(), bop,
+                CastUtils.cast(message.getContent(List.class)), message);
+    }
+
+    /**
+     * Answers the request from the cache, without sending it, when it holds a response for it.
+     */
+    private class LookupInterceptor extends AbstractPhaseInterceptor<Message> {
+
+        LookupInterceptor() {
+            super(Phase.SETUP);
+        }
+
+        @Override
+        public void handleMessage(Message message) throws Fault {
+            String key = key(message);
+            if (key == null) {
+                return;
+            }
+            List<Object> response = cache.get(key);
+            Exchange exchange = message.getExchange();
+            if (response == null) {
+                exchange.put(KEY, key);
+                return;
+            }
+            message.getInterceptorChain().abort();
+            Message inMessage = new MessageImpl();
+            inMessage.setExchange(exchange);
+            inMessage.setContent(List.class, response);
+            ClientCallback callback = exchange.get(ClientCallback.class);
+            if (callback != null) {
+                exchange.setInMessage(inMessage);
+                callback.handleResponse(new HashMap<>(), response.toArray());
+                return;
+            }
+            synchronized (exchange) {
+                exchange.setInMessage(inMessage);
+                exchange.put(ClientImpl.FINISHED, Boolean.TRUE);
+                exchange.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Stores the response of a request missing from the cache.
+     */
+    private class StoreInterceptor extends AbstractPhaseInterceptor<Message> {
+
+        StoreInterceptor() {
+            super(Phase.POST_INVOKE);
+        }
+
+        @Override
+        public void handleMessage(Message message) throws Fault {
+            String key = (String) message.getExchange().get(KEY);
+            List<Object> response = CastUtils.cast(message.getContent(List.class));
+            if (key != null && response != null) {
+                cache.put(key, response);
+            }
+        }
+    }
+}
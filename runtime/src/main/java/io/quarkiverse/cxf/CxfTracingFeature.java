@@ -0,0 +1,422 @@
+package io.quarkiverse.cxf;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.xml.namespace.QName;
+
+import org.apache.cxf.Bus;
+import org.apache.cxf.binding.soap.SoapFault;
+import org.apache.cxf.binding.soap.SoapMessage;
+import org.apache.cxf.binding.soap.interceptor.ReadHeadersInterceptor;
+import org.apache.cxf.endpoint.Server;
+import org.apache.cxf.feature.AbstractFeature;
+import org.apache.cxf.feature.Feature;
+import org.apache.cxf.headers.Header;
+import org.apache.cxf.helpers.CastUtils;
+import org.apache.cxf.helpers.DOMUtils;
+import org.apache.cxf.interceptor.Fault;
+import org.apache.cxf.interceptor.InterceptorProvider;
+import org.apache.cxf.interceptor.MessageSenderInterceptor;
+import org.apache.cxf.message.Exchange;
+import org.apache.cxf.message.Message;
+import org.apache.cxf.phase.AbstractPhaseInterceptor;
+import org.apache.cxf.phase.Phase;
+import org.apache.cxf.service.Service;
+import org.apache.cxf.service.invoker.Invoker;
+import org.apache.cxf.service.model.BindingOperationInfo;
+import org.w3c.dom.Element;
+
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanBuilder;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.context.propagation.TextMapGetter;
+import io.opentelemetry.context.propagation.TextMapPropagator;
+import io.opentelemetry.context.propagation.TextMapSetter;
+
+/**
+ * Traces the requests to a server endpoint or of a client with OpenTelemetry spans named after the port type and the
+ * operation, with the endpoint address and, for faults, an error status, the exception and the fault code.
+ * <p>
+ * The trace context is propagated in HTTP headers with the propagators of the global {@code OpenTelemetry}, and
+ * optionally in SOAP headers of the {@value #SOAP_HEADER_NAMESPACE} namespace for intermediaries dropping unknown
+ * HTTP headers. A server span is a child of the current span, such as the one of the HTTP request, or else of the
+ * propagated context.
+ * <p>
+ * The span of a request is kept in its exchange rather than in a thread local, so that it survives the hop from the
+ * event loop to the thread invoking the service, where it is made current for the duration of the invocation.
+ */
+public final class CxfTracingFeature extends AbstractFeature {
+
+    /**
+     * The namespace of the SOAP headers carrying the trace context, when enabled
+     */
+    public static final String SOAP_HEADER_NAMESPACE = "urn:quarkiverse:cxf:trace-context";
+
+    private static final String INSTRUMENTATION_NAME = "io.quarkiverse.cxf";
+    private static final String CONTEXT = CxfTracingFeature.class.getName() + ".context";
+    private static final String UNKNOWN = "unknown";
+
+    private static final AttributeKey<String> RPC_SYSTEM = AttributeKey.stringKey("rpc.system");
+    private static final AttributeKey<String> RPC_SERVICE = AttributeKey.stringKey("rpc.service");
+    private static final AttributeKey<String> RPC_METHOD = AttributeKey.stringKey("rpc.method");
+    private static final AttributeKey<String> HTTP_URL = AttributeKey.stringKey("http.url");
+    private static final AttributeKey<String> SOAP_FAULT_CODE = AttributeKey.stringKey("soap.fault.code");
+
+    private final SpanKind kind;
+    private final String name;
+    private final boolean soapHeaders;
+    private final Map<BindingOperationInfo, String> spanNames = new ConcurrentHashMap<>();
+    private volatile Tracer tracer;
+
+    private CxfTracingFeature(SpanKind kind, String name, boolean soapHeaders) {
+        this.kind = kind;
+        this.name = name;
+        this.soapHeaders = soapHeaders;
+    }
+
+    /**
+     * @param endpoint the relative path of the endpoint, naming its spans until their operation is known
+     * @param soapHeaders whether the trace context is also read from SOAP headers
+     */
+    public static Feature forServer(String endpoint, boolean soapHeaders) {
+        return new CxfTracingFeature(SpanKind.SERVER, endpoint, soapHeaders);
+    }
+
+    /**
+     * @param sei the SEI of the client, naming its spans when their operation is unknown
+     * @param soapHeaders whether the trace context is also sent in SOAP headers
+     */
+    public static Feature forClient(String sei, boolean soapHeaders) {
+        return new CxfTracingFeature(SpanKind.CLIENT, sei, soapHeaders);
+    }
+
+    /**
+     * Also makes the span current while the service is invoked.
+     */
+    @Override
+    public void initialize(Server server, Bus bus) {
+        super.initialize(server, bus);
+        Service service = server.getEndpoint().getService();
+        service.setInvoker(new TracingInvoker(service.getInvoker()));
+    }
+
+    @Override
+    protected void initializeProvider(InterceptorProvider provider, Bus bus) {
+        if (kind == SpanKind.SERVER) {
+            provider.getInInterceptors().add(new ServerStartInterceptor());
+            provider.getInInterceptors().add(new EndInterceptor("in", Phase.POST_INVOKE, true));
+            provider.getOutInterceptors().add(new SentInterceptor("out"));
+            provider.getOutFaultInterceptors().add(new SentInterceptor("out-fault"));
+        } else {
+            provider.getOutInterceptors().add(new ClientStartInterceptor());
+            provider.getOutInterceptors().add(new EndInterceptor("out", Phase.SETUP_ENDING, true));
+            provider.getInInterceptors().add(new EndInterceptor("in", Phase.POST_INVOKE, false));
+            provider.getInFaultInterceptors().add(new EndInterceptor("in-fault", Phase.POST_INVOKE, false));
+        }
+    }
+
+    /**
+     * The tracer is looked up on the first request rather than at startup, once the OpenTelemetry extension, if any,
+     * has registered the global {@code OpenTelemetry}.
+     */
+    private Tracer tracer() {
+        Tracer result = tracer;
+        if (result == null) {
+            result = GlobalOpenTelemetry.getTracer(INSTRUMENTATION_NAME);
+            tracer = result;
+        }
+        return result;
+    }
+
+    private static TextMapPropagator propagator() {
+        return GlobalOpenTelemetry.getPropagators().getTextMapPropagator();
+    }
+
+    private String spanName(BindingOperationInfo bop) {
+        return bop != null ? spanNames.computeIfAbsent(bop, CxfTracingFeature::operationName) : name;
+    }
+
+    private static String operationName(BindingOperationInfo bop) {
+        return bop.getOperationInfo().getInterface().getName().getLocalPart() + "/"
+                + bop.getOperationInfo().getName().getLocalPart();
+    }
+
+    private static void setOperation(Span span, BindingOperationInfo bop) {
+        span.setAttribute(RPC_SERVICE, bop.getOperationInfo().getInterface().getName().getLocalPart());
+        span.setAttribute(RPC_METHOD, bop.getOperationInfo().getName().getLocalPart());
+    }
+
+    /**
+     * Ends the span of the exchange of {@code message} unless it was already.
+     */
+    private static void end(Message message, Exception fault) {
+        Context context = (Context) message.getExchange().remove(CONTEXT);
+        if (context == null) {
+            return;
+        }
+        Span span = Span.fromContext(context);
+        if (fault != null) {
+            span.setStatus(StatusCode.ERROR, fault.getMessage());
+            span.recordException(fault);
+            span.setAttribute(SOAP_FAULT_CODE, faultCode(message, fault));
+        }
+        span.end();
+    }
+
+    /**
+     * @return the code of the fault as sent in the SOAP version of the message
+     */
+    private static String faultCode(Message message, Exception fault) {
+        if (!(fault instanceof Fault)) {
+            return UNKNOWN;
+        }
+        QName code = message instanceof SoapMessage
+                ? SoapFault.createFault((Fault) fault, ((SoapMessage) message).getVersion()).getFaultCode()
+                : ((Fault) fault).getFaultCode();
+        return code != null ? code.getLocalPart() : UNKNOWN;
+    }
+
+    /**
+     * Starts the span of a request, once its SOAP headers are read.
+     */
+    private class ServerStartInterceptor extends AbstractPhaseInterceptor<Message> {
+
+        ServerStartInterceptor() {
+            super(Phase.READ);
+            addAfter(ReadHeadersInterceptor.class.getName());
+        }
+
+        @Override
+        public void handleMessage(Message message) throws Fault {
+            if (!"POST".equals(message.get(Message.HTTP_REQUEST_METHOD))) {
+                // WSDL and service list requests
+                return;
+            }
+            Context parent = Context.current();
+            if (!Span.fromContext(parent).getSpanContext().isValid()) {
+                parent = extract(parent, message);
+            }
+            SpanBuilder builder = tracer().spanBuilder(name)
+                    .setParent(parent)
+                    .setSpanKind(SpanKind.SERVER)
+                    .setAttribute(RPC_SYSTEM, "soap");
+            Object url = message.get(Message.REQUEST_URL);
+            if (url != null) {
+                builder.setAttribute(HTTP_URL, url.toString());
+            }
+            message.getExchange().put(CONTEXT, parent.with(builder.startSpan()));
+        }
+
+        @Override
+        public void handleFault(Message message) {
+            if (message.getExchange().isOneWay()) {
+                // no fault is sent for one-way operations
+                end(message, message.getContent(Exception.class));
+            }
+        }
+
+        private Context extract(Context context, Message message) {
+            TextMapPropagator propagator = propagator();
+            Map<String, List<String>> headers = CastUtils.cast((Map<?, ?>) message.get(Message.PROTOCOL_HEADERS));
+            if (headers != null) {
+                context = propagator.extract(context, headers, HttpHeadersGetter.INSTANCE);
+            }
+            if (soapHeaders && message instanceof SoapMessage && !Span.fromContext(context).getSpanContext().isValid()) {
+                context = propagator.extract(context, ((SoapMessage) message).getHeaders(), SoapHeadersGetter.INSTANCE);
+            }
+            return context;
+        }
+    }
+
+    /**
+     * Names the span after the operation and makes it current while the service is invoked.
+     */
+    private class TracingInvoker implements Invoker {
+
+        private final Invoker delegate;
+
+        TracingInvoker(Invoker delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Object invoke(Exchange exchange, Object o) {
+            Context context = (Context) exchange.get(CONTEXT);
+            if (context == null) {
+                return delegate.invoke(exchange, o);
+            }
+            BindingOperationInfo bop = exchange.getBindingOperationInfo();
+            if (bop != null) {
+                Span span = Span.fromContext(context);
+                span.updateName(spanName(bop));
+                setOperation(span, bop);
+            }
+            try (Scope ignored = context.makeCurrent()) {
+                return delegate.invoke(exchange, o);
+            }
+        }
+    }
+
+    /**
+     * Starts the span of an invocation as a child of the current one and propagates it with the request.
+     */
+    private class ClientStartInterceptor extends AbstractPhaseInterceptor<Message> {
+
+        ClientStartInterceptor() {
+            super(Phase.SETUP);
+        }
+
+        @Override
+        public void handleMessage(Message message) throws Fault {
+            BindingOperationInfo bop = message.getExchange().getBindingOperationInfo();
+            Context parent = Context.current();
+            Span span = tracer().spanBuilder(spanName(bop))
+                    .setParent(parent)
+                    .setSpanKind(SpanKind.CLIENT)
+                    .setAttribute(RPC_SYSTEM, "soap")
+                    .startSpan();
+            if (bop != null) {
+                setOperation(span, bop);
+            }
+            Object address = message.get(Message.ENDPOINT_ADDRESS);
+            if (address != null) {
+                span.setAttribute(HTTP_URL, address.toString());
+            }
+            Context context = parent.with(span);
+            message.getExchange().put(CONTEXT, context);
+
+            TextMapPropagator propagator = propagator();
+            Map<String, List<String>> existing = CastUtils.cast((Map<?, ?>) message.get(Message.PROTOCOL_HEADERS));
+            // the headers of the request context are shared by the invocations, they are copied rather than modified
+            Map<String, List<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            if (existing != null) {
+                headers.putAll(existing);
+            }
+            message.put(Message.PROTOCOL_HEADERS, headers);
+            propagator.inject(context, headers, HttpHeadersSetter.INSTANCE);
+            if (soapHeaders && message instanceof SoapMessage) {
+                propagator.inject(context, (SoapMessage) message, SoapHeadersSetter.INSTANCE);
+            }
+        }
+
+        @Override
+        public void handleFault(Message message) {
+            // the request could not be sent or no response was received
+            end(message, message.getContent(Exception.class));
+        }
+    }
+
+    private static class EndInterceptor extends AbstractPhaseInterceptor<Message> {
+
+        private final boolean oneWayOnly;
+
+        EndInterceptor(String chain, String phase, boolean oneWayOnly) {
+            super(EndInterceptor.class.getName() + "." + chain, phase);
+            this.oneWayOnly = oneWayOnly;
+        }
+
+        @Override
+        public void handleMessage(Message message) throws Fault {
+            if (!oneWayOnly || message.getExchange().isOneWay()) {
+                end(message, message.getContent(Exception.class));
+            }
+        }
+    }
+
+    /**
+     * Ends the span of a request once its response or fault is sent.
+     */
+    private static class SentInterceptor extends AbstractPhaseInterceptor<Message> {
+
+        SentInterceptor(String chain) {
+            super(SentInterceptor.class.getName() + "." + chain, Phase.PREPARE_SEND_ENDING);
+            addAfter(MessageSenderInterceptor.MessageSenderEndingInterceptor.class.getName());
+        }
+
+        @Override
+        public void handleMessage(Message message) throws Fault {
+            end(message, message.getContent(Exception.class));
+        }
+
+        @Override
+        public void handleFault(Message message) {
+            end(message, message.getContent(Exception.class));
+        }
+    }
+
+    private enum HttpHeadersGetter implements TextMapGetter<Map<String, List<String>>> {
+        INSTANCE;
+
+        @Override
+        public Iterable<String> keys(Map<String, List<String>> carrier) {
+            return carrier.keySet();
+        }
+
+        @Override
+        public String get(Map<String, List<String>> carrier, String key) {
+            List<String> values = carrier != null ? carrier.get(key) : null;
+            return values == null || values.isEmpty() ? null : values.get(0);
+        }
+    }
+
+    private enum HttpHeadersSetter implements TextMapSetter<Map<String, List<String>>> {
+        INSTANCE;
+
+        @Override
+        public void set(Map<String, List<String>> carrier, String key, String value) {
+            carrier.put(key, Collections.singletonList(value));
+        }
+    }
+
+    private enum SoapHeadersGetter implements TextMapGetter<List<Header>> {
+        INSTANCE;
+
+        @Override
+        public Iterable<String> keys(List<Header> carrier) {
+            List<String> keys = new ArrayList<>();
+            for (Header header : carrier) {
+                if (SOAP_HEADER_NAMESPACE.equals(header.getName().getNamespaceURI())) {
+                    keys.add(header.getName().getLocalPart());
+                }
+            }
+            return keys;
+        }
+
+        @Override
+        public String get(List<Header> carrier, String key) {
+            if (carrier == null) {
+                return null;
+            }
+            for (Header header : carrier) {
+                if (SOAP_HEADER_NAMESPACE.equals(header.getName().getNamespaceURI())
+                        && key.equals(header.getName().getLocalPart())
+                        && header.getObject() instanceof Element) {
+                    return ((Element) header.getObject()).getTextContent();
+                }
+            }
+            return null;
+        }
+    }
+
+    private enum SoapHeadersSetter implements TextMapSetter<SoapMessage> {
+        INSTANCE;
+
+        @Override
+        public void set(SoapMessage carrier, String key, String value) {
+            Element element = DOMUtils.createDocument().createElementNS(SOAP_HEADER_NAMESPACE, key);
+            element.setTextContent(value);
+            carrier.getHeaders().add(new Header(new QName(SOAP_HEADER_NAMESPACE, key), element));
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package io.quarkiverse.cxf;
+
+/**
+ * Thread on which CxfHandler runs the CXF interceptor chain of an endpoint.
+ */
+public enum DispatchMode {
+    /**
+     * Buffer the whole request body and run the chain on the Vert.x event loop. Only suitable for
+     * services which never block.
+     */
+    EVENT_LOOP,
+    /**
+     * Run the chain on a Quarkus worker thread.
+     */
+    WORKER,
+    /**
+     * Run the chain on a virtual thread. Falls back to {@link #WORKER} before Java 24, where
+     * virtual threads are pinned while they run the chain.
+     */
+    VIRTUAL_THREAD
+}
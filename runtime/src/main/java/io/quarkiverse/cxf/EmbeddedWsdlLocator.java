@@ -0,0 +1,88 @@
+package io.quarkiverse.cxf;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+
+import javax.wsdl.xml.WSDLLocator;
+
+import org.apache.cxf.catalog.OASISCatalogManager;
+import org.xml.sax.InputSource;
+
+/**
+ * Reads a remote WSDL and the documents it imports from their copy on the classpath, found through the OASIS catalog
+ * written at build time. The documents keep their original URL as system id, which is thus also the base URI of the
+ * definitions parsed.
+ */
+class EmbeddedWsdlLocator implements WSDLLocator {
+
+    private static final String CLASSPATH = "classpath:";
+
+    private final OASISCatalogManager catalog;
+    private final String baseUri;
+    private String latestImportUri;
+    private InputStream latestStream;
+
+    EmbeddedWsdlLocator(OASISCatalogManager catalog, String baseUri) {
+        this.catalog = catalog;
+        this.baseUri = baseUri;
+    }
+
+    @Override
+    public InputSource getBaseInputSource() {
+        return open(baseUri);
+    }
+
+    @Override
+    public InputSource getImportInputSource(String parentLocation, String importLocation) {
+        latestImportUri = parentLocation == null ? importLocation
+                : URI.create(parentLocation).resolve(importLocation).toString();
+        return open(latestImportUri);
+    }
+
+    @Override
+    public String getBaseURI() {
+        return baseUri;
+    }
+
+    @Override
+    public String getLatestImportURI() {
+        return latestImportUri;
+    }
+
+    @Override
+    public void close() {
+        closeLatestStream();
+    }
+
+    /**
+     * @return the copy of the document at {@code uri}, or the document itself if it was not embedded
+     */
+    private InputSource open(String uri) {
+        closeLatestStream();
+        String resolved;
+        try {
+            resolved = catalog.resolveSystem(uri);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not resolve " + uri + " in the catalog of the embedded WSDLs", e);
+        }
+        InputSource source = new InputSource(uri);
+        if (resolved != null && resolved.startsWith(CLASSPATH)) {
+            latestStream = Thread.currentThread().getContextClassLoader()
+                    .getResourceAsStream(resolved.substring(CLASSPATH.length()));
+            source.setByteStream(latestStream);
+        }
+        return source;
+    }
+
+    private void closeLatestStream() {
+        if (latestStream != null) {
+            try {
+                latestStream.close();
+            } catch (IOException e) {
+                // nothing left to read from it
+            }
+            latestStream = null;
+        }
+    }
+}
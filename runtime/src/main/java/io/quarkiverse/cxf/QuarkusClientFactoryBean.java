@@ -3,16 +3,50 @@ package io.quarkiverse.cxf;
 import java.util.List;
 
 import org.apache.cxf.binding.soap.SoapBindingConfiguration;
+import org.apache.cxf.endpoint.Client;
+import org.apache.cxf.endpoint.Endpoint;
 import org.apache.cxf.frontend.ClientFactoryBean;
 import org.apache.cxf.jaxws.binding.soap.JaxWsSoapBindingConfiguration;
 import org.apache.cxf.jaxws.support.JaxWsImplementorInfo;
 import org.apache.cxf.jaxws.support.JaxWsServiceFactoryBean;
 
 public class QuarkusClientFactoryBean extends ClientFactoryBean {
+    private CxfRequestCoalescer coalescer;
+    private CxfClientResilience resilience;
+
     public QuarkusClientFactoryBean(List<String> classNames) {
         super(new QuarkusJaxWsServiceFactoryBean(classNames));
     }
 
+    /**
+     * @param serviceFactory the service factory of the client, which it modifies and must thus not share
+     */
+    public QuarkusClientFactoryBean(QuarkusJaxWsServiceFactoryBean serviceFactory) {
+        super(serviceFactory);
+    }
+
+    /**
+     * @param coalescer the request coalescer the clients created go through, or {@code null}
+     */
+    public void setCoalescer(CxfRequestCoalescer coalescer) {
+        this.coalescer = coalescer;
+    }
+
+    /**
+     * @param resilience the resilience guards the clients created go through, or {@code null}
+     */
+    public void setResilience(CxfClientResilience resilience) {
+        this.resilience = resilience;
+    }
+
+    @Override
+    protected Client createClient(Endpoint ep) {
+        if (coalescer == null && resilience == null) {
+            return super.createClient(ep);
+        }
+        return new CxfClientImpl(getBus(), ep, getConduitSelector(), coalescer, resilience);
+    }
+
     @Override
     public void setServiceClass(Class<?> serviceClass) {
         super.setServiceClass(serviceClass);
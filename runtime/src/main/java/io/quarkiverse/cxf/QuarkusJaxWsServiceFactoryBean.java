@@ -2,16 +2,23 @@ package io.quarkiverse.cxf;
 
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
+import javax.xml.bind.JAXBException;
 import javax.xml.bind.annotation.XmlSeeAlso;
 
+import org.apache.cxf.common.jaxb.JAXBContextCache.CachedContextAndSchemas;
 import org.apache.cxf.common.logging.LogUtils;
+import org.apache.cxf.databinding.DataBinding;
+import org.apache.cxf.jaxb.JAXBDataBinding;
 import org.apache.cxf.jaxws.support.JaxWsServiceFactoryBean;
+import org.apache.cxf.service.factory.ServiceConstructionException;
 
 public class QuarkusJaxWsServiceFactoryBean extends JaxWsServiceFactoryBean {
 
@@ -28,7 +35,7 @@ public class QuarkusJaxWsServiceFactoryBean extends JaxWsServiceFactoryBean {
             try {
                 return Class.forName(className);
             } catch (ClassNotFoundException e) {
-                LOGGER.error("Generated Wrapper class not found", e);
+                LOGGER.error("JAXB context class not found", e);
             }
 
             return null;
@@ -36,8 +43,30 @@ public class QuarkusJaxWsServiceFactoryBean extends JaxWsServiceFactoryBean {
     }
 
     private Set<Class<?>> wrapperClasses;
+    private AtomicReference<CachedContextAndSchemas> sharedJaxbContext;
     private static final Logger LOG = LogUtils.getLogger(QuarkusJaxWsServiceFactoryBean.class);
 
+    /**
+     * Makes the default JAXB data binding take its JAXBContext from {@code sharedJaxbContext}, or create it and put it
+     * there if it is still empty, so that all the services created with the same reference share one JAXBContext.
+     */
+    public void setSharedJaxbContext(AtomicReference<CachedContextAndSchemas> sharedJaxbContext) {
+        this.sharedJaxbContext = sharedJaxbContext;
+    }
+
+    @Override
+    protected DataBinding createDefaultDataBinding() {
+        DataBinding dataBinding = super.createDefaultDataBinding();
+        if (sharedJaxbContext == null || dataBinding.getClass() != JAXBDataBinding.class) {
+            return dataBinding;
+        }
+        try {
+            return new SharedContextDataBinding(isQualifyWrapperSchema(), getProperties(), sharedJaxbContext);
+        } catch (JAXBException e) {
+            throw new ServiceConstructionException(e);
+        }
+    }
+
     @Override
     public void reset() {
         super.reset();
@@ -67,4 +96,25 @@ public class QuarkusJaxWsServiceFactoryBean extends JaxWsServiceFactoryBean {
         }
         return classes;
     }
+
+    private static final class SharedContextDataBinding extends JAXBDataBinding {
+        private final AtomicReference<CachedContextAndSchemas> shared;
+
+        SharedContextDataBinding(boolean qualified, Map<String, Object> properties,
+                AtomicReference<CachedContextAndSchemas> shared) throws JAXBException {
+            super(qualified, properties);
+            this.shared = shared;
+        }
+
+        @Override
+        public CachedContextAndSchemas createJAXBContextAndSchemas(Set<Class<?>> classes, String defaultNs)
+                throws JAXBException {
+            CachedContextAndSchemas cached = shared.get();
+            if (cached == null) {
+                shared.compareAndSet(null, super.createJAXBContextAndSchemas(classes, defaultNs));
+                cached = shared.get();
+            }
+            return cached;
+        }
+    }
 }
@@ -0,0 +1,14 @@
+package io.quarkiverse.cxf.devconsole;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import io.quarkiverse.cxf.CxfPhaseProfile;
+
+public class DevCxfPhaseProfilesSupplier implements Supplier<List<CxfPhaseProfile>> {
+
+    @Override
+    public List<CxfPhaseProfile> get() {
+        return CxfPhaseProfile.getRecent();
+    }
+}
@@ -0,0 +1,127 @@
+package io.quarkiverse.cxf.transport;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+
+/**
+ * Attributes of a request in an open addressing table, allocated when the first attribute is set. Requests get a
+ * handful of attributes at most, for which a single small array is cheaper than the entries of a tree or hash map.
+ * Names are case-insensitive, as with a tree map ordered by {@link String#CASE_INSENSITIVE_ORDER}: an attribute keeps
+ * the name it was first set with.
+ */
+final class AttributeMap {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    /** Keys at even indexes, each followed by its value. */
+    private Object[] table;
+    private int size;
+
+    Object get(String name) {
+        int slot = slotOf(name);
+        return slot < 0 ? null : table[2 * slot + 1];
+    }
+
+    void put(String name, Object value) {
+        if (value == null) {
+            remove(name);
+            return;
+        }
+        if (table == null) {
+            table = new Object[2 * INITIAL_CAPACITY];
+        } else if (4 * (size + 1) > 3 * capacity()) {
+            grow();
+        }
+        int mask = capacity() - 1;
+        for (int slot = hash(name) & mask;; slot = (slot + 1) & mask) {
+            Object key = table[2 * slot];
+            if (key == null) {
+                table[2 * slot] = name;
+                table[2 * slot + 1] = value;
+                size++;
+                return;
+            }
+            if (((String) key).equalsIgnoreCase(name)) {
+                table[2 * slot + 1] = value;
+                return;
+            }
+        }
+    }
+
+    void remove(String name) {
+        int hole = slotOf(name);
+        if (hole < 0) {
+            return;
+        }
+        // shift back the entries probed past the removed one, so that lookups never stop at a hole too early
+        int mask = capacity() - 1;
+        for (int slot = (hole + 1) & mask; table[2 * slot] != null; slot = (slot + 1) & mask) {
+            int home = hash((String) table[2 * slot]) & mask;
+            if (((slot - home) & mask) >= ((slot - hole) & mask)) {
+                table[2 * hole] = table[2 * slot];
+                table[2 * hole + 1] = table[2 * slot + 1];
+                hole = slot;
+            }
+        }
+        table[2 * hole] = null;
+        table[2 * hole + 1] = null;
+        size--;
+    }
+
+    Enumeration<String> names() {
+        if (size == 0) {
+            return Collections.emptyEnumeration();
+        }
+        List<String> names = new ArrayList<>(size);
+        for (int i = 0; i < table.length; i += 2) {
+            if (table[i] != null) {
+                names.add((String) table[i]);
+            }
+        }
+        return Collections.enumeration(names);
+    }
+
+    private int slotOf(String name) {
+        if (table == null || name == null) {
+            return -1;
+        }
+        int mask = capacity() - 1;
+        for (int slot = hash(name) & mask;; slot = (slot + 1) & mask) {
+            Object key = table[2 * slot];
+            if (key == null) {
+                return -1;
+            }
+            if (((String) key).equalsIgnoreCase(name)) {
+                return slot;
+            }
+        }
+    }
+
+    private void grow() {
+        Object[] old = table;
+        table = new Object[2 * old.length];
+        size = 0;
+        for (int i = 0; i < old.length; i += 2) {
+            if (old[i] != null) {
+                put((String) old[i], old[i + 1]);
+            }
+        }
+    }
+
+    private int capacity() {
+        return table.length / 2;
+    }
+
+    /**
+     * @return a hash of {@code name} equal for all the names {@link String#equalsIgnoreCase} considers equal
+     */
+    private static int hash(String name) {
+        int h = 0;
+        for (int i = 0; i < name.length(); i++) {
+            h = 31 * h + Character.toLowerCase(Character.toUpperCase(name.charAt(i)));
+        }
+        return h ^ (h >>> 16);
+    }
+}
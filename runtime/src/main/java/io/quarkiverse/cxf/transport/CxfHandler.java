@@ -1,11 +1,12 @@
 package io.quarkiverse.cxf.transport;
 
 import java.io.IOException;
-import java.net.URI;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 
 import javax.enterprise.inject.Instance;
 import javax.enterprise.inject.UnsatisfiedResolutionException;
@@ -22,17 +23,19 @@ import org.apache.cxf.jaxws.JaxWsServerFactoryBean;
 import org.apache.cxf.message.Message;
 import org.apache.cxf.transport.ConduitInitiatorManager;
 import org.apache.cxf.transport.DestinationFactoryManager;
-import org.apache.cxf.transport.http.AbstractHTTPDestination;
 import org.apache.cxf.transport.http.DestinationRegistry;
 import org.apache.cxf.transport.http.DestinationRegistryImpl;
-import org.apache.cxf.transport.servlet.BaseUrlHelper;
 import org.apache.cxf.transport.servlet.ServletController;
 import org.apache.cxf.transport.servlet.servicelist.ServiceListGeneratorServlet;
 import org.jboss.logging.Logger;
 
 import io.quarkiverse.cxf.CXFServletInfo;
 import io.quarkiverse.cxf.CXFServletInfos;
+import io.quarkiverse.cxf.CxfPhaseProfilingFeature;
+import io.quarkiverse.cxf.CxfTracingFeature;
+import io.quarkiverse.cxf.DispatchMode;
 import io.quarkiverse.cxf.QuarkusJaxWsServiceFactoryBean;
+import io.quarkus.arc.InjectableContext.ContextState;
 import io.quarkus.arc.ManagedContext;
 import io.quarkus.arc.runtime.BeanContainer;
 import io.quarkus.security.identity.CurrentIdentityAssociation;
@@ -40,14 +43,22 @@ import io.quarkus.security.identity.IdentityProviderManager;
 import io.quarkus.security.identity.SecurityIdentity;
 import io.quarkus.vertx.http.runtime.CurrentVertxRequest;
 import io.quarkus.vertx.http.runtime.security.QuarkusHttpUser;
+import io.undertow.httpcore.HttpHeaderNames;
+import io.vertx.core.Context;
 import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpServerRequest;
-import io.vertx.core.http.HttpServerResponse;
 import io.vertx.ext.web.RoutingContext;
 
 public class CxfHandler implements Handler<RoutingContext> {
     private static final Logger LOGGER = Logger.getLogger(CxfHandler.class);
     private static final String ALLOWED_METHODS = "POST, GET, PUT, DELETE, HEAD, OPTIONS, TRACE";
+    private static final int MAX_INITIAL_BODY_SIZE = 64 * 1024;
+    /**
+     * The limit of the bodies read whole into memory when no limit is configured, as quarkus.http.limits.max-body-size.
+     */
+    private static final long DEFAULT_BUFFERED_MAX_BODY_SIZE = 10 * 1024 * 1024;
     private ServiceListGeneratorServlet serviceListGeneratorServlet;
     private Bus bus;
     private ClassLoader loader;
@@ -58,6 +69,17 @@ public class CxfHandler implements Handler<RoutingContext> {
     private CurrentIdentityAssociation association;
     private IdentityProviderManager identityProviderManager;
     private CurrentVertxRequest currentVertxRequest;
+    /** the handler of every published endpoint, by the path of its route */
+    private final Map<String, EndpointHandler> endpointHandlers = new HashMap<>();
+    private Executor virtualThreadExecutor;
+    private long readTimeout = 10000;
+    private long maxBodySize = -1;
+    private long bufferedMaxBodySize = DEFAULT_BUFFERED_MAX_BODY_SIZE;
+    private boolean metrics;
+    private boolean profiling;
+    private int profilingHistory;
+    private boolean tracing;
+    private boolean tracingSoapHeaders;
 
     private static final Map<String, String> RESPONSE_HEADERS = new HashMap<>();
 
@@ -102,9 +124,17 @@ public class CxfHandler implements Handler<RoutingContext> {
         this.controller = new ServletController(destinationRegistry, servletConfig, serviceListGeneratorServlet);
         serviceListGeneratorServlet.init(new VertxServletConfig());
         servletPath = cxfServletInfos.getPath();
+        readTimeout = cxfServletInfos.getReadTimeout();
+        maxBodySize = cxfServletInfos.getMaxBodySize();
+        bufferedMaxBodySize = maxBodySize >= 0 ? maxBodySize : DEFAULT_BUFFERED_MAX_BODY_SIZE;
+        metrics = cxfServletInfos.isMetrics();
+        profiling = cxfServletInfos.isProfiling();
+        profilingHistory = cxfServletInfos.getProfilingHistory();
+        tracing = cxfServletInfos.isTracing();
+        tracingSoapHeaders = cxfServletInfos.isTracingSoapHeaders();
         for (CXFServletInfo servletInfo : cxfServletInfos.getInfos()) {
             JaxWsServerFactoryBean factory = new JaxWsServerFactoryBean(
-                    new QuarkusJaxWsServiceFactoryBean(cxfServletInfos.getWrappersclasses()));
+                    new QuarkusJaxWsServiceFactoryBean(servletInfo.getWrapperClassNames()));
             factory.setDestinationFactory(destinationFactory);
             factory.setBus(bus);
             //suboptimal because done it in loop but not a real issue...
@@ -137,6 +167,9 @@ public class CxfHandler implements Handler<RoutingContext> {
                 if (servletInfo.getEndpointUrl() != null) {
                     factory.setPublishedEndpointUrl(servletInfo.getEndpointUrl());
                 }
+                if (!servletInfo.getProperties().isEmpty()) {
+                    factory.setProperties(new HashMap<>(servletInfo.getProperties()));
+                }
 
                 Server server = factory.create();
                 for (String className : servletInfo.getInFaultInterceptors()) {
@@ -155,6 +188,41 @@ public class CxfHandler implements Handler<RoutingContext> {
                     Interceptor<? extends Message> interceptor = (Interceptor<? extends Message>) getInstance(className);
                     server.getEndpoint().getOutInterceptors().add(interceptor);
                 }
+                if (metrics) {
+                    CxfServerMetricsFeature.install(server, bus, servletInfo.getRelativePath());
+                }
+                if (profiling) {
+                    CxfPhaseProfilingFeature.create("server", servletInfo.getRelativePath(), profilingHistory)
+                            .initialize(server, bus);
+                }
+                if (tracing) {
+                    CxfTracingFeature.forServer(servletInfo.getRelativePath(), tracingSoapHeaders)
+                            .initialize(server, bus);
+                }
+
+                DispatchMode dispatchMode = servletInfo.getDispatchMode();
+                if (dispatchMode == DispatchMode.VIRTUAL_THREAD && virtualThreadExecutor == null) {
+                    virtualThreadExecutor = createVirtualThreadExecutor();
+                }
+                if (dispatchMode == DispatchMode.VIRTUAL_THREAD && virtualThreadExecutor == null) {
+                    dispatchMode = DispatchMode.WORKER;
+                }
+                if (dispatchMode != DispatchMode.WORKER
+                        && Boolean.TRUE.equals(servletInfo.getProperties().get(Message.MTOM_ENABLED))) {
+                    LOGGER.warn(servletInfo + " reads whole requests into memory before processing them with the "
+                            + dispatchMode + " dispatch mode, use the worker dispatch mode to stream attachments");
+                }
+                if (server.getDestination() instanceof VertxDestination) {
+                    VertxDestination destination = (VertxDestination) server.getDestination();
+                    destination.setResponseBufferSize(servletInfo.getResponseBufferSize());
+                    try {
+                        destination.setServletPath(servletPath);
+                    } catch (IOException e) {
+                        LOGGER.warn("Cannot compute the base path of " + servletInfo, e);
+                    }
+                    endpointHandlers.put(getRoutePath(servletInfo.getRelativePath()),
+                            new EndpointHandler(destination, dispatchMode));
+                }
 
                 LOGGER.info(servletInfo.toString() + " available.");
             } else {
@@ -191,8 +259,170 @@ public class CxfHandler implements Handler<RoutingContext> {
         }
     }
 
+    private static Executor createVirtualThreadExecutor() {
+        if (getJavaVersion() < 24) {
+            // PhaseInterceptorChain.doIntercept is synchronized and monitors pin virtual threads before JEP 491, so
+            // a few blocking implementors would hold every carrier thread
+            LOGGER.warn("virtual threads are pinned by the interceptor chain on Java " + getJavaVersion()
+                    + ", worker threads are used instead, use Java 24 or later to serve requests on virtual threads");
+            return null;
+        }
+        try {
+            return (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            LOGGER.warn("virtual threads are not available on this JVM, worker threads are used instead");
+            return null;
+        }
+    }
+
+    private static int getJavaVersion() {
+        String version = System.getProperty("java.specification.version");
+        try {
+            return Integer.parseInt(version);
+        } catch (NumberFormatException e) {
+            // 1.8 and older
+            return 8;
+        }
+    }
+
+    private String getRoutePath(String relativePath) {
+        if (servletPath == null || servletPath.equals("/")) {
+            return relativePath;
+        }
+        return servletPath.endsWith("/") ? servletPath + relativePath.substring(1) : servletPath + relativePath;
+    }
+
+    /**
+     * Serves the endpoint published on the path of the request, else the service list, and a 404 for paths no endpoint
+     * is published on.
+     */
     @Override
     public void handle(RoutingContext event) {
+        String path = event.normalisedPath();
+        EndpointHandler endpoint = endpointHandlers.get(path);
+        if (endpoint == null && path.length() > 1 && path.endsWith("/")) {
+            endpoint = endpointHandlers.get(path.substring(0, path.length() - 1));
+        }
+        if (endpoint != null) {
+            endpoint.handle(event);
+        } else {
+            handle(event, null, DispatchMode.WORKER);
+        }
+    }
+
+    private void handle(RoutingContext event, VertxDestination destination, DispatchMode mode) {
+        long limit = maxBodySize(mode);
+        if (limit >= 0 && getContentLength(event.request()) > limit) {
+            event.response().setStatusCode(413).end();
+            return;
+        }
+        Context context = event.vertx().getOrCreateContext();
+        if (mode == DispatchMode.WORKER) {
+            dispatch(event, mode, context, () -> process(event, destination, mode, context, null));
+        } else {
+            // the body is read upfront as blocking reads are not allowed on the event loop and would pin the carrier
+            // thread of a virtual thread
+            readBody(event,
+                    body -> dispatch(event, mode, context, () -> process(event, destination, mode, context, body)));
+        }
+    }
+
+    /**
+     * Runs {@code task} on the thread the dispatch mode asks for, with the class loader and bus of the services set.
+     */
+    private void dispatch(RoutingContext event, DispatchMode mode, Context context, Runnable task) {
+        switch (mode) {
+            case EVENT_LOOP:
+                if (Vertx.currentContext() == context) {
+                    invoke(task);
+                } else {
+                    context.runOnContext(v -> {
+                        try {
+                            invoke(task);
+                        } catch (Throwable t) {
+                            event.fail(t);
+                        }
+                    });
+                }
+                break;
+            case VIRTUAL_THREAD:
+                virtualThreadExecutor.execute(() -> {
+                    try {
+                        invoke(task);
+                    } catch (Throwable t) {
+                        context.runOnContext(v -> event.fail(t));
+                    }
+                });
+                break;
+            default:
+                context.executeBlocking(future -> {
+                    invoke(task);
+                    future.complete();
+                }, false, result -> {
+                    if (result.failed()) {
+                        event.fail(result.cause());
+                    }
+                });
+        }
+    }
+
+    /**
+     * Reads the whole request body on the event loop and passes it to {@code bodyHandler}, so that the interceptor
+     * chain never has to block for input.
+     */
+    private void readBody(RoutingContext event, Handler<Buffer> bodyHandler) {
+        HttpServerRequest request = event.request();
+        if (request.isEnded()) {
+            bodyHandler.handle(null);
+            return;
+        }
+        // the declared length only sizes the buffer up to a bound, as it is the client's word
+        long contentLength = getContentLength(request);
+        Buffer body = Buffer.buffer(contentLength >= 0 ? (int) Math.min(contentLength, MAX_INITIAL_BODY_SIZE) : 1024);
+        request.handler(chunk -> {
+            if (body.length() + chunk.length() > bufferedMaxBodySize) {
+                if (!event.failed()) {
+                    event.fail(413);
+                }
+                return;
+            }
+            body.appendBuffer(chunk);
+        });
+        request.exceptionHandler(event::fail);
+        request.endHandler(v -> {
+            if (event.failed()) {
+                return;
+            }
+            try {
+                bodyHandler.handle(body);
+            } catch (RuntimeException e) {
+                event.fail(e);
+            }
+        });
+        request.resume();
+    }
+
+    /**
+     * @return the largest body accepted in {@code mode}, or a negative value for no limit
+     */
+    private long maxBodySize(DispatchMode mode) {
+        // only the worker threads stream bodies, the other modes read them whole first
+        return mode == DispatchMode.WORKER ? maxBodySize : bufferedMaxBodySize;
+    }
+
+    private static long getContentLength(HttpServerRequest request) {
+        String contentLength = request.getHeader(HttpHeaderNames.CONTENT_LENGTH);
+        if (contentLength != null) {
+            try {
+                return Long.parseLong(contentLength);
+            } catch (NumberFormatException e) {
+                //silent fail
+            }
+        }
+        return -1;
+    }
+
+    private void invoke(Runnable task) {
         ClassLoaderUtils.ClassLoaderHolder origLoader = null;
         Bus origBus = null;
         try {
@@ -204,7 +434,7 @@ public class CxfHandler implements Handler<RoutingContext> {
                 origBus = BusFactory.getAndSetThreadDefaultBus(this.bus);
             }
 
-            process(event);
+            task.run();
         } finally {
             if (origBus != this.bus) {
                 BusFactory.setThreadDefaultBus(origBus);
@@ -217,48 +447,54 @@ public class CxfHandler implements Handler<RoutingContext> {
         }
     }
 
-    protected void generateNotFound(HttpServerRequest request, HttpServerResponse res) {
-        res.setStatusCode(404);
-        res.headers().add("Content-Type", "text/html");
-        res.end("<html><body>No service was found.</body></html>");
-    }
-
-    protected void updateDestination(HttpServerRequest request, AbstractHTTPDestination d) {
-        String base = getBaseURL(request);
-        String ad = d.getEndpointInfo().getAddress();
-        if (ad == null && d.getAddress() != null && d.getAddress().getAddress() != null) {
-            ad = d.getAddress().getAddress().getValue();
-            if (ad == null) {
-                ad = "/";
-            }
+    private void invokeDestination(RoutingContext event, VertxDestination d, VertxServletInputStream in,
+            Executor resumeExecutor) {
+        try {
+            d.invoke(event, in, resumeExecutor);
+        } catch (IOException ioe) {
+            LOGGER.warn("Internal server error", ioe);
+            event.fail(500, ioe);
         }
+    }
 
-        if (ad != null && !ad.startsWith("http")) {
-            BaseUrlHelper.setAddress(d, base + ad);
+    /**
+     * Runs the interceptor chain of a request again after it was resumed, within the request context it was
+     * suspended in.
+     */
+    private void resume(RoutingContext event, ContextState requestState, Runnable task) {
+        ManagedContext requestContext = this.beanContainer.requestContext();
+        requestContext.activate(requestState);
+        boolean suspended = false;
+        try {
+            task.run();
+            suspended = isSuspended(event);
+        } finally {
+            endDispatch(event, requestContext, suspended);
         }
+    }
 
+    private static boolean isSuspended(RoutingContext event) {
+        VertxContinuationProvider provider = VertxContinuationProvider.get(event);
+        return provider != null && !provider.isCompleted();
     }
 
-    private String getBaseURL(HttpServerRequest request) {
-        String reqPrefix = request.uri();
-        String pathInfo = request.path();
-        if (!"/".equals(pathInfo) || reqPrefix.contains(";")) {
-            StringBuilder sb = new StringBuilder();
-            URI uri = URI.create(reqPrefix);
-            sb.append(uri.getScheme()).append("://").append(uri.getRawAuthority());
-            String contextPath = request.path();
-            if (contextPath != null) {
-                sb.append(contextPath);
-            }
-            reqPrefix = sb.toString();
+    /**
+     * Keeps the request context of a suspended request for when it is resumed, and terminates it otherwise.
+     */
+    private static void endDispatch(RoutingContext event, ManagedContext requestContext, boolean suspended) {
+        if (suspended) {
+            requestContext.deactivate();
+            VertxContinuationProvider.get(event).endDispatch();
+        } else if (requestContext.isActive()) {
+            requestContext.terminate();
         }
-
-        return reqPrefix;
     }
 
-    private void process(RoutingContext event) {
+    private void process(RoutingContext event, VertxDestination destination, DispatchMode mode, Context context,
+            Buffer body) {
         ManagedContext requestContext = this.beanContainer.requestContext();
         requestContext.activate();
+        ContextState requestState = requestContext.getState();
         if (association != null) {
             QuarkusHttpUser existing = (QuarkusHttpUser) event.user();
             if (existing != null) {
@@ -269,8 +505,18 @@ public class CxfHandler implements Handler<RoutingContext> {
             }
         }
         currentVertxRequest.setCurrent(event);
+        boolean suspended = false;
         try {
-            VertxHttpServletRequest req = new VertxHttpServletRequest(event, "", servletPath);
+            VertxServletInputStream in = new VertxServletInputStream(event.request(), body, readTimeout,
+                    maxBodySize(mode));
+            if (destination != null && destination.getMessageObserver() != null) {
+                invokeDestination(event, destination, in,
+                        task -> dispatch(event, mode, context, () -> resume(event, requestState, task)));
+                suspended = isSuspended(event);
+                return;
+            }
+            // service list and unknown paths
+            VertxHttpServletRequest req = new VertxHttpServletRequest(event, "", servletPath, in);
             VertxHttpServletResponse resp = new VertxHttpServletResponse(event);
             controller.invoke(req, resp);
             resp.end();
@@ -281,9 +527,25 @@ public class CxfHandler implements Handler<RoutingContext> {
             LOGGER.warn("Cannot list or instantiate web service", ioe);
             event.fail(404, ioe);
         } finally {
-            if (requestContext.isActive()) {
-                requestContext.terminate();
-            }
+            endDispatch(event, requestContext, suspended);
+        }
+    }
+
+    /**
+     * Serves the requests of one endpoint, with its destination and dispatch mode resolved once at startup.
+     */
+    private class EndpointHandler implements Handler<RoutingContext> {
+        private final VertxDestination destination;
+        private final DispatchMode dispatchMode;
+
+        EndpointHandler(VertxDestination destination, DispatchMode dispatchMode) {
+            this.destination = destination;
+            this.dispatchMode = dispatchMode;
+        }
+
+        @Override
+        public void handle(RoutingContext event) {
+            CxfHandler.this.handle(event, destination, dispatchMode);
         }
     }
 }
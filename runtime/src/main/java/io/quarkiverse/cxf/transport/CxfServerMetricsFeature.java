@@ -0,0 +1,374 @@
+package io.quarkiverse.cxf.transport;
+
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.xml.namespace.QName;
+
+import org.apache.cxf.Bus;
+import org.apache.cxf.binding.soap.SoapFault;
+import org.apache.cxf.binding.soap.SoapMessage;
+import org.apache.cxf.endpoint.Server;
+import org.apache.cxf.feature.AbstractFeature;
+import org.apache.cxf.interceptor.Fault;
+import org.apache.cxf.interceptor.InterceptorProvider;
+import org.apache.cxf.interceptor.MessageSenderInterceptor;
+import org.apache.cxf.message.Exchange;
+import org.apache.cxf.message.Message;
+import org.apache.cxf.phase.AbstractPhaseInterceptor;
+import org.apache.cxf.phase.Phase;
+import org.apache.cxf.service.model.BindingOperationInfo;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Records Micrometer metrics of the requests to a server endpoint:
+ * <ul>
+ * <li>{@code cxf.server.requests}, a timer by operation and outcome,</li>
+ * <li>{@code cxf.server.request.size} and {@code cxf.server.response.size}, histograms of the bytes read and
+ * written by operation,</li>
+ * <li>{@code cxf.server.faults}, a counter by operation and fault code,</li>
+ * <li>{@code cxf.server.requests.active}, a gauge of the requests in flight.</li>
+ * </ul>
+ * All of them are tagged with the endpoint. The {@link ResponseWriteMetrics} of all endpoints are published along
+ * with them, untagged, as {@code cxf.server.response.overflow.writes} and {@code cxf.server.response.overflow.bytes}
+ * counters and a {@code cxf.server.response.drain.waits} timer. The meters of an operation are looked up once,
+ * requests then only count the bytes they read and write and record their samples.
+ */
+class CxfServerMetricsFeature extends AbstractFeature {
+
+    private static final String SAMPLE = CxfServerMetricsFeature.class.getName() + ".sample";
+    private static final String UNKNOWN = "unknown";
+
+    private final MeterRegistry registry;
+    private final String endpoint;
+    private final AtomicInteger active = new AtomicInteger();
+    private final Map<String, OperationMeters> operations = new ConcurrentHashMap<>();
+
+    /**
+     * Records the metrics of {@code server} in the global registry, which the Micrometer extension adds its registries
+     * to.
+     *
+     * @param endpoint the relative path of the endpoint, tagging its meters
+     */
+    static void install(Server server, Bus bus, String endpoint) {
+        new CxfServerMetricsFeature(Metrics.globalRegistry, endpoint).initialize(server, bus);
+    }
+
+    CxfServerMetricsFeature(MeterRegistry registry, String endpoint) {
+        this.registry = registry;
+        this.endpoint = endpoint;
+        Gauge.builder("cxf.server.requests.active", active, AtomicInteger::get)
+                .description("The requests to the endpoint in flight")
+                .tag("endpoint", endpoint)
+                .register(registry);
+        // registered again by each endpoint, which returns the meters of the first one
+        FunctionCounter.builder("cxf.server.response.overflow.writes", ResponseWriteMetrics.class,
+                c -> ResponseWriteMetrics.getOverflowWrites())
+                .description("The response writes set aside on the event loop while the write queue was full")
+                .register(registry);
+        FunctionCounter.builder("cxf.server.response.overflow.bytes", ResponseWriteMetrics.class,
+                c -> ResponseWriteMetrics.getOverflowBytes())
+                .description("The response bytes set aside on the event loop while the write queue was full")
+                .baseUnit("bytes")
+                .register(registry);
+        FunctionTimer.builder("cxf.server.response.drain.waits", ResponseWriteMetrics.class,
+                c -> ResponseWriteMetrics.getDrainWaits(), c -> ResponseWriteMetrics.getDrainWaitMillis(),
+                TimeUnit.MILLISECONDS)
+                .description("The waits of blocking response writers for the write queue to drain")
+                .register(registry);
+    }
+
+    @Override
+    protected void initializeProvider(InterceptorProvider provider, Bus bus) {
+        provider.getInInterceptors().add(new ReceiveInterceptor());
+        provider.getInInterceptors().add(new OneWayInterceptor());
+        SendInterceptor send = new SendInterceptor();
+        provider.getOutInterceptors().add(send);
+        provider.getOutFaultInterceptors().add(send);
+    }
+
+    private OperationMeters meters(Exchange exchange) {
+        BindingOperationInfo bop = exchange.getBindingOperationInfo();
+        String operation = bop != null ? bop.getOperationInfo().getName().getLocalPart() : UNKNOWN;
+        return operations.computeIfAbsent(operation, OperationMeters::new);
+    }
+
+    /**
+     * Records the request started by {@link ReceiveInterceptor} unless it was already.
+     */
+    private void record(Message message, long responseSize, Exception fault) {
+        Exchange exchange = message.getExchange();
+        Sample sample = (Sample) exchange.remove(SAMPLE);
+        if (sample == null) {
+            return;
+        }
+        active.decrementAndGet();
+        long duration = System.nanoTime() - sample.start;
+        OperationMeters meters = meters(exchange);
+        meters.requestSize.record(sample.in != null ? sample.in.count : 0);
+        if (responseSize >= 0) {
+            meters.responseSize.record(responseSize);
+        }
+        if (fault == null) {
+            meters.success.record(duration, TimeUnit.NANOSECONDS);
+            return;
+        }
+        meters.fault.record(duration, TimeUnit.NANOSECONDS);
+        meters.faults(faultCode(message, fault)).increment();
+    }
+
+    /**
+     * @return the code of the fault as sent in the SOAP version of the message
+     */
+    private static String faultCode(Message message, Exception fault) {
+        if (!(fault instanceof Fault)) {
+            return UNKNOWN;
+        }
+        QName code = message instanceof SoapMessage
+                ? SoapFault.createFault((Fault) fault, ((SoapMessage) message).getVersion()).getFaultCode()
+                : ((Fault) fault).getFaultCode();
+        return code != null ? code.getLocalPart() : UNKNOWN;
+    }
+
+    private final class OperationMeters {
+        private final String operation;
+        private final Timer success;
+        private final Timer fault;
+        private final DistributionSummary requestSize;
+        private final DistributionSummary responseSize;
+        private final Map<String, Counter> faults = new ConcurrentHashMap<>();
+
+        private OperationMeters(String operation) {
+            this.operation = operation;
+            this.success = timer(operation, "success");
+            this.fault = timer(operation, "fault");
+            this.requestSize = size("cxf.server.request.size", "The size of the requests to the operation", operation);
+            this.responseSize = size("cxf.server.response.size", "The size of the responses of the operation",
+                    operation);
+        }
+
+        private Timer timer(String operation, String outcome) {
+            return Timer.builder("cxf.server.requests")
+                    .description("The requests to the operation")
+                    .tag("endpoint", endpoint)
+                    .tag("operation", operation)
+                    .tag("outcome", outcome)
+                    .register(registry);
+        }
+
+        /**
+         * @return the counter of the faults of the operation with {@code code}, registered on first use
+         */
+        private Counter faults(String code) {
+            return faults.computeIfAbsent(code, c -> Counter.builder("cxf.server.faults")
+                    .description("The faults sent by the endpoint")
+                    .tag("endpoint", endpoint)
+                    .tag("operation", operation)
+                    .tag("code", c)
+                    .register(registry));
+        }
+
+        private DistributionSummary size(String name, String description, String operation) {
+            return DistributionSummary.builder(name)
+                    .description(description)
+                    .baseUnit("bytes")
+                    .tag("endpoint", endpoint)
+                    .tag("operation", operation)
+                    .publishPercentileHistogram()
+                    .register(registry);
+        }
+    }
+
+    private static final class Sample {
+        private final long start;
+        private final CountingInputStream in;
+
+        private Sample(long start, CountingInputStream in) {
+            this.start = start;
+            this.in = in;
+        }
+    }
+
+    /**
+     * Starts the sample of a request and counts the bytes read from its body.
+     */
+    private class ReceiveInterceptor extends AbstractPhaseInterceptor<Message> {
+
+        ReceiveInterceptor() {
+            super(Phase.RECEIVE);
+        }
+
+        @Override
+        public void handleMessage(Message message) throws Fault {
+            if (!"POST".equals(message.get(Message.HTTP_REQUEST_METHOD))) {
+                // WSDL and service list requests
+                return;
+            }
+            InputStream body = message.getContent(InputStream.class);
+            CountingInputStream in = null;
+            if (body != null) {
+                in = new CountingInputStream(body);
+                message.setContent(InputStream.class, in);
+            }
+            message.getExchange().put(SAMPLE, new Sample(System.nanoTime(), in));
+            active.incrementAndGet();
+        }
+
+        @Override
+        public void handleFault(Message message) {
+            if (message.getExchange().isOneWay()) {
+                // no fault is sent for one-way operations
+                record(message, -1, message.getContent(Exception.class));
+            }
+        }
+    }
+
+    /**
+     * Records one-way requests, which get no response.
+     */
+    private class OneWayInterceptor extends AbstractPhaseInterceptor<Message> {
+
+        OneWayInterceptor() {
+            super(Phase.POST_INVOKE);
+        }
+
+        @Override
+        public void handleMessage(Message message) throws Fault {
+            if (message.getExchange().isOneWay()) {
+                record(message, -1, null);
+            }
+        }
+    }
+
+    /**
+     * Counts the bytes written to the response or fault, and records the request once it is sent.
+     */
+    private class SendInterceptor extends AbstractPhaseInterceptor<Message> {
+
+        private final SentInterceptor sent = new SentInterceptor();
+
+        SendInterceptor() {
+            super(Phase.PREPARE_SEND);
+            addAfter(MessageSenderInterceptor.class.getName());
+        }
+
+        @Override
+        public void handleMessage(Message message) throws Fault {
+            if (!message.getExchange().containsKey(SAMPLE)) {
+                return;
+            }
+            OutputStream out = message.getContent(OutputStream.class);
+            if (out != null) {
+                message.setContent(OutputStream.class, new CountingOutputStream(out));
+            }
+            message.getInterceptorChain().add(sent);
+        }
+
+        @Override
+        public void handleFault(Message message) {
+            record(message, -1, fault(message));
+        }
+    }
+
+    private class SentInterceptor extends AbstractPhaseInterceptor<Message> {
+
+        SentInterceptor() {
+            super(Phase.PREPARE_SEND_ENDING);
+            addAfter(MessageSenderInterceptor.MessageSenderEndingInterceptor.class.getName());
+        }
+
+        @Override
+        public void handleMessage(Message message) throws Fault {
+            OutputStream out = message.getContent(OutputStream.class);
+            long size = out instanceof CountingOutputStream ? ((CountingOutputStream) out).count : -1;
+            record(message, size, fault(message));
+        }
+    }
+
+    private static Exception fault(Message message) {
+        if (message == message.getExchange().getOutFaultMessage()) {
+            Exception fault = message.getContent(Exception.class);
+            return fault != null ? fault : new Fault(new IllegalStateException());
+        }
+        return null;
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        private CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+    }
+
+    private static final class CountingOutputStream extends FilterOutputStream {
+        private long count;
+
+        private CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+
+        @Override
+        public void close() throws IOException {
+            // without flushing first, so that responses fitting the buffer are still sent with a Content-Length
+            out.close();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package io.quarkiverse.cxf.transport;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of how often writing SOAP responses had to wait for slow clients, published by
+ * {@link CxfServerMetricsFeature} when metrics are enabled.
+ */
+public final class ResponseWriteMetrics {
+
+    private static final LongAdder OVERFLOW_BYTES = new LongAdder();
+    private static final LongAdder OVERFLOW_WRITES = new LongAdder();
+    private static final LongAdder DRAIN_WAITS = new LongAdder();
+    private static final LongAdder DRAIN_WAIT_NANOS = new LongAdder();
+
+    private ResponseWriteMetrics() {
+    }
+
+    static void overflow(int bytes) {
+        OVERFLOW_WRITES.increment();
+        OVERFLOW_BYTES.add(bytes);
+    }
+
+    static void drainWait(long nanos) {
+        DRAIN_WAITS.increment();
+        DRAIN_WAIT_NANOS.add(nanos);
+    }
+
+    /**
+     * @return the number of bytes set aside on the event loop because the write queue of the connection was full
+     */
+    public static long getOverflowBytes() {
+        return OVERFLOW_BYTES.sum();
+    }
+
+    /**
+     * @return the number of writes set aside on the event loop because the write queue of the connection was full
+     */
+    public static long getOverflowWrites() {
+        return OVERFLOW_WRITES.sum();
+    }
+
+    /**
+     * @return the number of times a blocking writer waited for the write queue of the connection to drain
+     */
+    public static long getDrainWaits() {
+        return DRAIN_WAITS.sum();
+    }
+
+    /**
+     * @return the total time blocking writers waited for write queues to drain, in milliseconds
+     */
+    public static long getDrainWaitMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(DRAIN_WAIT_NANOS.sum());
+    }
+}
@@ -0,0 +1,215 @@
+package io.quarkiverse.cxf.transport;
+
+import java.util.concurrent.Executor;
+
+import org.apache.cxf.continuations.Continuation;
+import org.apache.cxf.continuations.ContinuationCallback;
+import org.apache.cxf.continuations.ContinuationProvider;
+import org.apache.cxf.message.Exchange;
+import org.apache.cxf.message.Message;
+
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Lets CXF suspend the interceptor chain of a request served by {@link VertxDestination}, e.g. for
+ * {@code @UseAsyncMethod} implementors, and finish it later from any thread. The chain is resumed through the
+ * executor given by {@link CxfHandler}, which runs it the same way as the original request.
+ */
+public class VertxContinuationProvider implements ContinuationProvider {
+
+    private static final String KEY = VertxContinuationProvider.class.getName();
+
+    private final Message inMessage;
+    private final RoutingContext context;
+    private final Executor resumeExecutor;
+    private VertxContinuation continuation;
+    private boolean completed;
+    private boolean dispatching = true;
+    private boolean resumeRequested;
+
+    public VertxContinuationProvider(Message inMessage, RoutingContext context, Executor resumeExecutor) {
+        this.inMessage = inMessage;
+        this.context = context;
+        this.resumeExecutor = resumeExecutor;
+        context.put(KEY, this);
+    }
+
+    /**
+     * @return the provider of the request, {@code null} if it was not served by {@link VertxDestination}
+     */
+    public static VertxContinuationProvider get(RoutingContext context) {
+        return context.get(KEY);
+    }
+
+    @Override
+    public synchronized Continuation getContinuation() {
+        if (inMessage.getExchange().isOneWay()) {
+            return null;
+        }
+        if (continuation == null) {
+            continuation = new VertxContinuation();
+        }
+        return continuation;
+    }
+
+    @Override
+    public void complete() {
+        VertxContinuation c;
+        synchronized (this) {
+            completed = true;
+            c = continuation;
+            continuation = null;
+        }
+        if (c != null) {
+            c.reset();
+        }
+        Exchange exchange = inMessage.getExchange();
+        ContinuationCallback callback = exchange.get(ContinuationCallback.class);
+        if (callback != null) {
+            Exception ex = exchange.get(Exception.class);
+            if (ex == null) {
+                callback.onComplete();
+            } else {
+                callback.onError(ex);
+            }
+        }
+    }
+
+    /**
+     * @return {@code true} once the exchange is over, {@code false} while its chain is suspended
+     */
+    public synchronized boolean isCompleted() {
+        return completed;
+    }
+
+    /**
+     * Called once the thread which ran the suspended chain has let go of the request. A resume requested meanwhile
+     * is dispatched now, so that the chain never runs on two threads at once.
+     */
+    public void endDispatch() {
+        synchronized (this) {
+            if (!resumeRequested) {
+                dispatching = false;
+                return;
+            }
+            resumeRequested = false;
+        }
+        redispatch();
+    }
+
+    private void requestResume() {
+        synchronized (this) {
+            if (dispatching) {
+                resumeRequested = true;
+                return;
+            }
+            dispatching = true;
+        }
+        redispatch();
+    }
+
+    private void redispatch() {
+        resumeExecutor.execute(() -> ((VertxDestination) inMessage.getDestination())
+                .dispatch(context, inMessage.getExchange().getInMessage()));
+    }
+
+    class VertxContinuation implements Continuation {
+        private volatile boolean isNew = true;
+        private volatile boolean isPending;
+        private volatile boolean isResumed;
+        private volatile boolean isTimeout;
+        private volatile Object obj;
+        private long timerId = -1;
+
+        @Override
+        public boolean suspend(long timeout) {
+            synchronized (VertxContinuationProvider.this) {
+                isPending = true;
+                isNew = false;
+                isResumed = false;
+                cancelTimer();
+                if (timeout > 0) {
+                    timerId = context.vertx().setTimer(timeout, id -> {
+                        synchronized (VertxContinuationProvider.this) {
+                            if (timerId != id || !isPending) {
+                                return;
+                            }
+                            timerId = -1;
+                            isTimeout = true;
+                        }
+                        resume();
+                    });
+                }
+            }
+            inMessage.getExchange().getInMessage().getInterceptorChain().suspend();
+            return true;
+        }
+
+        @Override
+        public void resume() {
+            synchronized (VertxContinuationProvider.this) {
+                if (!isPending) {
+                    return;
+                }
+                isPending = false;
+                isResumed = true;
+                cancelTimer();
+            }
+            requestResume();
+        }
+
+        @Override
+        public void reset() {
+            synchronized (VertxContinuationProvider.this) {
+                cancelTimer();
+                isPending = false;
+                isResumed = false;
+                isNew = false;
+                isTimeout = false;
+                obj = null;
+            }
+        }
+
+        private void cancelTimer() {
+            if (timerId != -1) {
+                context.vertx().cancelTimer(timerId);
+                timerId = -1;
+            }
+        }
+
+        @Override
+        public boolean isNew() {
+            return isNew;
+        }
+
+        @Override
+        public boolean isPending() {
+            return isPending;
+        }
+
+        @Override
+        public boolean isResumed() {
+            return isResumed;
+        }
+
+        @Override
+        public boolean isTimeout() {
+            return isTimeout;
+        }
+
+        @Override
+        public Object getObject() {
+            return obj;
+        }
+
+        @Override
+        public void setObject(Object o) {
+            obj = o;
+        }
+
+        @Override
+        public boolean isReadyForWrite() {
+            return true;
+        }
+    }
+}
@@ -1,23 +1,116 @@
 package io.quarkiverse.cxf.transport;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.security.cert.Certificate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import javax.net.ssl.SSLPeerUnverifiedException;
+import javax.net.ssl.SSLSession;
+
 import org.apache.cxf.Bus;
 import org.apache.cxf.common.logging.LogUtils;
+import org.apache.cxf.common.util.Base64Exception;
+import org.apache.cxf.common.util.Base64Utility;
+import org.apache.cxf.common.util.StringUtils;
+import org.apache.cxf.configuration.security.AuthorizationPolicy;
+import org.apache.cxf.continuations.ContinuationProvider;
+import org.apache.cxf.continuations.SuspendedInvocationException;
+import org.apache.cxf.helpers.CastUtils;
+import org.apache.cxf.helpers.HttpHeaderHelper;
+import org.apache.cxf.helpers.IOUtils;
+import org.apache.cxf.interceptor.Fault;
+import org.apache.cxf.interceptor.Interceptor;
+import org.apache.cxf.interceptor.InterceptorChain;
+import org.apache.cxf.io.AbstractWrappedOutputStream;
+import org.apache.cxf.io.CopyingOutputStream;
+import org.apache.cxf.io.DelegatingInputStream;
+import org.apache.cxf.message.Exchange;
+import org.apache.cxf.message.ExchangeImpl;
+import org.apache.cxf.message.Message;
+import org.apache.cxf.message.MessageImpl;
+import org.apache.cxf.message.MessageUtils;
+import org.apache.cxf.security.SecurityContext;
+import org.apache.cxf.security.transport.TLSSessionInfo;
 import org.apache.cxf.service.model.EndpointInfo;
+import org.apache.cxf.transport.Conduit;
 import org.apache.cxf.transport.http.DestinationRegistry;
+import org.apache.cxf.transport.http.Headers;
 import org.apache.cxf.transport.http_jaxws_spi.JAXWSHttpSpiDestination;
+import org.apache.cxf.transport.https.CertConstraints;
+import org.apache.cxf.transport.https.CertConstraintsInterceptor;
+import org.apache.cxf.transports.http.configuration.HTTPServerPolicy;
 import org.apache.cxf.ws.addressing.EndpointReferenceType;
 
+import io.quarkus.security.identity.CurrentIdentityAssociation;
+import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.vertx.http.runtime.security.QuarkusHttpUser;
+import io.undertow.httpcore.HttpHeaderNames;
+import io.vertx.core.MultiMap;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+
 public class VertxDestination extends JAXWSHttpSpiDestination {
 
     static final Logger LOG = LogUtils.getL7dLogger(VertxDestination.class);
+    private static final String HTTP_BASE_PATH_KEY = "http.base.path";
+
+    private volatile HTTPServerPolicy vertxServerPolicy;
+    private int responseBufferSize = VertxServletOutputStream.DEFAULT_BUFFER_SIZE;
+    private String basePath = "";
 
     public VertxDestination(EndpointInfo endpointInfo, Bus bus, DestinationRegistry destinationRegistry) throws IOException {
         super(bus, destinationRegistry, endpointInfo);
     }
 
+    public int getResponseBufferSize() {
+        return responseBufferSize;
+    }
+
+    /**
+     * @param responseBufferSize responses up to this many bytes are sent with a Content-Length, larger ones are
+     *        streamed in chunks of this size
+     */
+    public void setResponseBufferSize(int responseBufferSize) {
+        this.responseBufferSize = responseBufferSize;
+    }
+
+    /**
+     * Computes the base path of the endpoint once, for the requests it gets not to parse its address.
+     *
+     * @param servletPath the path CXF is mounted on
+     */
+    public void setServletPath(String servletPath) throws IOException {
+        String address = endpointInfo.getAddress();
+        if (StringUtils.isEmpty(address)) {
+            basePath = "";
+        } else if (address.startsWith("http")) {
+            basePath = super.getBasePath(servletPath);
+        } else if (servletPath == null || servletPath.equals("/")) {
+            basePath = address;
+        } else {
+            basePath = (servletPath.endsWith("/") ? servletPath.substring(0, servletPath.length() - 1) : servletPath)
+                    + address;
+        }
+    }
+
+    @Override
+    protected String getBasePath(String contextPath) {
+        return basePath;
+    }
+
     @Override
     protected Logger getLogger() {
         return LOG;
@@ -27,4 +120,494 @@ public class VertxDestination extends JAXWSHttpSpiDestination {
     public EndpointReferenceType getAddress() {
         return super.getAddress();
     }
+
+    /**
+     * Builds the CXF message straight from the Vert.x request and hands it to the message observer, without going
+     * through the servlet API.
+     *
+     * @param context the routing context of the request
+     * @param in the request body
+     * @param resumeExecutor runs the interceptor chain again once it is resumed after a suspension, {@code null} if
+     *        the caller does not support continuations
+     */
+    public void invoke(RoutingContext context, VertxServletInputStream in, Executor resumeExecutor) throws IOException {
+        if (LOG.isLoggable(Level.FINE)) {
+            LOG.fine("Service http request on thread: " + Thread.currentThread());
+        }
+        MessageImpl inMessage = new MessageImpl();
+        ExchangeImpl exchange = new ExchangeImpl();
+        exchange.setInMessage(inMessage);
+        setupMessage(inMessage, context, in);
+        if (resumeExecutor != null) {
+            inMessage.put(ContinuationProvider.class.getName(),
+                    new VertxContinuationProvider(inMessage, context, resumeExecutor));
+        }
+        inMessage.setDestination(this);
+
+        dispatch(context, inMessage);
+    }
+
+    /**
+     * Runs the interceptor chain of the message, or resumes it when it was suspended, and completes the exchange
+     * unless the chain got suspended.
+     */
+    void dispatch(RoutingContext context, Message inMessage) {
+        try {
+            getMessageObserver().onMessage(inMessage);
+        } catch (SuspendedInvocationException ex) {
+            if (ex.getRuntimeException() != null) {
+                throw ex.getRuntimeException();
+            }
+            return;
+        } catch (Fault ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw ex;
+        }
+        InterceptorChain chain = inMessage.getExchange().getInMessage().getInterceptorChain();
+        if (chain != null && (chain.getState() == InterceptorChain.State.SUSPENDED
+                || chain.getState() == InterceptorChain.State.PAUSED)) {
+            return;
+        }
+        ContinuationProvider provider = inMessage.get(ContinuationProvider.class);
+        if (provider != null) {
+            provider.complete();
+        }
+        if (inMessage.getExchange().get(RESPONSE_COMMITED) == null && !context.response().ended()) {
+            // nothing was sent back, e.g. a one-way call without partial response
+            context.response().end();
+        }
+    }
+
+    protected void setupMessage(Message inMessage, RoutingContext context, VertxServletInputStream body)
+            throws IOException {
+        HttpServerRequest request = context.request();
+        DelegatingInputStream in = new DelegatingInputStream(body);
+        inMessage.setContent(DelegatingInputStream.class, in);
+        inMessage.setContent(InputStream.class, in);
+        inMessage.put(RoutingContext.class, context);
+        inMessage.put(HTTP_CONTEXT_MATCH_STRATEGY, contextMatchStrategy);
+
+        String method = request.method().name();
+        inMessage.put(Message.HTTP_REQUEST_METHOD, method);
+        String requestURI = request.path();
+        inMessage.put(Message.REQUEST_URI, requestURI);
+        String requestURL = request.absoluteURI();
+        int queryIdx = requestURL.indexOf('?');
+        if (queryIdx != -1) {
+            requestURL = requestURL.substring(0, queryIdx);
+        }
+        inMessage.put(Message.REQUEST_URL, requestURL);
+        inMessage.put(Message.PATH_INFO, requestURI);
+        if (!StringUtils.isEmpty(requestURI)) {
+            int index = requestURL.indexOf(requestURI);
+            if (index > 0) {
+                inMessage.put(HTTP_BASE_PATH_KEY, requestURL.substring(0, index));
+            }
+        }
+        String contentType = request.getHeader(HttpHeaderNames.CONTENT_TYPE);
+        inMessage.put(Message.CONTENT_TYPE, contentType);
+        setEncoding(inMessage, method, contentType);
+        inMessage.put(Message.QUERY_STRING, request.query());
+        inMessage.put(Message.ACCEPT_CONTENT_TYPE, request.getHeader(HttpHeaderNames.ACCEPT));
+        if (!StringUtils.isEmpty(basePath)) {
+            inMessage.put(Message.BASE_PATH, basePath);
+        }
+        inMessage.put(Message.FIXED_PARAMETER_ORDER, isFixedParameterOrder());
+        inMessage.put(Message.ASYNC_POST_RESPONSE_DISPATCH, Boolean.TRUE);
+
+        SecurityContext securityContext = new VertxSecurityContext(context);
+        inMessage.put(SecurityContext.class, securityContext);
+
+        Headers headers = new Headers(inMessage);
+        copyFromRequest(request.headers(), headers.headerMap(), contentType);
+        inMessage.put(AuthorizationPolicy.class, getAuthorizationPolicy(headers.getAuthorization(), securityContext));
+
+        if (request.isSSL()) {
+            propagateSecureSession(request.sslSession(), inMessage);
+        }
+        inMessage.put(CertConstraints.class.getName(), certConstraints);
+        inMessage.put(Message.IN_INTERCEPTORS,
+                Collections.<Interceptor<? extends Message>> singletonList(CertConstraintsInterceptor.INSTANCE));
+    }
+
+    private static void copyFromRequest(MultiMap requestHeaders, Map<String, List<String>> headers, String contentType) {
+        for (Map.Entry<String, String> header : requestHeaders) {
+            String mappedName = HttpHeaderHelper.getHeaderKey(header.getKey());
+            List<String> values = headers.get(mappedName);
+            if (values == null) {
+                values = new ArrayList<>(1);
+                headers.put(mappedName, values);
+            }
+            if ("Accept".equals(mappedName) && !values.isEmpty()) {
+                //ensure we collapse Accept into first line
+                values.set(0, values.get(0) + ", " + header.getValue());
+            }
+            values.add(header.getValue());
+        }
+        if (!headers.containsKey(Message.CONTENT_TYPE)) {
+            headers.put(Message.CONTENT_TYPE, Collections.singletonList(contentType));
+        }
+    }
+
+    private static void setEncoding(Message inMessage, String method, String contentType) throws IOException {
+        String enc = HttpHeaderHelper.findCharset(contentType);
+        if (enc != null && enc.endsWith("\"")) {
+            enc = enc.substring(0, enc.length() - 1);
+        }
+        if (enc != null || "POST".equals(method) || "PUT".equals(method)) {
+            //allow gets/deletes/options to not specify an encoding
+            String normalizedEncoding = HttpHeaderHelper.mapCharset(enc);
+            if (normalizedEncoding == null) {
+                String m = new org.apache.cxf.common.i18n.Message("INVALID_ENCODING_MSG", LOG, enc).toString();
+                LOG.log(Level.WARNING, m);
+                throw new IOException(m);
+            }
+            inMessage.put(Message.ENCODING, normalizedEncoding);
+        }
+    }
+
+    private AuthorizationPolicy getAuthorizationPolicy(String credentials, SecurityContext sc) {
+        if (credentials == null || StringUtils.isEmpty(credentials.trim())) {
+            return null;
+        }
+        String[] creds = credentials.split(" ");
+        String authType = creds[0];
+        if ("Basic".equals(authType) && creds.length == 2) {
+            try {
+                byte[] authBytes = Base64Utility.decode(creds[1]);
+                if (authBytes != null) {
+                    String authDecoded = decodeBasicAuthWithIso8859
+                            ? new String(authBytes, StandardCharsets.ISO_8859_1)
+                            : new String(authBytes);
+                    int idx = authDecoded.indexOf(':');
+                    AuthorizationPolicy policy = sc.getUserPrincipal() == null
+                            ? new AuthorizationPolicy()
+                            : new PrincipalAuthorizationPolicy(sc);
+                    if (idx == -1) {
+                        policy.setUserName(authDecoded);
+                    } else {
+                        policy.setUserName(authDecoded.substring(0, idx));
+                        if (idx < authDecoded.length() - 1) {
+                            policy.setPassword(authDecoded.substring(idx + 1));
+                        }
+                    }
+                    policy.setAuthorizationType(authType);
+                    return policy;
+                }
+            } catch (Base64Exception ex) {
+                // Invalid authentication => treat as not authenticated or use the Principal
+            }
+        }
+        if (sc.getUserPrincipal() != null) {
+            AuthorizationPolicy policy = new PrincipalAuthorizationPolicy(sc);
+            policy.setAuthorization(credentials);
+            policy.setAuthorizationType(authType);
+            return policy;
+        }
+        return null;
+    }
+
+    private static void propagateSecureSession(SSLSession session, Message message) {
+        if (session == null) {
+            return;
+        }
+        Certificate[] certs;
+        try {
+            certs = session.getPeerCertificates();
+        } catch (SSLPeerUnverifiedException e) {
+            certs = null;
+        }
+        message.put(TLSSessionInfo.class, new TLSSessionInfo(session.getCipherSuite(), session, certs));
+    }
+
+    private static RoutingContext getRoutingContext(Message message) {
+        RoutingContext context = message.get(RoutingContext.class);
+        if (context == null && message.getExchange() != null && message.getExchange().getInMessage() != null) {
+            context = message.getExchange().getInMessage().get(RoutingContext.class);
+        }
+        return context;
+    }
+
+    @Override
+    protected Conduit getInbuiltBackChannel(Message inMessage) {
+        RoutingContext context = inMessage.get(RoutingContext.class);
+        if (context == null) {
+            return super.getInbuiltBackChannel(inMessage);
+        }
+        return new VertxBackChannelConduit();
+    }
+
+    @Override
+    protected OutputStream flushHeaders(Message outMessage, boolean getStream) throws IOException {
+        RoutingContext context = getRoutingContext(outMessage);
+        if (context == null) {
+            return super.flushHeaders(outMessage, getStream);
+        }
+        Exchange exchange = outMessage.getExchange();
+        if (exchange != null && Boolean.TRUE.equals(exchange.get(REQUEST_REDIRECTED))) {
+            return null;
+        }
+        consumeInput(outMessage);
+        if (exchange != null) {
+            exchange.put(RESPONSE_COMMITED, Boolean.TRUE);
+        }
+
+        HttpServerResponse response = context.response();
+        int responseCode = MessageUtils.getReponseCodeFromMessage(outMessage);
+        if (responseCode >= 300) {
+            String ec = (String) outMessage.get(Message.ERROR_MESSAGE);
+            if (!StringUtils.isEmpty(ec)) {
+                response.setStatusCode(responseCode).end(ec);
+                return null;
+            }
+        }
+        response.setStatusCode(responseCode);
+        copyToResponse(outMessage, response.headers());
+        outMessage.put(RESPONSE_HEADERS_COPIED, "true");
+
+        VertxServletOutputStream responseStream = new VertxServletOutputStream(context.request(), response,
+                responseBufferSize);
+        if (MessageUtils.hasNoResponseContent(outMessage) || !getStream) {
+            responseStream.close();
+            responseStream = null;
+        }
+        if (isOneWay(outMessage)) {
+            outMessage.remove(RoutingContext.class);
+        }
+        return responseStream;
+    }
+
+    /**
+     * Reads what is left of the request so that the client is not blocked sending while the response is written.
+     */
+    private static void consumeInput(Message outMessage) {
+        if (outMessage.getExchange() == null) {
+            return;
+        }
+        Message inMessage = outMessage.getExchange().getInMessage();
+        if (inMessage == null) {
+            return;
+        }
+        DelegatingInputStream in = inMessage.getContent(DelegatingInputStream.class);
+        if (in == null) {
+            return;
+        }
+        if (MessageUtils.getContextualBoolean(inMessage, "cxf.io.cacheinput", false)) {
+            in.cacheInput();
+        } else {
+            try {
+                IOUtils.consume(in, 16 * 1024 * 1024);
+            } catch (Exception ioe) {
+                //ignore
+            }
+        }
+    }
+
+    private void copyToResponse(Message outMessage, MultiMap responseHeaders) {
+        Map<String, List<Object>> headers = CastUtils.cast(Headers.getSetProtocolHeaders(outMessage));
+        setFromServerPolicy(headers);
+
+        String contentType = (String) outMessage.get(Message.CONTENT_TYPE);
+        String enc = (String) outMessage.get(Message.ENCODING);
+        if (contentType != null && enc != null && contentType.indexOf("charset=") == -1
+                && !contentType.toLowerCase().contains("multipart/related")) {
+            contentType = contentType + "; charset=" + enc;
+        }
+        if (!headers.containsKey(Message.CONTENT_TYPE) && contentType != null && isResponseBodyAvailable(headers)) {
+            responseHeaders.set(HttpHeaderNames.CONTENT_TYPE, contentType);
+        }
+
+        boolean addHeaders = MessageUtils.getContextualBoolean(outMessage, Headers.ADD_HEADERS_PROPERTY, false);
+        for (Map.Entry<String, List<Object>> entry : headers.entrySet()) {
+            String header = entry.getKey();
+            List<Object> headerList = entry.getValue();
+            if (addHeaders || Headers.HTTP_HEADERS_SETCOOKIE.equalsIgnoreCase(header)
+                    || Headers.HTTP_HEADERS_LINK.equalsIgnoreCase(header)) {
+                for (Object headerObject : headerList) {
+                    if (headerObject != null) {
+                        responseHeaders.add(header, headerObjectToString(headerObject));
+                    }
+                }
+            } else {
+                StringBuilder sb = new StringBuilder();
+                for (int i = 0; i < headerList.size(); i++) {
+                    Object headerObject = headerList.get(i);
+                    if (headerObject != null) {
+                        sb.append(headerObjectToString(headerObject));
+                    }
+                    if (i + 1 < headerList.size()) {
+                        sb.append(',');
+                    }
+                }
+                responseHeaders.set(header, sb.toString());
+            }
+        }
+    }
+
+    private void setFromServerPolicy(Map<String, List<Object>> headers) {
+        HTTPServerPolicy policy = vertxServerPolicy;
+        if (policy == null) {
+            policy = getServer();
+            if (policy == null) {
+                policy = endpointInfo.getTraversedExtensor(new HTTPServerPolicy(), HTTPServerPolicy.class);
+            }
+            vertxServerPolicy = policy;
+        }
+        if (policy.isSetCacheControl()) {
+            headers.put("Cache-Control", singletonHeader(policy.getCacheControl()));
+        }
+        if (policy.isSetContentLocation()) {
+            headers.put("Content-Location", singletonHeader(policy.getContentLocation()));
+        }
+        if (policy.isSetContentEncoding()) {
+            headers.put("Content-Encoding", singletonHeader(policy.getContentEncoding()));
+        }
+        if (policy.isSetContentType()) {
+            headers.put(HttpHeaderHelper.CONTENT_TYPE, singletonHeader(policy.getContentType()));
+        }
+        if (policy.isSetServerType()) {
+            headers.put("Server", singletonHeader(policy.getServerType()));
+        }
+        if (policy.isSetHonorKeepAlive() && !policy.isHonorKeepAlive()) {
+            headers.put("Connection", singletonHeader("close"));
+        } else if (policy.isSetKeepAliveParameters()) {
+            headers.put("Keep-Alive", singletonHeader(policy.getKeepAliveParameters()));
+        }
+    }
+
+    private static List<Object> singletonHeader(String value) {
+        List<Object> values = new ArrayList<>(1);
+        values.add(value);
+        return values;
+    }
+
+    // Assumes that response body is not available only if Content-Length is available and set to 0
+    private static boolean isResponseBodyAvailable(Map<String, List<Object>> headers) {
+        List<Object> ctLen = headers.get("Content-Length");
+        if (ctLen == null || ctLen.size() != 1) {
+            return true;
+        }
+        try {
+            return Integer.parseInt(String.valueOf(ctLen.get(0))) != 0;
+        } catch (NumberFormatException ex) {
+            return true;
+        }
+    }
+
+    private static String headerObjectToString(Object headerObject) {
+        if (headerObject instanceof Date) {
+            return Headers.toHttpDate((Date) headerObject);
+        } else if (headerObject instanceof Locale) {
+            return Headers.toHttpLanguage((Locale) headerObject);
+        }
+        return headerObject.toString();
+    }
+
+    static class VertxSecurityContext implements SecurityContext {
+        private final RoutingContext context;
+
+        VertxSecurityContext(RoutingContext context) {
+            this.context = context;
+        }
+
+        @Override
+        public Principal getUserPrincipal() {
+            QuarkusHttpUser user = (QuarkusHttpUser) context.user();
+            if (user == null || user.getSecurityIdentity().isAnonymous()) {
+                return null;
+            }
+            return user.getSecurityIdentity().getPrincipal();
+        }
+
+        @Override
+        public boolean isUserInRole(String role) {
+            SecurityIdentity user = CurrentIdentityAssociation.current();
+            if (role.equals("**")) {
+                return !user.isAnonymous();
+            }
+            return user.hasRole(role);
+        }
+    }
+
+    /**
+     * Back channel writing the response straight to the Vert.x response.
+     */
+    public class VertxBackChannelConduit extends AbstractBackChannelConduit {
+
+        @Override
+        public void prepare(Message message) throws IOException {
+            if (message.getContent(OutputStream.class) == null) {
+                message.setContent(OutputStream.class, new VertxWrappedOutputStream(message));
+            }
+        }
+
+        @Override
+        public void close(Message msg) throws IOException {
+            super.close(msg);
+            if (msg.getExchange() == null) {
+                return;
+            }
+            Message m = msg.getExchange().getInMessage();
+            if (m == null) {
+                return;
+            }
+            InputStream is = m.getContent(InputStream.class);
+            if (is != null) {
+                try {
+                    is.close();
+                    m.removeContent(InputStream.class);
+                } catch (IOException ioex) {
+                    //ignore
+                }
+            }
+        }
+    }
+
+    /**
+     * Wrapper stream responsible for flushing headers and committing the outgoing Vert.x response.
+     */
+    private class VertxWrappedOutputStream extends AbstractWrappedOutputStream implements CopyingOutputStream {
+
+        private final Message outMessage;
+
+        VertxWrappedOutputStream(Message outMessage) {
+            this.outMessage = outMessage;
+        }
+
+        @Override
+        public int copyFrom(InputStream in) throws IOException {
+            if (!written) {
+                onFirstWrite();
+                written = true;
+            }
+            if (wrappedStream != null) {
+                return IOUtils.copy(in, wrappedStream);
+            }
+            return IOUtils.copy(in, this, IOUtils.DEFAULT_BUFFER_SIZE);
+        }
+
+        @Override
+        protected void onFirstWrite() throws IOException {
+            OutputStream responseStream = flushHeaders(outMessage);
+            if (responseStream != null) {
+                wrappedStream = responseStream;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!written && wrappedStream == null) {
+                OutputStream responseStream = flushHeaders(outMessage, false);
+                if (responseStream != null) {
+                    wrappedStream = responseStream;
+                }
+            }
+            if (wrappedStream != null) {
+                wrappedStream.close();
+            }
+        }
+    }
 }
@@ -0,0 +1,715 @@
+package io.quarkiverse.cxf.transport;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.PushbackInputStream;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.security.KeyStore;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+import javax.net.ssl.KeyManager;
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.KeyManagerFactorySpi;
+import javax.net.ssl.ManagerFactoryParameters;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.TrustManagerFactory;
+import javax.net.ssl.TrustManagerFactorySpi;
+import javax.net.ssl.X509KeyManager;
+
+import org.apache.cxf.Bus;
+import org.apache.cxf.configuration.jsse.TLSClientParameters;
+import org.apache.cxf.helpers.HttpHeaderHelper;
+import org.apache.cxf.interceptor.InterceptorChain;
+import org.apache.cxf.io.CacheAndWriteOutputStream;
+import org.apache.cxf.message.Message;
+import org.apache.cxf.message.MessageUtils;
+import org.apache.cxf.phase.PhaseInterceptorChain;
+import org.apache.cxf.service.model.EndpointInfo;
+import org.apache.cxf.transport.MessageObserver;
+import org.apache.cxf.transport.http.Address;
+import org.apache.cxf.transport.http.HTTPConduit;
+import org.apache.cxf.transport.http.Headers;
+import org.apache.cxf.transport.https.HttpsURLConnectionInfo;
+import org.apache.cxf.transports.http.configuration.HTTPClientPolicy;
+import org.apache.cxf.ws.addressing.EndpointReferenceType;
+
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpClientRequest;
+import io.vertx.core.http.HttpClientResponse;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.RequestOptions;
+import io.vertx.core.net.KeyCertOptions;
+import io.vertx.core.net.SocketAddress;
+import io.vertx.core.net.TrustOptions;
+
+/**
+ * Client conduit sending requests through a Vert.x {@link HttpClient} instead of {@link java.net.HttpURLConnection}.
+ * The client keeps a pool of connections per host and speaks HTTP/2 when configured to. Request bodies are streamed
+ * as CXF writes them, responses are read from the buffers Vert.x delivers, and asynchronous invocations do not hold a
+ * thread while they wait for the response.
+ * <p>
+ * The key and trust managers of the TLS client parameters are those of the connections. They are read once, when the
+ * first request creates the client; requests fail once they have changed, rather than being sent with the former ones.
+ */
+public class VertxHttpConduit extends HTTPConduit {
+
+    private static final Object[] NO_TLS_MATERIAL = new Object[0];
+
+    private final Vertx vertx;
+    private final HttpClientOptions options;
+    private final VertxHttpConduit owner;
+    private HttpClient httpClient;
+    private Object[] httpClientTlsMaterial;
+
+    /**
+     * @param options the options of the {@link HttpClient} of this conduit, created on first use so that the TLS
+     *        client parameters configured meanwhile are taken into account
+     */
+    public VertxHttpConduit(Bus b, EndpointInfo ei, EndpointReferenceType t, Vertx vertx, HttpClientOptions options)
+            throws IOException {
+        super(b, ei, t);
+        this.vertx = vertx;
+        this.options = options;
+        this.owner = null;
+    }
+
+    /**
+     * @param owner the conduit whose {@link HttpClient}, and thus connections, this conduit sends its requests
+     *        through; closing this conduit leaves them open
+     */
+    public VertxHttpConduit(Bus b, EndpointInfo ei, EndpointReferenceType t, VertxHttpConduit owner)
+            throws IOException {
+        super(b, ei, t);
+        this.vertx = owner.vertx;
+        this.options = owner.options;
+        this.owner = owner;
+    }
+
+    private synchronized HttpClient getHttpClient() {
+        if (owner != null) {
+            if (!Arrays.equals(tlsMaterial(getTlsClientParameters()), tlsMaterial(owner.getTlsClientParameters()))) {
+                throw new IllegalStateException("Conduit " + getConduitName() + " sends its requests through the "
+                        + "connections of conduit " + owner.getConduitName() + ", its TLS client parameters must be "
+                        + "the same");
+            }
+            return owner.getHttpClient();
+        }
+        TLSClientParameters tlsParameters = getTlsClientParameters();
+        Object[] material = tlsMaterial(tlsParameters);
+        if (httpClient == null) {
+            httpClient = vertx.createHttpClient(clientOptions(tlsParameters));
+            httpClientTlsMaterial = material;
+        } else if (!Arrays.equals(material, httpClientTlsMaterial)) {
+            throw new IllegalStateException("The TLS client parameters of conduit " + getConduitName()
+                    + " changed after its first request, its connections use the former ones");
+        }
+        return httpClient;
+    }
+
+    /**
+     * Maps {@code tlsParameters} to the options of the {@link HttpClient}: the key and trust managers as they are, the
+     * host name check unless it is disabled.
+     *
+     * @throws IllegalStateException if {@code tlsParameters} has an {@link javax.net.ssl.SSLContext} or an
+     *         {@link javax.net.ssl.SSLSocketFactory}, which Vert.x cannot create its connections with
+     */
+    private HttpClientOptions clientOptions(TLSClientParameters tlsParameters) {
+        HttpClientOptions clientOptions = new HttpClientOptions(options);
+        if (tlsParameters == null) {
+            return clientOptions;
+        }
+        if (tlsParameters.getSslContext() != null || tlsParameters.getSSLSocketFactory() != null) {
+            throw new IllegalStateException("Conduit " + getConduitName() + " cannot use the SSLContext or the "
+                    + "SSLSocketFactory of its TLS client parameters, set their key and trust managers instead");
+        }
+        clientOptions.setVerifyHost(!tlsParameters.isDisableCNCheck());
+        if (tlsParameters.getKeyManagers() != null) {
+            clientOptions.setKeyCertOptions(new KeyManagersOptions(tlsParameters.getKeyManagers()));
+        }
+        if (tlsParameters.getTrustManagers() != null) {
+            clientOptions.setTrustOptions(new TrustManagersOptions(tlsParameters.getTrustManagers()));
+        }
+        return clientOptions;
+    }
+
+    /**
+     * @return what the connections of an {@link HttpClient} depend on in {@code tlsParameters}, the managers being
+     *         compared by identity
+     */
+    private static Object[] tlsMaterial(TLSClientParameters tlsParameters) {
+        if (tlsParameters == null) {
+            return NO_TLS_MATERIAL;
+        }
+        return new Object[] { tlsParameters.getKeyManagers(), tlsParameters.getTrustManagers(),
+                tlsParameters.isDisableCNCheck(), tlsParameters.getSslContext(), tlsParameters.getSSLSocketFactory() };
+    }
+
+    private HttpClientRequest request(HttpMethod method, RequestOptions requestOptions,
+            Handler<HttpClientResponse> responseHandler) {
+        return getHttpClient().request(method,
+                SocketAddress.inetSocketAddress(requestOptions.getPort(), requestOptions.getHost()), requestOptions,
+                responseHandler);
+    }
+
+    @Override
+    protected void setupConnection(Message message, Address address, HTTPClientPolicy csPolicy) throws IOException {
+        // If the HTTP_REQUEST_METHOD is not set, the default is "POST".
+        if (message.get(Message.HTTP_REQUEST_METHOD) == null) {
+            message.put(Message.HTTP_REQUEST_METHOD, "POST");
+        }
+        message.put("http.scheme", address.getURI().getScheme());
+        message.put(KEY_HTTP_CONNECTION_ADDRESS, address);
+    }
+
+    @Override
+    protected OutputStream createOutputStream(Message message, boolean needToCacheRequest, boolean isChunking,
+            int chunkThreshold) throws IOException {
+        Address address = (Address) message.get(KEY_HTTP_CONNECTION_ADDRESS);
+        return new VertxWrappedOutputStream(message, needToCacheRequest, isChunking, chunkThreshold, getConduitName(),
+                address.getURI());
+    }
+
+    @Override
+    public void close() {
+        super.close();
+        HttpClient client;
+        synchronized (this) {
+            client = httpClient;
+            httpClient = null;
+        }
+        if (client != null) {
+            client.close();
+        }
+    }
+
+    /**
+     * Sends {@code connections} concurrent HEAD requests to the address of this conduit, so that as many connections
+     * are open in the pool when the first invocations are made. They are closed once idle for the idle timeout.
+     *
+     * @return completed once every request got a response, whatever its status
+     */
+    public CompletableFuture<Void> warmUp(int connections, long timeout) {
+        RequestOptions requestOptions = requestOptions(URI.create(getAddress()));
+        CompletableFuture<?>[] responses = new CompletableFuture<?>[connections];
+        for (int i = 0; i < connections; i++) {
+            CompletableFuture<Void> response = new CompletableFuture<>();
+            HttpClientRequest request = request(HttpMethod.HEAD, requestOptions, resp -> {
+                resp.exceptionHandler(t -> {
+                });
+                response.complete(null);
+            });
+            request.exceptionHandler(response::completeExceptionally);
+            request.setTimeout(timeout);
+            request.end();
+            responses[i] = response;
+        }
+        return CompletableFuture.allOf(responses);
+    }
+
+    private static RequestOptions requestOptions(URI url) {
+        boolean ssl = "https".equalsIgnoreCase(url.getScheme());
+        int port = url.getPort() != -1 ? url.getPort() : ssl ? 443 : 80;
+        String uri = url.getRawPath() == null || url.getRawPath().isEmpty() ? "/" : url.getRawPath();
+        if (url.getRawQuery() != null) {
+            uri += "?" + url.getRawQuery();
+        }
+        return new RequestOptions()
+                .setHost(url.getHost())
+                .setPort(port)
+                .setSsl(ssl)
+                .setURI(uri);
+    }
+
+    class VertxWrappedOutputStream extends WrappedOutputStream {
+        private final Object lock = new Object();
+        private HttpClientRequest request;
+        private CompletableFuture<HttpClientResponse> response;
+        private volatile VertxServletInputStream body;
+        private volatile Throwable failure;
+        private CountDownLatch drainLatch;
+        private long fixedLength = -1;
+
+        VertxWrappedOutputStream(Message message, boolean possibleRetransmit, boolean isChunking, int chunkThreshold,
+                String conduitName, URI url) {
+            super(message, possibleRetransmit, isChunking, chunkThreshold, conduitName, url);
+        }
+
+        /**
+         * Creates the request of the current attempt. Nothing is sent until its body is written or it is ended.
+         */
+        private void createRequest() {
+            String method = getMethod();
+            HttpMethod httpMethod;
+            try {
+                httpMethod = HttpMethod.valueOf(method);
+            } catch (IllegalArgumentException e) {
+                httpMethod = HttpMethod.OTHER;
+            }
+            RequestOptions requestOptions = requestOptions(url);
+
+            CompletableFuture<HttpClientResponse> future = new CompletableFuture<>();
+            long receiveTimeout = determineReceiveTimeout(outMessage, getClient(outMessage));
+            HttpClientRequest clientRequest = request(httpMethod, requestOptions, resp -> {
+                // the body is subscribed to on the event loop, before any of it is delivered
+                body = new VertxServletInputStream(resp, receiveTimeout > 0 ? receiveTimeout : Long.MAX_VALUE);
+                future.complete(resp);
+            });
+            if (httpMethod == HttpMethod.OTHER) {
+                clientRequest.setRawMethod(method);
+            }
+            clientRequest.exceptionHandler(t -> {
+                CountDownLatch latch;
+                synchronized (lock) {
+                    if (failure == null) {
+                        failure = t;
+                    }
+                    latch = drainLatch;
+                    drainLatch = null;
+                }
+                if (latch != null) {
+                    latch.countDown();
+                }
+                future.completeExceptionally(t);
+            });
+            clientRequest.drainHandler(v -> {
+                CountDownLatch latch;
+                synchronized (lock) {
+                    latch = drainLatch;
+                    drainLatch = null;
+                }
+                if (latch != null) {
+                    latch.countDown();
+                }
+            });
+            if (receiveTimeout > 0) {
+                clientRequest.setTimeout(receiveTimeout);
+            }
+            synchronized (lock) {
+                request = clientRequest;
+                response = future;
+                failure = null;
+            }
+        }
+
+        @Override
+        protected void setProtocolHeaders() throws IOException {
+            createRequest();
+            Headers h = new Headers(outMessage);
+            request.putHeader(HttpHeaderHelper.CONTENT_TYPE, h.determineContentType());
+            boolean addHeaders = MessageUtils.getContextualBoolean(outMessage, Headers.ADD_HEADERS_PROPERTY, false);
+            for (Map.Entry<String, List<String>> header : h.headerMap().entrySet()) {
+                String name = header.getKey();
+                if (HttpHeaderHelper.CONTENT_TYPE.equalsIgnoreCase(name)
+                        || HttpHeaderHelper.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                    continue;
+                }
+                if (addHeaders || HttpHeaderHelper.COOKIE.equalsIgnoreCase(name)) {
+                    request.putHeader(name, header.getValue());
+                } else {
+                    request.putHeader(name, String.join(",", header.getValue()));
+                }
+            }
+            if (!request.headers().contains("User-Agent")) {
+                request.putHeader("User-Agent", Headers.getUserAgent());
+            }
+        }
+
+        @Override
+        protected void setFixedLengthStreamingMode(int i) {
+            fixedLength = i;
+        }
+
+        @Override
+        public void thresholdReached() {
+            fixedLength = -1;
+        }
+
+        @Override
+        protected void setupWrappedStream() throws IOException {
+            OutputStream out = openRequestBody();
+            if (cachingForRetransmission) {
+                cachedStream = new CacheAndWriteOutputStream(out);
+                wrappedStream = cachedStream;
+            } else {
+                wrappedStream = out;
+            }
+        }
+
+        private OutputStream openRequestBody() {
+            if (fixedLength >= 0) {
+                request.putHeader(HttpHeaderHelper.CONTENT_LENGTH, String.valueOf(fixedLength));
+                return new RequestBodyStream(false);
+            }
+            if (chunking) {
+                request.setChunked(true);
+                return new RequestBodyStream(false);
+            }
+            // the length is only known once the whole body is written
+            return new RequestBodyStream(true);
+        }
+
+        @Override
+        protected void handleNoOutput() throws IOException {
+            request.end();
+        }
+
+        @Override
+        protected HttpsURLConnectionInfo getHttpsURLConnectionInfo() throws IOException {
+            throw new IOException("Conduit " + conduitName + " does not support MessageTrustDecider, the peer "
+                    + "certificates are not known before the request is sent");
+        }
+
+        /**
+         * Waits for the head of the response. Synchronous invocations block here, asynchronous ones only get here once
+         * the response has arrived.
+         */
+        private HttpClientResponse awaitResponse() throws IOException {
+            CompletableFuture<HttpClientResponse> future;
+            synchronized (lock) {
+                future = response;
+            }
+            if (!future.isDone() && Context.isOnEventLoopThread()) {
+                throw new IOException("Attempting a blocking wait for a response on io thread");
+            }
+            try {
+                return future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException();
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof IOException) {
+                    throw (IOException) cause;
+                }
+                if (cause instanceof TimeoutException) {
+                    SocketTimeoutException timeout = new SocketTimeoutException(cause.getMessage());
+                    timeout.initCause(cause);
+                    throw timeout;
+                }
+                throw new IOException(cause);
+            }
+        }
+
+        @Override
+        protected int getResponseCode() throws IOException {
+            return awaitResponse().statusCode();
+        }
+
+        @Override
+        protected String getResponseMessage() throws IOException {
+            return awaitResponse().statusMessage();
+        }
+
+        @Override
+        protected void updateResponseHeaders(Message inMessage) throws IOException {
+            Headers h = new Headers(inMessage);
+            readHeaders(h);
+            inMessage.put(Message.CONTENT_TYPE, awaitResponse().getHeader(HttpHeaderHelper.CONTENT_TYPE));
+            cookies.readFromHeaders(h);
+        }
+
+        private void readHeaders(Headers h) throws IOException {
+            HttpClientResponse resp = awaitResponse();
+            Map<String, List<String>> headers = h.headerMap();
+            headers.clear();
+            for (String name : resp.headers().names()) {
+                headers.put(HttpHeaderHelper.getHeaderKey(name), new ArrayList<>(resp.headers().getAll(name)));
+            }
+        }
+
+        @Override
+        protected void handleResponseAsync() throws IOException {
+            CompletableFuture<HttpClientResponse> future;
+            synchronized (lock) {
+                future = response;
+            }
+            future.whenComplete((resp, t) -> {
+                try {
+                    handleResponseOnWorkqueue(false, true);
+                } catch (Throwable e) {
+                    failAsync(e);
+                }
+            });
+        }
+
+        private void failAsync(Throwable e) {
+            InterceptorChain chain = outMessage.getInterceptorChain();
+            ((PhaseInterceptorChain) chain).abort();
+            outMessage.setContent(Exception.class, e);
+            ((PhaseInterceptorChain) chain).unwind(outMessage);
+            MessageObserver mo = chain.getFaultObserver();
+            if (mo == null) {
+                mo = outMessage.getExchange().get(MessageObserver.class);
+            }
+            mo.onMessage(outMessage);
+        }
+
+        @Override
+        protected void closeInputStream() throws IOException {
+            // the rest of the body is discarded as it arrives so that the connection can be reused
+            VertxServletInputStream in = body;
+            if (in != null) {
+                in.close();
+            }
+        }
+
+        @Override
+        protected boolean usingProxy() {
+            return false;
+        }
+
+        @Override
+        protected InputStream getInputStream() throws IOException {
+            awaitResponse();
+            return body;
+        }
+
+        @Override
+        protected InputStream getPartialResponse() throws IOException {
+            HttpClientResponse resp = awaitResponse();
+            int code = resp.statusCode();
+            if (code != 200 && code != 202) {
+                return null;
+            }
+            String length = resp.getHeader(HttpHeaderHelper.CONTENT_LENGTH);
+            if (length != null) {
+                return Long.parseLong(length.trim()) > 0 ? body : null;
+            }
+            // a chunked or EOF-terminated body may still be empty
+            PushbackInputStream in = new PushbackInputStream(body);
+            int b = in.read();
+            if (b == -1) {
+                return null;
+            }
+            in.unread(b);
+            return in;
+        }
+
+        @Override
+        protected void setupNewConnection(String newURL) throws IOException {
+            closeInputStream();
+            HTTPClientPolicy cp = getClient(outMessage);
+            Address address;
+            try {
+                if (defaultAddress.getString().equals(newURL)) {
+                    address = defaultAddress;
+                } else {
+                    address = new Address(newURL);
+                }
+            } catch (URISyntaxException e) {
+                throw new IOException(e);
+            }
+            setupConnection(outMessage, address, cp);
+            this.url = address.getURI();
+        }
+
+        @Override
+        protected void retransmitStream() throws IOException {
+            try (OutputStream out = openRequestBody()) {
+                cachedStream.writeCacheTo(out);
+            }
+        }
+
+        @Override
+        protected void updateCookiesBeforeRetransmit() throws IOException {
+            Headers h = new Headers();
+            readHeaders(h);
+            cookies.readFromHeaders(h);
+        }
+
+        /**
+         * Writes the request body to the {@link HttpClientRequest}. Threads other than the event loop, which must not
+         * block, wait for the write queue of the connection to drain once it is full.
+         */
+        class RequestBodyStream extends OutputStream {
+            private final Buffer pending;
+            private boolean closed;
+
+            /**
+             * @param buffered whether to send the body in one piece with a Content-Length once it is closed
+             */
+            RequestBodyStream(boolean buffered) {
+                pending = buffered ? Buffer.buffer() : null;
+            }
+
+            @Override
+            public void write(int b) throws IOException {
+                write(new byte[] { (byte) b }, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                if (closed) {
+                    throw new IOException("Stream is closed");
+                }
+                if (len == 0) {
+                    return;
+                }
+                if (pending != null) {
+                    pending.appendBytes(b, off, len);
+                    return;
+                }
+                awaitWriteable();
+                request.write(Buffer.buffer(len).appendBytes(b, off, len));
+            }
+
+            @Override
+            public void close() throws IOException {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                checkFailure();
+                if (pending != null) {
+                    request.putHeader(HttpHeaderHelper.CONTENT_LENGTH, String.valueOf(pending.length()));
+                    request.end(pending);
+                } else {
+                    request.end();
+                }
+            }
+
+            private void awaitWriteable() throws IOException {
+                checkFailure();
+                if (Context.isOnEventLoopThread()) {
+                    return;
+                }
+                // the queue is checked without holding the lock, which the drain handler takes while the
+                // connection is locked
+                while (request.writeQueueFull()) {
+                    CountDownLatch latch = new CountDownLatch(1);
+                    synchronized (lock) {
+                        drainLatch = latch;
+                    }
+                    // the drain may have happened before the latch was published
+                    if (!request.writeQueueFull()) {
+                        break;
+                    }
+                    try {
+                        latch.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new InterruptedIOException();
+                    }
+                    checkFailure();
+                }
+            }
+
+            private void checkFailure() throws IOException {
+                Throwable t = failure;
+                if (t != null) {
+                    throw t instanceof IOException ? (IOException) t : new IOException(t);
+                }
+            }
+        }
+    }
+
+    /**
+     * Key managers of the TLS client parameters, as Vert.x options.
+     */
+    private static final class KeyManagersOptions implements KeyCertOptions {
+        private final KeyManager[] keyManagers;
+
+        KeyManagersOptions(KeyManager[] keyManagers) {
+            this.keyManagers = keyManagers;
+        }
+
+        @Override
+        public KeyCertOptions copy() {
+            return this;
+        }
+
+        @Override
+        @Deprecated
+        public KeyCertOptions clone() {
+            return this;
+        }
+
+        @Override
+        public KeyManagerFactory getKeyManagerFactory(Vertx vertx) {
+            return new KeyManagerFactory(new KeyManagerFactorySpi() {
+                @Override
+                protected void engineInit(KeyStore ks, char[] password) {
+                }
+
+                @Override
+                protected void engineInit(ManagerFactoryParameters spec) {
+                }
+
+                @Override
+                protected KeyManager[] engineGetKeyManagers() {
+                    return keyManagers;
+                }
+            }, null, "CXF") {
+            };
+        }
+
+        @Override
+        public Function<String, X509KeyManager> keyManagerMapper(Vertx vertx) {
+            // only servers select their key by server name
+            return serverName -> null;
+        }
+    }
+
+    /**
+     * Trust managers of the TLS client parameters, as Vert.x options.
+     */
+    private static final class TrustManagersOptions implements TrustOptions {
+        private final TrustManager[] trustManagers;
+
+        TrustManagersOptions(TrustManager[] trustManagers) {
+            this.trustManagers = trustManagers;
+        }
+
+        @Override
+        public TrustOptions copy() {
+            return this;
+        }
+
+        @Override
+        @Deprecated
+        public TrustOptions clone() {
+            return this;
+        }
+
+        @Override
+        public TrustManagerFactory getTrustManagerFactory(Vertx vertx) {
+            return new TrustManagerFactory(new TrustManagerFactorySpi() {
+                @Override
+                protected void engineInit(KeyStore ks) {
+                }
+
+                @Override
+                protected void engineInit(ManagerFactoryParameters spec) {
+                }
+
+                @Override
+                protected TrustManager[] engineGetTrustManagers() {
+                    return trustManagers;
+                }
+            }, null, "CXF") {
+            };
+        }
+
+        @Override
+        public Function<String, TrustManager[]> trustManagerMapper(Vertx vertx) {
+            return serverName -> trustManagers;
+        }
+    }
+}
@@ -6,20 +6,19 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.UnsupportedEncodingException;
-import java.net.MalformedURLException;
-import java.net.URL;
+import java.net.URI;
+import java.net.URISyntaxException;
 import java.security.Principal;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.Enumeration;
+import java.util.Iterator;
 import java.util.Locale;
 import java.util.Map;
-import java.util.TreeMap;
+import java.util.NoSuchElementException;
 
 import javax.servlet.AsyncContext;
 import javax.servlet.DispatcherType;
-import javax.servlet.ReadListener;
 import javax.servlet.RequestDispatcher;
 import javax.servlet.ServletContext;
 import javax.servlet.ServletException;
@@ -38,8 +37,8 @@ import org.jboss.logging.Logger;
 
 import io.quarkus.security.identity.CurrentIdentityAssociation;
 import io.quarkus.security.identity.SecurityIdentity;
-import io.quarkus.vertx.http.runtime.VertxInputStream;
 import io.quarkus.vertx.http.runtime.security.QuarkusHttpUser;
+import io.vertx.core.MultiMap;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.ext.web.RoutingContext;
@@ -47,21 +46,27 @@ import io.vertx.ext.web.RoutingContext;
 public class VertxHttpServletRequest implements HttpServletRequest {
     private static final Logger LOG = Logger.getLogger(VertxHttpServletRequest.class);
     protected final RoutingContext context;
-    private final VertxInputStream in;
+    private final VertxServletInputStream in;
     private final HttpServerRequest request;
     protected final HttpServerResponse response;
     private final String contextPath;
     private final String servletPath;
-    private final Map<String, Object> attributes;
+    private final AttributeMap attributes = new AttributeMap();
+    private URI absoluteURI;
 
     public VertxHttpServletRequest(RoutingContext context, String contextPath, String servletPath) throws IOException {
+        this(context, contextPath, servletPath, new VertxServletInputStream(context.request(), null, 10000, -1));
+    }
+
+    public VertxHttpServletRequest(RoutingContext context, String contextPath, String servletPath,
+            VertxServletInputStream in)
+            throws IOException {
         this.request = context.request();
         this.response = context.response();
         this.contextPath = contextPath;
         this.servletPath = servletPath;
-        this.attributes = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
         this.context = context;
-        in = new VertxInputStream(context, 10000);
+        this.in = in;
     }
 
     @Override
@@ -82,7 +87,7 @@ public class VertxHttpServletRequest implements HttpServletRequest {
 
     @Override
     public Enumeration<String> getAttributeNames() {
-        return Collections.enumeration(attributes.keySet());
+        return attributes.names();
     }
 
     @Override
@@ -104,66 +109,26 @@ public class VertxHttpServletRequest implements HttpServletRequest {
 
     @Override
     public ServletInputStream getInputStream() throws IOException {
-        return new ServletInputStream() {
-            @Override
-            public int read() throws IOException {
-                return (int) request.bytesRead();
-            }
-
-            @Override
-            public int read(byte[] b, int off, int len) throws IOException {
-                return in.read(b, off, len);
-            }
-
-            @Override
-            public boolean isFinished() {
-                throw new UnsupportedOperationException();
-            }
-
-            @Override
-            public boolean isReady() {
-                throw new UnsupportedOperationException();
-            }
-
-            @Override
-            public void setReadListener(ReadListener arg0) {
-                throw new UnsupportedOperationException();
-            }
-        };
-
+        return in;
     }
 
     @Override
     public String getLocalAddr() {
         LOG.trace("getLocalAddr()");
-        try {
-            return new URL(getRequestURI()).getHost();
-        } catch (MalformedURLException e) {
-            LOG.trace("getLocalAddr error", e);
-            return null;
-        }
+        return request.localAddress().host();
     }
 
     @Override
     public String getLocalName() {
         LOG.trace("getLocalName()");
-        try {
-            return new URL(request.absoluteURI()).getHost();
-        } catch (MalformedURLException e) {
-            LOG.trace("getLocalName error", e);
-            return null;
-        }
+        URI uri = getAbsoluteURI();
+        return uri == null ? null : uri.getHost();
     }
 
     @Override
     public int getLocalPort() {
         LOG.trace("getLocalPort()");
-        try {
-            return new URL(request.absoluteURI()).getPort();
-        } catch (MalformedURLException e) {
-            LOG.trace("getLocalPort error", e);
-            return 0;
-        }
+        return request.localAddress().port();
     }
 
     @Override
@@ -209,12 +174,7 @@ public class VertxHttpServletRequest implements HttpServletRequest {
     @Override
     public String getProtocol() {
         LOG.trace("getProtocol");
-        try {
-            return new URL(request.absoluteURI()).getProtocol();
-        } catch (MalformedURLException e) {
-            LOG.trace("getProtocol error", e);
-            return null;
-        }
+        return request.scheme();
     }
 
     @Override
@@ -268,7 +228,29 @@ public class VertxHttpServletRequest implements HttpServletRequest {
     @Override
     public int getServerPort() {
         LOG.trace("getServerPort");
-        return getLocalPort();
+        URI uri = getAbsoluteURI();
+        if (uri == null) {
+            return 0;
+        }
+        if (uri.getPort() != -1) {
+            return uri.getPort();
+        }
+        return request.isSSL() ? 443 : 80;
+    }
+
+    /**
+     * @return the absolute URI of the request, parsed once, {@code null} if it is not valid
+     */
+    private URI getAbsoluteURI() {
+        if (absoluteURI == null) {
+            try {
+                absoluteURI = new URI(request.absoluteURI());
+            } catch (URISyntaxException e) {
+                LOG.trace("getAbsoluteURI error", e);
+                return null;
+            }
+        }
+        return absoluteURI;
     }
 
     @Override
@@ -337,7 +319,8 @@ public class VertxHttpServletRequest implements HttpServletRequest {
         if (authorizationValue == null) {
             return null;
         } else {
-            return authorizationValue.split(" ")[0].trim();
+            int end = authorizationValue.indexOf(' ');
+            return end == -1 ? authorizationValue.trim() : authorizationValue.substring(0, end).trim();
         }
     }
 
@@ -367,16 +350,13 @@ public class VertxHttpServletRequest implements HttpServletRequest {
     @Override
     public Enumeration<String> getHeaderNames() {
         LOG.trace("getHeaderNames");
-        return Collections.enumeration(request.headers().names());
+        return new HeaderNames(request.headers());
     }
 
     @Override
     public Enumeration<String> getHeaders(String name) {
         LOG.trace("getHeaders");
-        if (request.headers().contains(name)) {
-            return Collections.enumeration(request.headers().getAll(name));
-        }
-        return Collections.enumeration(Arrays.asList());
+        return new HeaderValues(request.headers(), name);
     }
 
     @Override
@@ -536,4 +516,97 @@ public class VertxHttpServletRequest implements HttpServletRequest {
     public <T extends HttpUpgradeHandler> T upgrade(Class<T> arg0) throws IOException, ServletException {
         throw new UnsupportedOperationException();
     }
+
+    /**
+     * The distinct header names, read from the headers of the request as the enumeration advances.
+     */
+    private static final class HeaderNames implements Enumeration<String> {
+        private final Iterator<Map.Entry<String, String>> entries;
+        private String[] returned = new String[16];
+        private int count;
+        private String next;
+
+        HeaderNames(MultiMap headers) {
+            this.entries = headers.iterator();
+            advance();
+        }
+
+        private void advance() {
+            next = null;
+            while (next == null && entries.hasNext()) {
+                String name = entries.next().getKey();
+                if (!isReturned(name)) {
+                    next = name;
+                }
+            }
+        }
+
+        private boolean isReturned(String name) {
+            for (int i = 0; i < count; i++) {
+                if (returned[i].equalsIgnoreCase(name)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public boolean hasMoreElements() {
+            return next != null;
+        }
+
+        @Override
+        public String nextElement() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            String name = next;
+            if (count == returned.length) {
+                returned = Arrays.copyOf(returned, 2 * count);
+            }
+            returned[count++] = name;
+            advance();
+            return name;
+        }
+    }
+
+    /**
+     * The values of one header, read from the headers of the request as the enumeration advances.
+     */
+    private static final class HeaderValues implements Enumeration<String> {
+        private final Iterator<Map.Entry<String, String>> entries;
+        private final String name;
+        private String next;
+
+        HeaderValues(MultiMap headers, String name) {
+            this.entries = headers.iterator();
+            this.name = name;
+            advance();
+        }
+
+        private void advance() {
+            next = null;
+            while (next == null && entries.hasNext()) {
+                Map.Entry<String, String> entry = entries.next();
+                if (entry.getKey().equalsIgnoreCase(name)) {
+                    next = entry.getValue();
+                }
+            }
+        }
+
+        @Override
+        public boolean hasMoreElements() {
+            return next != null;
+        }
+
+        @Override
+        public String nextElement() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            String value = next;
+            advance();
+            return value;
+        }
+    }
 }
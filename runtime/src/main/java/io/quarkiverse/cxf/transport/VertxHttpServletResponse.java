@@ -181,12 +181,12 @@ public class VertxHttpServletResponse implements HttpServletResponse {
 
     @Override
     public void setBufferSize(int size) {
-        throw new UnsupportedOperationException();
+        os.setBufferSize(size);
     }
 
     @Override
     public int getBufferSize() {
-        throw new UnsupportedOperationException();
+        return os.getBufferSize();
     }
 
     @Override
@@ -206,12 +206,12 @@ public class VertxHttpServletResponse implements HttpServletResponse {
             } catch (IOException e) {
             }
         }
-        os = new VertxServletOutputStream(request, response);
+        os = new VertxServletOutputStream(request, response, os.getBufferSize());
     }
 
     @Override
     public boolean isCommitted() {
-        return false;
+        return os.isCommitted();
     }
 
     @Override
@@ -0,0 +1,351 @@
+package io.quarkiverse.cxf.transport;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.servlet.ReadListener;
+import javax.servlet.ServletInputStream;
+
+import io.netty.buffer.ByteBuf;
+import io.vertx.core.Context;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.streams.ReadStream;
+
+/**
+ * Body stream of a server request or of a {@link VertxHttpConduit} response, reading straight from the buffers Vert.x
+ * delivers. Chunks are queued as they arrive and copied once, into the array passed to
+ * {@link #read(byte[], int, int)}. The stream is paused while more than {@link #HIGH_WATER_MARK} bytes are queued so
+ * that a slow reader does not pull the whole body into memory.
+ */
+public class VertxServletInputStream extends ServletInputStream {
+
+    static final int HIGH_WATER_MARK = 64 * 1024;
+    private static final int LOW_WATER_MARK = HIGH_WATER_MARK / 4;
+
+    private final ReadStream<Buffer> stream;
+    private final long timeout;
+    private final long maxBodySize;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition dataAvailable = lock.newCondition();
+    private final Deque<ByteBuf> chunks = new ArrayDeque<>();
+    private int queuedBytes;
+    private long receivedBytes;
+    private boolean ended;
+    private boolean paused;
+    private boolean closed;
+    private IOException failure;
+    private ReadListener readListener;
+    private boolean listenerWaiting;
+
+    /**
+     * @param request the request to read the body of
+     * @param body the request body when it was already read on the event loop, {@code null} to read it from the
+     *        request on demand
+     * @param timeout how long a read waits for data, in milliseconds
+     * @param maxBodySize the largest body accepted, in bytes, or a negative value for no limit
+     */
+    public VertxServletInputStream(HttpServerRequest request, Buffer body, long timeout, long maxBodySize) {
+        this.stream = request;
+        this.timeout = timeout;
+        this.maxBodySize = maxBodySize;
+        if (body != null) {
+            if (body.length() > 0) {
+                chunks.add(body.getByteBuf());
+                queuedBytes = body.length();
+                receivedBytes = queuedBytes;
+            }
+            ended = true;
+        } else if (request.isEnded()) {
+            ended = true;
+        } else {
+            // an explicit pause stops Quarkus from resuming the request as soon as the first handler is set, which
+            // could let the body end before the end handler is registered
+            request.pause();
+            request.handler(this::handleChunk);
+            request.endHandler(v -> handleEnd());
+            request.exceptionHandler(this::handleFailure);
+            request.resume();
+        }
+    }
+
+    /**
+     * @param stream the body of a response
+     * @param timeout how long a read waits for data, in milliseconds
+     */
+    public VertxServletInputStream(ReadStream<Buffer> stream, long timeout) {
+        this.stream = stream;
+        this.timeout = timeout;
+        this.maxBodySize = -1;
+        stream.handler(this::handleChunk);
+        stream.endHandler(v -> handleEnd());
+        stream.exceptionHandler(this::handleFailure);
+    }
+
+    private void handleChunk(Buffer buffer) {
+        ReadListener listener = null;
+        lock.lock();
+        try {
+            if (closed || failure != null) {
+                return;
+            }
+            receivedBytes += buffer.length();
+            if (maxBodySize >= 0 && receivedBytes > maxBodySize) {
+                failure = new IOException("Request body exceeds the maximum size of " + maxBodySize + " bytes");
+                // the rest of the body is discarded as it arrives
+                chunks.clear();
+                queuedBytes = 0;
+                if (paused) {
+                    paused = false;
+                    stream.resume();
+                }
+                dataAvailable.signalAll();
+                listener = takeWaitingListener();
+            } else {
+                chunks.add(buffer.getByteBuf());
+                queuedBytes += buffer.length();
+                if (queuedBytes > HIGH_WATER_MARK && !paused) {
+                    stream.pause();
+                    paused = true;
+                }
+                dataAvailable.signalAll();
+                listener = takeWaitingListener();
+            }
+        } finally {
+            lock.unlock();
+        }
+        notifyListener(listener);
+    }
+
+    private void handleEnd() {
+        ReadListener listener = null;
+        lock.lock();
+        try {
+            ended = true;
+            dataAvailable.signalAll();
+            if (chunks.isEmpty()) {
+                listener = takeWaitingListener();
+            }
+        } finally {
+            lock.unlock();
+        }
+        notifyListener(listener);
+    }
+
+    private void handleFailure(Throwable t) {
+        ReadListener listener;
+        lock.lock();
+        try {
+            if (failure == null) {
+                failure = t instanceof IOException ? (IOException) t : new IOException(t);
+            }
+            dataAvailable.signalAll();
+            listener = takeWaitingListener();
+        } finally {
+            lock.unlock();
+        }
+        notifyListener(listener);
+    }
+
+    private ReadListener takeWaitingListener() {
+        if (!listenerWaiting) {
+            return null;
+        }
+        listenerWaiting = false;
+        return readListener;
+    }
+
+    private void notifyListener(ReadListener listener) {
+        if (listener == null) {
+            return;
+        }
+        IOException error;
+        boolean allRead;
+        lock.lock();
+        try {
+            error = failure;
+            allRead = ended && chunks.isEmpty();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            if (error != null) {
+                listener.onError(error);
+            } else if (allRead) {
+                listener.onAllDataRead();
+            } else {
+                listener.onDataAvailable();
+            }
+        } catch (Throwable t) {
+            listener.onError(t);
+        }
+    }
+
+    @Override
+    public int read() throws IOException {
+        lock.lock();
+        try {
+            ByteBuf chunk = awaitChunk();
+            if (chunk == null) {
+                return -1;
+            }
+            int b = chunk.readByte() & 0xFF;
+            consumed(chunk, 1);
+            return b;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        lock.lock();
+        try {
+            ByteBuf chunk = awaitChunk();
+            if (chunk == null) {
+                return -1;
+            }
+            int read = 0;
+            while (chunk != null && read < len) {
+                int n = Math.min(len - read, chunk.readableBytes());
+                chunk.readBytes(b, off + read, n);
+                read += n;
+                consumed(chunk, n);
+                chunk = chunks.peek();
+            }
+            return read;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int available() throws IOException {
+        lock.lock();
+        try {
+            if (failure != null) {
+                throw failure;
+            }
+            return queuedBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ByteBuf awaitChunk() throws IOException {
+        long remaining = TimeUnit.MILLISECONDS.toNanos(timeout);
+        while (true) {
+            if (failure != null) {
+                throw failure;
+            }
+            if (closed) {
+                throw new IOException("Stream is closed");
+            }
+            ByteBuf chunk = chunks.peek();
+            if (chunk != null) {
+                return chunk;
+            }
+            if (ended) {
+                return null;
+            }
+            if (Context.isOnEventLoopThread()) {
+                throw new IOException("Attempting a blocking read on io thread");
+            }
+            if (remaining <= 0) {
+                throw new IOException("Timed out after " + timeout + "ms waiting for the body");
+            }
+            try {
+                remaining = dataAvailable.awaitNanos(remaining);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException();
+            }
+        }
+    }
+
+    private void consumed(ByteBuf chunk, int n) {
+        queuedBytes -= n;
+        if (!chunk.isReadable()) {
+            chunks.poll();
+        }
+        if (paused && queuedBytes < LOW_WATER_MARK && failure == null && !closed) {
+            paused = false;
+            stream.resume();
+        }
+    }
+
+    @Override
+    public boolean isFinished() {
+        lock.lock();
+        try {
+            return ended && chunks.isEmpty();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isReady() {
+        lock.lock();
+        try {
+            boolean ready = !chunks.isEmpty() || ended || failure != null;
+            if (!ready && readListener != null) {
+                listenerWaiting = true;
+            }
+            return ready;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void setReadListener(ReadListener readListener) {
+        if (readListener == null) {
+            throw new NullPointerException("readListener");
+        }
+        boolean ready;
+        lock.lock();
+        try {
+            if (this.readListener != null) {
+                throw new IllegalStateException("A ReadListener is already set");
+            }
+            this.readListener = readListener;
+            ready = !chunks.isEmpty() || ended || failure != null;
+            listenerWaiting = !ready;
+        } finally {
+            lock.unlock();
+        }
+        if (ready) {
+            notifyListener(readListener);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            chunks.clear();
+            queuedBytes = 0;
+            dataAvailable.signalAll();
+            if (paused && !ended) {
+                // let the rest of the body drain so that the connection can be reused
+                paused = false;
+                stream.resume();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+}
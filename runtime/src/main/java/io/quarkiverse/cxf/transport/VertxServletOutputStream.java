@@ -1,13 +1,14 @@
 package io.quarkiverse.cxf.transport;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InterruptedIOException;
+import java.util.concurrent.CountDownLatch;
 
 import javax.servlet.ServletOutputStream;
 import javax.servlet.WriteListener;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.PooledByteBufAllocator;
 import io.undertow.httpcore.HttpHeaderNames;
 import io.undertow.vertx.VertxBufferImpl;
@@ -20,18 +21,30 @@ import io.vertx.core.http.HttpServerResponse;
 
 public class VertxServletOutputStream extends ServletOutputStream {
 
+    /**
+     * The most response data kept aside while the write queue of the connection is full. Only writers on the event
+     * loop, which must not block, ever get there; other threads wait for the queue to drain.
+     */
+    static final int MAX_OVERFLOW = 4 * 1024 * 1024;
+
+    /**
+     * Responses up to this size are sent in one write with a Content-Length, larger ones in chunks of this size.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 32 * 1024;
+
     private final HttpServerRequest request;
     protected HttpServerResponse response;
     private ByteBuf pooledBuffer;
     private long written;
     private boolean committed;
-    protected boolean waitingForDrain;
+    protected CountDownLatch drainLatch;
     protected boolean drainHandlerRegistered;
     private boolean closed;
     private boolean finished;
     protected boolean first = true;
     protected Throwable throwable;
-    private ByteArrayOutputStream overflow;
+    private CompositeByteBuf overflow;
+    private int bufferSize;
 
     /**
      * Construct a new instance.No write timeout is configured.
@@ -40,8 +53,39 @@ public class VertxServletOutputStream extends ServletOutputStream {
      * @param response
      */
     public VertxServletOutputStream(HttpServerRequest request, HttpServerResponse response) {
+        this(request, response, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * @param request
+     * @param response
+     * @param bufferSize the size of the response buffer in bytes
+     */
+    public VertxServletOutputStream(HttpServerRequest request, HttpServerResponse response, int bufferSize) {
         this.response = response;
         this.request = request;
+        this.bufferSize = bufferSize;
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * @throws IllegalStateException if content has already been written
+     */
+    public void setBufferSize(int bufferSize) {
+        if (committed || written > 0) {
+            throw new IllegalStateException("Content has already been written");
+        }
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Buffer size must be positive: " + bufferSize);
+        }
+        this.bufferSize = bufferSize;
+    }
+
+    public boolean isCommitted() {
+        return committed;
     }
 
     /**
@@ -77,7 +121,7 @@ public class VertxServletOutputStream extends ServletOutputStream {
         ByteBuf buffer = pooledBuffer;
         try {
             if (buffer == null) {
-                pooledBuffer = buffer = PooledByteBufAllocator.DEFAULT.directBuffer();
+                pooledBuffer = buffer = allocateBuffer();
             }
             while (rem > 0) {
                 int toWrite = Math.min(rem, buffer.writableBytes());
@@ -86,7 +130,7 @@ public class VertxServletOutputStream extends ServletOutputStream {
                 idx += toWrite;
                 if (!buffer.isWritable()) {
                     ByteBuf tmpBuf = buffer;
-                    this.pooledBuffer = buffer = PooledByteBufAllocator.DEFAULT.directBuffer();
+                    this.pooledBuffer = buffer = allocateBuffer();
                     writeBlocking(tmpBuf, false);
                 }
             }
@@ -94,11 +138,17 @@ public class VertxServletOutputStream extends ServletOutputStream {
             if (buffer != null && buffer.refCnt() > 0) {
                 buffer.release();
             }
+            // not to be written or released again on close
+            pooledBuffer = null;
             throw new IOException(e);
         }
         updateWritten(len);
     }
 
+    private ByteBuf allocateBuffer() {
+        return PooledByteBufAllocator.DEFAULT.directBuffer(bufferSize, bufferSize);
+    }
+
     public void writeBlocking(ByteBuf buffer, boolean finished) throws IOException {
         prepareWrite(buffer, finished);
         write(buffer, finished);
@@ -123,25 +173,39 @@ public class VertxServletOutputStream extends ServletOutputStream {
     }
 
     public void write(ByteBuf data, boolean last) throws IOException {
-        if (last && data == null) {
-            request.response().end();
-            return;
-        }
-        //do all this in the same lock
-        synchronized (request.connection()) {
-            try {
-                boolean bufferRequired = awaitWriteable() || (overflow != null && overflow.size() > 0);
+        try {
+            boolean onEventLoop = Context.isOnEventLoopThread();
+            if (!onEventLoop) {
+                awaitWriteable();
+            }
+            //do all this in the same lock
+            synchronized (request.connection()) {
+                // ending the response takes no room in the write queue, it only has to come after the overflow
+                boolean bufferRequired = (data != null && onEventLoop && request.response().writeQueueFull())
+                        || (overflow != null && overflow.isReadable());
                 if (bufferRequired) {
                     //just buffer everything
                     registerDrainHandler();
-                    if (overflow == null) {
-                        overflow = new ByteArrayOutputStream();
+                    if (data != null) {
+                        if (overflow == null) {
+                            overflow = PooledByteBufAllocator.DEFAULT.compositeDirectBuffer(Integer.MAX_VALUE);
+                        }
+                        if (overflow.readableBytes() + data.readableBytes() > MAX_OVERFLOW) {
+                            throw new IOException("More than " + MAX_OVERFLOW
+                                    + " bytes of response data are waiting for a slow client");
+                        }
+                        ResponseWriteMetrics.overflow(data.readableBytes());
+                        // the composite takes over the buffer, nothing is copied
+                        overflow.addComponent(true, data);
+                        data = null;
                     }
-                    overflow.write(data.array(), data.arrayOffset() + data.readerIndex(),
-                            data.arrayOffset() + data.writerIndex());
                     if (last) {
                         closed = true;
                     }
+                } else if (data == null) {
+                    if (last) {
+                        request.response().end();
+                    }
                 } else {
                     if (last) {
                         request.response().end(createBuffer(data));
@@ -149,42 +213,48 @@ public class VertxServletOutputStream extends ServletOutputStream {
                         request.response().write(createBuffer(data));
                     }
                 }
-            } catch (IOException | RuntimeException e) {
-                if (data != null && data.refCnt() > 0) {
-                    data.release();
-                }
-                throw new IOException("Failed to write", e);
             }
+        } catch (IOException | RuntimeException e) {
+            if (data != null && data.refCnt() > 0) {
+                data.release();
+            }
+            throw new IOException("Failed to write", e);
         }
     }
 
-    private boolean awaitWriteable() throws IOException {
-        if (Context.isOnEventLoopThread()) {
-            return request.response().writeQueueFull();
-        }
+    /**
+     * Blocks until the write queue can take more data. The connection monitor is only held to check the queue and
+     * register for the drain event, never while parked, so that virtual threads do not pin their carrier thread.
+     */
+    private void awaitWriteable() throws IOException {
         if (first) {
             first = false;
-            return false;
+            return;
         }
-        assert Thread.holdsLock(request.connection());
-        while (request.response().writeQueueFull()) {
-            if (throwable != null) {
-                throw new IOException(throwable);
-            }
-            if (request.response().closed()) {
-                throw new IOException("Connection has been closed");
+        while (true) {
+            CountDownLatch latch;
+            synchronized (request.connection()) {
+                if (!request.response().writeQueueFull() && (overflow == null || !overflow.isReadable())) {
+                    return;
+                }
+                if (throwable != null) {
+                    throw new IOException(throwable);
+                }
+                if (request.response().closed()) {
+                    throw new IOException("Connection has been closed");
+                }
+                registerDrainHandler();
+                latch = drainLatch = new CountDownLatch(1);
             }
-            registerDrainHandler();
+            long start = System.nanoTime();
             try {
-                waitingForDrain = true;
-                request.connection().wait();
+                latch.await();
             } catch (InterruptedException e) {
                 throw new InterruptedIOException(e.getMessage());
             } finally {
-                waitingForDrain = false;
+                ResponseWriteMetrics.drainWait(System.nanoTime() - start);
             }
         }
-        return false;
     }
 
     private void registerDrainHandler() {
@@ -193,18 +263,25 @@ public class VertxServletOutputStream extends ServletOutputStream {
             Handler<Void> handler = event -> {
                 HttpConnection connection = request.connection();
                 synchronized (connection) {
-                    if (waitingForDrain) {
-                        connection.notifyAll();
+                    if (drainLatch != null) {
+                        drainLatch.countDown();
+                        drainLatch = null;
                     }
                     if (overflow != null) {
-                        if (overflow.size() > 0) {
-                            if (closed) {
-                                request.response().end(Buffer.buffer(overflow.toByteArray()));
-                            } else {
-                                request.response().write(Buffer.buffer(overflow.toByteArray()));
-                            }
-                            overflow.reset();
+                        ByteBuf pending = overflow;
+                        overflow = null;
+                        if (request.response().closed()) {
+                            pending.release();
+                        } else if (closed) {
+                            request.response().end(createBuffer(pending));
+                        } else if (pending.isReadable()) {
+                            request.response().write(createBuffer(pending));
+                        } else {
+                            pending.release();
                         }
+                    } else if (closed && !request.response().ended() && !request.response().closed()) {
+                        // the stream was closed while the queue was full and nothing was set aside
+                        request.response().end();
                     }
                 }
             };
@@ -235,10 +312,11 @@ public class VertxServletOutputStream extends ServletOutputStream {
                 pooledBuffer = null;
             }
         } catch (IOException | RuntimeException e) {
-            if (pooledBuffer != null) {
+            // already released if the write itself failed
+            if (pooledBuffer != null && pooledBuffer.refCnt() > 0) {
                 pooledBuffer.release();
-                pooledBuffer = null;
             }
+            pooledBuffer = null;
             throw new IOException(e);
         }
     }
@@ -0,0 +1,102 @@
+package io.quarkiverse.cxf;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.ws.WebServiceException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class CxfClientResilienceTest {
+
+    private static final int REQUEST_VOLUME = 4;
+    private static final long DELAY_MILLIS = 50;
+
+    @Test
+    public void whenManyInvocations_thenCircuitBreakerStillOpens() throws Exception {
+        CxfClientResilience resilience = newCircuitBreaker();
+        for (int i = 0; i < 10 * REQUEST_VOLUME + 1; i++) {
+            succeed(resilience);
+        }
+        Assertions.assertEquals(CxfClientResilience.State.CLOSED, resilience.getState());
+        open(resilience);
+    }
+
+    @Test
+    public void whenInvocationStartedBeforeOpeningEndsWhileHalfOpen_thenOnlyProbeCloses() throws Exception {
+        CxfClientResilience resilience = newCircuitBreaker();
+        CountDownLatch lateStarted = new CountDownLatch(1);
+        CountDownLatch lateEnd = new CountDownLatch(1);
+        CompletableFuture<Object[]> late = invokeAsync(resilience, lateStarted, lateEnd, false);
+        Assertions.assertTrue(lateStarted.await(10, TimeUnit.SECONDS));
+        open(resilience);
+        Thread.sleep(DELAY_MILLIS * 2);
+        Assertions.assertEquals(CxfClientResilience.State.HALF_OPEN, resilience.getState());
+
+        CountDownLatch probeStarted = new CountDownLatch(1);
+        CountDownLatch probeEnd = new CountDownLatch(1);
+        CompletableFuture<Object[]> probe = invokeAsync(resilience, probeStarted, probeEnd, true);
+        Assertions.assertTrue(probeStarted.await(10, TimeUnit.SECONDS));
+        // the invocation which started while closed succeeds, it must not close the circuit in place of the probe
+        lateEnd.countDown();
+        late.get(10, TimeUnit.SECONDS);
+        Assertions.assertThrows(WebServiceException.class, () -> succeed(resilience));
+
+        probeEnd.countDown();
+        ExecutionException e = Assertions.assertThrows(ExecutionException.class, () -> probe.get(10, TimeUnit.SECONDS));
+        Assertions.assertTrue(e.getCause() instanceof IOException);
+        Assertions.assertEquals(CxfClientResilience.State.OPEN, resilience.getState());
+    }
+
+    private static CxfClientResilience newCircuitBreaker() {
+        CXFClientInfo info = new CXFClientInfo();
+        info.setSei("io.quarkiverse.cxf.Test");
+        info.setCircuitBreaker(true);
+        info.setCircuitBreakerRequestVolume(REQUEST_VOLUME);
+        info.setCircuitBreakerFailureRatio(0.5);
+        info.setCircuitBreakerDelay(DELAY_MILLIS);
+        return new CxfClientResilience(info);
+    }
+
+    private static void succeed(CxfClientResilience resilience) throws Exception {
+        resilience.invoke(() -> new Object[0]);
+    }
+
+    private static void open(CxfClientResilience resilience) throws Exception {
+        for (int i = 0; i < REQUEST_VOLUME && resilience.getState() == CxfClientResilience.State.CLOSED; i++) {
+            Assertions.assertThrows(IOException.class, () -> resilience.invoke(() -> {
+                throw new IOException("failed");
+            }));
+        }
+        Assertions.assertEquals(CxfClientResilience.State.OPEN, resilience.getState());
+    }
+
+    /**
+     * Invokes on another thread an operation which counts {@code started} down once let through, then ends when
+     * {@code end} is counted down, failing if {@code fail}.
+     */
+    private static CompletableFuture<Object[]> invokeAsync(CxfClientResilience resilience, CountDownLatch started,
+            CountDownLatch end, boolean fail) {
+        CompletableFuture<Object[]> result = new CompletableFuture<>();
+        Thread thread = new Thread(() -> {
+            try {
+                result.complete(resilience.invoke(() -> {
+                    started.countDown();
+                    end.await();
+                    if (fail) {
+                        throw new IOException("failed");
+                    }
+                    return new Object[0];
+                }));
+            } catch (Exception e) {
+                result.completeExceptionally(e);
+            }
+        });
+        thread.start();
+        return result;
+    }
+}
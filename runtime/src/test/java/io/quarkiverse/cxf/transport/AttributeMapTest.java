@@ -0,0 +1,112 @@
+package io.quarkiverse.cxf.transport;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class AttributeMapTest {
+
+    @Test
+    public void whenEmpty_thenNothingFound() {
+        AttributeMap attributes = new AttributeMap();
+        Assertions.assertNull(attributes.get("a"));
+        Assertions.assertFalse(attributes.names().hasMoreElements());
+        attributes.remove("a");
+        Assertions.assertNull(attributes.get("a"));
+    }
+
+    @Test
+    public void whenSetTwice_thenReplaced() {
+        AttributeMap attributes = new AttributeMap();
+        attributes.put("a", 1);
+        attributes.put("a", 2);
+        Assertions.assertEquals(2, attributes.get("a"));
+        Assertions.assertEquals(Collections.singletonList("a"), Collections.list(attributes.names()));
+    }
+
+    @Test
+    public void whenSetToNull_thenRemoved() {
+        AttributeMap attributes = new AttributeMap();
+        attributes.put("a", 1);
+        attributes.put("a", null);
+        Assertions.assertNull(attributes.get("a"));
+        Assertions.assertFalse(attributes.names().hasMoreElements());
+    }
+
+    @Test
+    public void whenOtherCase_thenSameAttribute() {
+        AttributeMap attributes = new AttributeMap();
+        attributes.put("javax.servlet.request.X509Certificate", 1);
+        Assertions.assertEquals(1, attributes.get("JAVAX.SERVLET.REQUEST.X509CERTIFICATE"));
+        attributes.put("javax.servlet.request.x509certificate", 2);
+        Assertions.assertEquals(2, attributes.get("javax.servlet.request.X509Certificate"));
+        // the name it was first set with is kept
+        Assertions.assertEquals(Collections.singletonList("javax.servlet.request.X509Certificate"),
+                Collections.list(attributes.names()));
+        attributes.remove("Javax.Servlet.Request.X509Certificate");
+        Assertions.assertNull(attributes.get("javax.servlet.request.X509Certificate"));
+    }
+
+    @Test
+    public void whenManyAttributes_thenGrownAndAllFound() {
+        AttributeMap attributes = new AttributeMap();
+        for (int i = 0; i < 100; i++) {
+            attributes.put("attribute" + i, i);
+        }
+        for (int i = 0; i < 100; i++) {
+            Assertions.assertEquals(i, attributes.get("attribute" + i));
+        }
+        Assertions.assertEquals(100, Collections.list(attributes.names()).size());
+    }
+
+    @Test
+    public void whenRemovingInProbeSequences_thenOthersStillFound() {
+        // n5, n11 and n19 hash to the last slot of the initial table, n6 to the first, n0 and n8 to the third, so that
+        // their probe sequences wrap around and overlap
+        List<String> names = Arrays.asList("n5", "n11", "n19", "n6", "n0", "n8");
+        for (int removed = 0; removed < names.size(); removed++) {
+            AttributeMap attributes = new AttributeMap();
+            for (String name : names) {
+                attributes.put(name, name);
+            }
+            attributes.remove(names.get(removed));
+            for (int i = 0; i < names.size(); i++) {
+                Assertions.assertEquals(i == removed ? null : names.get(i), attributes.get(names.get(i)));
+            }
+        }
+    }
+
+    @Test
+    public void whenRandomOperations_thenSameAsCaseInsensitiveTreeMap() {
+        Random random = new Random(42);
+        Map<String, Object> expected = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        AttributeMap attributes = new AttributeMap();
+        for (int i = 0; i < 10000; i++) {
+            String name = random.nextBoolean() ? "name" + random.nextInt(40) : "NAME" + random.nextInt(40);
+            switch (random.nextInt(3)) {
+                case 0:
+                    expected.remove(name);
+                    attributes.remove(name);
+                    break;
+                default:
+                    expected.put(name, i);
+                    attributes.put(name, i);
+                    break;
+            }
+            Assertions.assertEquals(expected.get(name), attributes.get(name));
+        }
+        for (int i = 0; i < 40; i++) {
+            Assertions.assertEquals(expected.get("name" + i), attributes.get("name" + i));
+        }
+        List<String> names = Collections.list(attributes.names());
+        names.sort(String.CASE_INSENSITIVE_ORDER);
+        Assertions.assertEquals(new ArrayList<>(expected.keySet()), names);
+    }
+}
@@ -0,0 +1,123 @@
+package io.quarkiverse.cxf.transport;
+
+import java.io.InputStream;
+import java.security.KeyStore;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.TrustManagerFactory;
+
+import org.apache.cxf.Bus;
+import org.apache.cxf.BusFactory;
+import org.apache.cxf.configuration.jsse.TLSClientParameters;
+import org.apache.cxf.service.model.EndpointInfo;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpServerOptions;
+import io.vertx.core.net.PfxOptions;
+
+public class VertxHttpConduitTlsTest {
+
+    /** a self-signed certificate for localhost */
+    private static final String KEY_STORE = "localhost.p12";
+    private static final String PASSWORD = "password";
+
+    private static Vertx vertx;
+    private static Bus bus;
+    private static HttpServer server;
+    private static TrustManager[] trustManagers;
+
+    @BeforeAll
+    public static void start() throws Exception {
+        vertx = Vertx.vertx();
+        bus = BusFactory.newInstance().createBus();
+        KeyStore keyStore = KeyStore.getInstance("PKCS12");
+        try (InputStream in = VertxHttpConduitTlsTest.class.getResourceAsStream("/" + KEY_STORE)) {
+            keyStore.load(in, PASSWORD.toCharArray());
+        }
+        TrustManagerFactory trustManagerFactory = TrustManagerFactory
+                .getInstance(TrustManagerFactory.getDefaultAlgorithm());
+        trustManagerFactory.init(keyStore);
+        trustManagers = trustManagerFactory.getTrustManagers();
+        CompletableFuture<HttpServer> listening = new CompletableFuture<>();
+        vertx.createHttpServer(new HttpServerOptions().setSsl(true)
+                .setPfxKeyCertOptions(new PfxOptions().setPath(KEY_STORE).setPassword(PASSWORD)))
+                .requestHandler(request -> request.response().end())
+                .listen(0, "localhost", result -> {
+                    if (result.succeeded()) {
+                        listening.complete(result.result());
+                    } else {
+                        listening.completeExceptionally(result.cause());
+                    }
+                });
+        server = listening.get(10, TimeUnit.SECONDS);
+    }
+
+    @AfterAll
+    public static void stop() {
+        bus.shutdown(true);
+        vertx.close();
+    }
+
+    @Test
+    public void whenTrustManagersSet_thenServerTrusted() throws Exception {
+        VertxHttpConduit conduit = conduit(trustManagers);
+        try {
+            conduit.warmUp(1, 5000).get(10, TimeUnit.SECONDS);
+        } finally {
+            conduit.close();
+        }
+    }
+
+    @Test
+    public void whenNoTrustManagers_thenServerNotTrusted() throws Exception {
+        VertxHttpConduit conduit = conduit(null);
+        try {
+            Assertions.assertThrows(ExecutionException.class, () -> conduit.warmUp(1, 5000).get(10, TimeUnit.SECONDS));
+        } finally {
+            conduit.close();
+        }
+    }
+
+    @Test
+    public void whenTrustManagersChangedAfterFirstRequest_thenRequestsFail() throws Exception {
+        VertxHttpConduit conduit = conduit(trustManagers);
+        try {
+            conduit.warmUp(1, 5000).get(10, TimeUnit.SECONDS);
+            conduit.getTlsClientParameters().setTrustManagers(trustManagers.clone());
+            Assertions.assertThrows(IllegalStateException.class, () -> conduit.warmUp(1, 5000));
+        } finally {
+            conduit.close();
+        }
+    }
+
+    @Test
+    public void whenSslContextSet_thenRequestsFail() throws Exception {
+        VertxHttpConduit conduit = conduit(null);
+        try {
+            conduit.getTlsClientParameters().setSslContext(SSLContext.getDefault());
+            Assertions.assertThrows(IllegalStateException.class, () -> conduit.warmUp(1, 5000));
+        } finally {
+            conduit.close();
+        }
+    }
+
+    private static VertxHttpConduit conduit(TrustManager[] trustManagers) throws Exception {
+        EndpointInfo endpoint = new EndpointInfo();
+        endpoint.setAddress("https://localhost:" + server.actualPort() + "/service");
+        VertxHttpConduit conduit = new VertxHttpConduit(bus, endpoint, null, vertx, new HttpClientOptions());
+        TLSClientParameters tls = new TLSClientParameters();
+        tls.setTrustManagers(trustManagers);
+        conduit.setTlsClientParameters(tls);
+        return conduit;
+    }
+}